@@ -0,0 +1,99 @@
+package com.suclan.suclan.service;
+
+import com.suclan.suclan.SuclanApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * H2 인메모리 DB 에 matches 건의 매치를 적재한 애플리케이션 컨텍스트
+ */
+@State(Scope.Benchmark)
+public class BenchmarkFixture {
+
+  private static final String[] RACES = {"ZERG", "TERRAN", "PROTOSS", "RANDOM"};
+
+  @Param({"1000", "100000", "1000000"})
+  public int matches;
+
+  public ConfigurableApplicationContext context;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(SuclanApplication.class)
+        .properties(
+            "spring.profiles.active=bench",
+            "spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+            "spring.datasource.driver-class-name=org.h2.Driver",
+            "spring.datasource.username=sa",
+            "spring.datasource.password=",
+            "spring.jpa.hibernate.ddl-auto=create-drop",
+            "spring.jpa.show-sql=false",
+            "logging.level.root=WARN",
+            "logging.level.org.hibernate.SQL=WARN",
+            "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+            "server.port=0")
+        .run();
+    seed(context.getBean(JdbcTemplate.class));
+    context.getBean(PlayerStatsService.class).rebuild();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  public <T> T bean(Class<T> type) {
+    return context.getBean(type);
+  }
+
+  private void seed(JdbcTemplate jdbcTemplate) {
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO grades (name, description, status, created_at) VALUES (?, ?, 'REGISTERED', CURRENT_TIMESTAMP)",
+        List.of(new Object[]{"S", "S"}, new Object[]{"A", "A"}, new Object[]{"B", "B"}));
+
+    int players = Math.max(100, matches / 50);
+    List<Object[]> playerRows = new ArrayList<>(players);
+    for (int i = 1; i <= players; i++) {
+      playerRows.add(new Object[]{"player" + i, RACES[i % RACES.length], (long) (i % 3) + 1});
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO players (nickname, race, grade_id, status, created_at) VALUES (?, ?, ?, 'REGISTERED', CURRENT_TIMESTAMP)",
+        playerRows);
+
+    LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+    List<Object[]> matchRows = new ArrayList<>(10_000);
+    for (int i = 0; i < matches; i++) {
+      long one = (i % players) + 1;
+      long two = ((i * 7L + 3) % players) + 1;
+      if (one == two) {
+        two = (two % players) + 1;
+      }
+      long winner = i % 3 == 0 ? two : one;
+      long loser = winner == one ? two : one;
+      matchRows.add(new Object[]{
+          one, two, RACES[(int) (one % RACES.length)], RACES[(int) (two % RACES.length)],
+          winner, loser, "map" + (i % 12), Timestamp.valueOf(start.plusMinutes(i))
+      });
+      if (matchRows.size() == 10_000) {
+        insertMatches(jdbcTemplate, matchRows);
+        matchRows.clear();
+      }
+    }
+    insertMatches(jdbcTemplate, matchRows);
+  }
+
+  private void insertMatches(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+    jdbcTemplate.batchUpdate("""
+        INSERT INTO matches (player_one_id, player_two_id, player_one_race, player_two_race,
+                             winner_id, loser_id, map_name, match_time, status, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'REGISTERED', CURRENT_TIMESTAMP)
+        """, rows);
+  }
+}
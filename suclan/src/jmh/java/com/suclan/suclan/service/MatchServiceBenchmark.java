@@ -0,0 +1,54 @@
+package com.suclan.suclan.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.core.types.OrderSpecifier;
+import com.suclan.suclan.dto.MatchDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MatchServiceBenchmark {
+
+  private static final Sort SORT = Sort.by(
+      Sort.Order.desc("matchTime"), Sort.Order.asc("playerOneNickname"), Sort.Order.asc("mapName"));
+
+  private MatchService matchService;
+  private ObjectMapper objectMapper;
+  private Page<MatchDto.Summary> page;
+  private PageRequest deepPage;
+
+  @Setup(Level.Trial)
+  public void setUp(BenchmarkFixture fixture) {
+    matchService = fixture.bean(MatchService.class);
+    objectMapper = fixture.bean(ObjectMapper.class);
+    page = matchService.getAllMatches(PageRequest.of(0, 100), new MatchDto.SearchCondition());
+    deepPage = PageRequest.of(Math.max(0, fixture.matches / 20 / 2), 20);
+  }
+
+  @Benchmark
+  public Page<MatchDto.Summary> getAllMatchesFirstPage() {
+    return matchService.getAllMatches(PageRequest.of(0, 20), new MatchDto.SearchCondition());
+  }
+
+  @Benchmark
+  public Page<MatchDto.Summary> getAllMatchesDeepPage() {
+    return matchService.getAllMatches(deepPage, new MatchDto.SearchCondition());
+  }
+
+  @Benchmark
+  public OrderSpecifier<?>[] orderSpecifiers() {
+    return matchService.orderSpecifiers(SORT);
+  }
+
+  @Benchmark
+  public String serializeSummaryPage() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(page);
+  }
+}
@@ -0,0 +1,39 @@
+package com.suclan.suclan.service;
+
+import com.suclan.suclan.dto.PlayerDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PlayerServiceBenchmark {
+
+  private PlayerService playerService;
+  private List<Long> playerIds;
+
+  @Setup(Level.Trial)
+  public void setUp(BenchmarkFixture fixture) {
+    playerService = fixture.bean(PlayerService.class);
+    playerIds = LongStream.rangeClosed(1, 20).boxed().toList();
+  }
+
+  // 목록 한 페이지 분량을 단일 조인 프로젝션으로 요약
+  @Benchmark
+  public Map<Long, PlayerDto.Summary> getPlayerSummaries() {
+    return playerService.getPlayerSummaries(playerIds);
+  }
+
+  @Benchmark
+  public Page<PlayerDto.Summary> getAllPlayersSortedByWins() {
+    return playerService.getAllPlayers(
+        PageRequest.of(0, 20, Sort.by(Sort.Order.desc("wins"))), false, new PlayerDto.SearchCondition());
+  }
+}
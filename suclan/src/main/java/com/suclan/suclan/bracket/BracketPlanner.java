@@ -0,0 +1,214 @@
+package com.suclan.suclan.bracket;
+
+import com.suclan.suclan.constant.BracketSide;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 토너먼트 / 리그 대진 골격 생성
+ * 결과는 자리(SlotPlan) 목록이며 연결은 목록 인덱스로 표현한다 (-1 이면 연결 없음).
+ * 첫 라운드 자리는 seeded 로 두 입력이 정해져 있고, 빈 입력(null)은 부전승이다.
+ */
+public final class BracketPlanner {
+
+  private BracketPlanner() {
+  }
+
+  @Getter
+  public static final class SlotPlan {
+    private final BracketSide side;
+    private final int round;
+    private final int position;
+    private Long playerOneId;
+    private Long playerTwoId;
+    private boolean seeded;
+    private int winnerTo = -1;
+    private int winnerInput;
+    private int loserTo = -1;
+    private int loserInput;
+
+    private SlotPlan(BracketSide side, int round, int position) {
+      this.side = side;
+      this.round = round;
+      this.position = position;
+    }
+  }
+
+  /**
+   * 싱글 엘리미네이션 (참가자 수를 2의 거듭제곱으로 올리고 상위 시드에 부전승)
+   */
+  public static List<SlotPlan> singleElimination(List<Long> seeds) {
+    List<SlotPlan> plans = new ArrayList<>();
+    addTree(plans, seeds);
+    return plans;
+  }
+
+  /**
+   * 더블 엘리미네이션
+   * 패자조 홀수 라운드는 패자조 생존자끼리, 짝수 라운드는 승자조에서 떨어진 선수를 받는다 (재대결을 줄이려 역순 배치).
+   * 그랜드 파이널은 한 경기로 끝낸다 (브래킷 리셋 없음).
+   */
+  public static List<SlotPlan> doubleElimination(List<Long> seeds) {
+    List<SlotPlan> plans = new ArrayList<>();
+    List<List<Integer>> upper = addTree(plans, seeds);
+    int k = upper.size();
+    int finalSlot;
+
+    if (k == 1) {
+      finalSlot = add(plans, BracketSide.FINAL, 1, 0);
+      linkWinner(plans, upper.get(0).get(0), finalSlot, 1);
+      linkLoser(plans, upper.get(0).get(0), finalSlot, 2);
+      return plans;
+    }
+
+    int lowerRound = 1;
+    List<Integer> lower = new ArrayList<>();
+    List<Integer> firstRound = upper.get(0);
+    for (int j = 0; j < firstRound.size() / 2; j++) {
+      lower.add(add(plans, BracketSide.LOWER, lowerRound, j));
+    }
+    for (int j = 0; j < firstRound.size(); j++) {
+      linkLoser(plans, firstRound.get(j), lower.get(j / 2), j % 2 + 1);
+    }
+
+    for (int r = 1; r < k; r++) {
+      List<Integer> dropping = upper.get(r);
+      int count = dropping.size();
+
+      lowerRound++;
+      List<Integer> merged = new ArrayList<>();
+      for (int j = 0; j < count; j++) {
+        int slot = add(plans, BracketSide.LOWER, lowerRound, j);
+        linkWinner(plans, lower.get(j), slot, 1);
+        linkLoser(plans, dropping.get(count - 1 - j), slot, 2);
+        merged.add(slot);
+      }
+      lower = merged;
+
+      if (r < k - 1) {
+        lowerRound++;
+        List<Integer> next = new ArrayList<>();
+        for (int j = 0; j < count / 2; j++) {
+          next.add(add(plans, BracketSide.LOWER, lowerRound, j));
+        }
+        for (int j = 0; j < count; j++) {
+          linkWinner(plans, lower.get(j), next.get(j / 2), j % 2 + 1);
+        }
+        lower = next;
+      }
+    }
+
+    finalSlot = add(plans, BracketSide.FINAL, 1, 0);
+    linkWinner(plans, upper.get(k - 1).get(0), finalSlot, 1);
+    linkWinner(plans, lower.get(0), finalSlot, 2);
+    return plans;
+  }
+
+  /**
+   * 풀리그 (원형 방식, 참가자가 홀수면 라운드마다 한 명씩 쉰다)
+   */
+  public static List<SlotPlan> roundRobin(List<Long> seeds) {
+    List<Long> circle = new ArrayList<>(seeds);
+    if (circle.size() % 2 == 1) {
+      circle.add(null);
+    }
+    int m = circle.size();
+    List<SlotPlan> plans = new ArrayList<>();
+    for (int round = 1; round < m; round++) {
+      int position = 0;
+      for (int i = 0; i < m / 2; i++) {
+        Long one = circle.get(i);
+        Long two = circle.get(m - 1 - i);
+        if (one != null && two != null) {
+          SlotPlan plan = plans.get(add(plans, BracketSide.MAIN, round, position++));
+          seed(plan, one, two);
+        }
+      }
+      // 첫 자리는 고정하고 나머지를 한 칸씩 회전
+      circle.add(1, circle.remove(m - 1));
+    }
+    return plans;
+  }
+
+  public static int roundRobinRounds(int players) {
+    return players % 2 == 0 ? players - 1 : players;
+  }
+
+  /**
+   * 스위스 기본 라운드 수 (우승자가 한 명 남는 라운드 수)
+   */
+  public static int swissRounds(int players) {
+    return 32 - Integer.numberOfLeadingZeros(players - 1);
+  }
+
+  /**
+   * 시드 배치 순서 (1-16, 8-9, 5-12, ... 상위 시드끼리는 가능한 늦게 만난다)
+   */
+  static int[] seedOrder(int size) {
+    int[] order = {1};
+    while (order.length < size) {
+      int length = order.length * 2;
+      int[] next = new int[length];
+      for (int i = 0; i < order.length; i++) {
+        next[2 * i] = order[i];
+        next[2 * i + 1] = length + 1 - order[i];
+      }
+      order = next;
+    }
+    return order;
+  }
+
+  private static List<List<Integer>> addTree(List<SlotPlan> plans, List<Long> seeds) {
+    int size = Integer.highestOneBit(seeds.size() - 1) << 1;
+    int[] order = seedOrder(size);
+
+    List<List<Integer>> rounds = new ArrayList<>();
+    List<Integer> current = new ArrayList<>();
+    for (int j = 0; j < size / 2; j++) {
+      int slot = add(plans, BracketSide.MAIN, 1, j);
+      seed(plans.get(slot), seedAt(seeds, order[2 * j]), seedAt(seeds, order[2 * j + 1]));
+      current.add(slot);
+    }
+    rounds.add(current);
+
+    for (int round = 2; current.size() > 1; round++) {
+      List<Integer> next = new ArrayList<>();
+      for (int j = 0; j < current.size() / 2; j++) {
+        next.add(add(plans, BracketSide.MAIN, round, j));
+      }
+      for (int j = 0; j < current.size(); j++) {
+        linkWinner(plans, current.get(j), next.get(j / 2), j % 2 + 1);
+      }
+      rounds.add(next);
+      current = next;
+    }
+    return rounds;
+  }
+
+  private static Long seedAt(List<Long> seeds, int seed) {
+    return seed <= seeds.size() ? seeds.get(seed - 1) : null;
+  }
+
+  private static int add(List<SlotPlan> plans, BracketSide side, int round, int position) {
+    plans.add(new SlotPlan(side, round, position));
+    return plans.size() - 1;
+  }
+
+  private static void seed(SlotPlan plan, Long one, Long two) {
+    plan.playerOneId = one;
+    plan.playerTwoId = two;
+    plan.seeded = true;
+  }
+
+  private static void linkWinner(List<SlotPlan> plans, int from, int to, int input) {
+    plans.get(from).winnerTo = to;
+    plans.get(from).winnerInput = input;
+  }
+
+  private static void linkLoser(List<SlotPlan> plans, int from, int to, int input) {
+    plans.get(from).loserTo = to;
+    plans.get(from).loserInput = input;
+  }
+}
@@ -0,0 +1,136 @@
+package com.suclan.suclan.bracket;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 스위스 라운드 대진 (순위표 기준, 재대결 회피)
+ * 같은 승수 그룹 안에서 상위 절반과 하위 절반을 맞붙이고(홀수면 최하위가 다음 그룹으로 내려간다),
+ * 이미 만난 상대면 다음 후보로 넘기며 막히면 되돌아간다. 되돌아가는 횟수가 한도를 넘으면 재대결을 허용한다.
+ * 대부분 선형에 가깝게 끝나므로 수백 명 규모도 밀리초 단위로 대진이 나온다.
+ */
+public final class SwissPairing {
+
+  private static final int BACKTRACK_LIMIT = 100_000;
+
+  private SwissPairing() {
+  }
+
+  @Value
+  public static class Player {
+    long id;
+    int score;
+    boolean hadBye;
+  }
+
+  @Value
+  public static class Result {
+    List<long[]> pairs;
+    Long byePlayerId;
+  }
+
+  public static long pairKey(long a, long b) {
+    long lo = Math.min(a, b);
+    long hi = Math.max(a, b);
+    return lo << 32 | hi;
+  }
+
+  /**
+   * @param ranked 현재 순위 순서의 참가자
+   * @param played 이미 치른 대진 (pairKey)
+   */
+  public static Result pair(List<Player> ranked, Set<Long> played) {
+    List<Player> players = new ArrayList<>(ranked);
+    Long bye = null;
+    if (players.size() % 2 == 1) {
+      // 부전승을 받은 적 없는 최하위 선수
+      int index = players.size() - 1;
+      for (int i = players.size() - 1; i >= 0; i--) {
+        if (!players.get(i).isHadBye()) {
+          index = i;
+          break;
+        }
+      }
+      bye = players.remove(index).getId();
+    }
+
+    long[] order = foldScoreGroups(players);
+    long[] partner = new long[order.length];
+    boolean[] used = new boolean[order.length];
+    int[] budget = {BACKTRACK_LIMIT};
+
+    List<long[]> pairs = new ArrayList<>(order.length / 2);
+    if (search(order, used, partner, 0, played, budget)) {
+      for (int i = 0; i < order.length; i++) {
+        if (partner[i] != Long.MIN_VALUE) {
+          pairs.add(new long[]{order[i], partner[i]});
+        }
+      }
+    } else {
+      for (int i = 0; i + 1 < order.length; i += 2) {
+        pairs.add(new long[]{order[i], order[i + 1]});
+      }
+    }
+    return new Result(pairs, bye);
+  }
+
+  // 승수 그룹별로 [상위1, 하위1, 상위2, 하위2, ...] 순서로 재배열
+  private static long[] foldScoreGroups(List<Player> players) {
+    long[] order = new long[players.size()];
+    int written = 0;
+    List<Player> group = new ArrayList<>();
+    int i = 0;
+    while (i < players.size()) {
+      int score = players.get(i).getScore();
+      while (i < players.size() && players.get(i).getScore() == score) {
+        group.add(players.get(i++));
+      }
+      Player floater = group.size() % 2 == 1 && i < players.size() ? group.remove(group.size() - 1) : null;
+      int half = group.size() / 2;
+      for (int j = 0; j < half; j++) {
+        order[written++] = group.get(j).getId();
+        order[written++] = group.get(j + half).getId();
+      }
+      if (group.size() % 2 == 1) {
+        order[written++] = group.get(group.size() - 1).getId();
+      }
+      group.clear();
+      if (floater != null) {
+        group.add(floater);
+      }
+    }
+    return order;
+  }
+
+  private static boolean search(long[] order, boolean[] used, long[] partner, int from,
+                                Set<Long> played, int[] budget) {
+    int i = from;
+    while (i < order.length && used[i]) {
+      i++;
+    }
+    if (i == order.length) {
+      return true;
+    }
+    used[i] = true;
+    for (int j = i + 1; j < order.length; j++) {
+      if (used[j] || played.contains(pairKey(order[i], order[j]))) {
+        continue;
+      }
+      used[j] = true;
+      partner[i] = order[j];
+      partner[j] = Long.MIN_VALUE;
+      if (search(order, used, partner, i + 1, played, budget)) {
+        return true;
+      }
+      used[j] = false;
+      if (--budget[0] < 0) {
+        break;
+      }
+    }
+    used[i] = false;
+    return false;
+  }
+}
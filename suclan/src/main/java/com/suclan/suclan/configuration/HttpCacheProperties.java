@@ -0,0 +1,30 @@
+package com.suclan.suclan.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 조회 API 의 Cache-Control 설정 (0 이면 no-cache: 매번 ETag 로 재검증)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "http-cache")
+public class HttpCacheProperties {
+  private Duration players = Duration.ZERO;
+  private Duration contests = Duration.ZERO;
+  private Duration grades = Duration.ofMinutes(5);
+  private Duration notices = Duration.ofMinutes(1);
+
+  public CacheControl cacheControl(Duration maxAge) {
+    if (maxAge.isZero()) {
+      return CacheControl.noCache().cachePublic();
+    }
+    return CacheControl.maxAge(maxAge).cachePublic().mustRevalidate();
+  }
+}
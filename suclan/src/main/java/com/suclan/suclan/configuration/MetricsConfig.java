@@ -0,0 +1,40 @@
+package com.suclan.suclan.configuration;
+
+import com.suclan.suclan.interceptor.QueryCounter;
+import com.suclan.suclan.interceptor.QueryCountingDataSource;
+import com.suclan.suclan.interceptor.RequestMetricsInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+  private final RequestMetricsInterceptor requestMetricsInterceptor;
+
+  // JdbcTemplate 경로까지 세도록 Hibernate StatementInspector 대신 DataSource 를 감싼다
+  @Bean
+  public static BeanPostProcessor queryCountingDataSourcePostProcessor(ObjectProvider<QueryCounter> queryCounter) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+          return new QueryCountingDataSource(dataSource, queryCounter.getObject());
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(requestMetricsInterceptor).addPathPatterns("/api/**");
+  }
+}
@@ -0,0 +1,20 @@
+package com.suclan.suclan.configuration;
+
+import com.suclan.suclan.constant.RatingAlgorithm;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rating")
+public class RatingProperties {
+  private RatingAlgorithm algorithm = RatingAlgorithm.ELO;
+  private double initialRating = 1500;
+  private double initialDeviation = 350;
+  private double initialVolatility = 0.06;
+  private double eloKFactor = 32;
+  private double glickoTau = 0.5;
+}
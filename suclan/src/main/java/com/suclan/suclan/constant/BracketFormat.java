@@ -0,0 +1,12 @@
+package com.suclan.suclan.constant;
+
+public enum BracketFormat {
+  SINGLE_ELIMINATION,
+  DOUBLE_ELIMINATION,
+  SWISS,
+  ROUND_ROBIN;
+
+  public boolean isElimination() {
+    return this == SINGLE_ELIMINATION || this == DOUBLE_ELIMINATION;
+  }
+}
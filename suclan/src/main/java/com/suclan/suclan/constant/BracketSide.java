@@ -0,0 +1,10 @@
+package com.suclan.suclan.constant;
+
+/**
+ * 대진 구역 (MAIN: 승자조 / 스위스 / 리그 라운드, LOWER: 더블 엘리미네이션 패자조, FINAL: 그랜드 파이널)
+ */
+public enum BracketSide {
+  MAIN,
+  LOWER,
+  FINAL
+}
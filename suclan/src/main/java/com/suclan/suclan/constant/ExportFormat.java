@@ -0,0 +1,6 @@
+package com.suclan.suclan.constant;
+
+public enum ExportFormat {
+  CSV,
+  NDJSON
+}
@@ -0,0 +1,7 @@
+package com.suclan.suclan.constant;
+
+public enum LeaderboardMetric {
+  WINS,
+  LOSSES,
+  TOTAL_MATCHES
+}
@@ -0,0 +1,47 @@
+package com.suclan.suclan.controller;
+
+import com.suclan.suclan.dto.BracketDto;
+import com.suclan.suclan.service.BracketService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/contests/{contestId}/bracket")
+@RequiredArgsConstructor
+public class BracketController {
+
+    private final BracketService bracketService;
+
+    /**
+     * 대진표 생성 (playerIds 순서가 시드, 첫 라운드 매치까지 생성)
+     */
+    @PostMapping
+    public ResponseEntity<BracketDto.Response> createBracket(
+            @PathVariable Long contestId,
+            @RequestBody BracketDto.CreateRequest request) {
+        BracketDto.Response response = bracketService.createBracket(contestId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 대진표 조회 (round 를 주면 해당 라운드만)
+     */
+    @GetMapping
+    public ResponseEntity<BracketDto.Response> getBracket(
+            @PathVariable Long contestId,
+            @RequestParam(required = false) Integer round) {
+        return ResponseEntity.ok(bracketService.getBracket(contestId, round));
+    }
+
+    /**
+     * 대진표 순위 (생존/탈락 순서, 승, 부흐홀츠 순)
+     */
+    @GetMapping("/standings")
+    public ResponseEntity<List<BracketDto.Standing>> getStandings(@PathVariable Long contestId) {
+        return ResponseEntity.ok(bracketService.getStandings(contestId));
+    }
+}
@@ -0,0 +1,54 @@
+package com.suclan.suclan.controller;
+
+import com.suclan.suclan.dto.ClanDto;
+import com.suclan.suclan.service.ClanStandingsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/clans")
+@RequiredArgsConstructor
+public class ClanStandingsController {
+
+    private final ClanStandingsService clanStandingsService;
+
+    /**
+     * 클랜 순위 (기본 승수 내림차순, wins / losses / totalMatches 정렬 가능)
+     */
+    @GetMapping("/standings")
+    public ResponseEntity<Page<ClanDto.Standing>> getStandings(
+            @PageableDefault(sort = "wins", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(clanStandingsService.getStandings(pageable));
+    }
+
+    /**
+     * 클랜 전적 상세 (종족 분포, 상대 클랜별 전적)
+     */
+    @GetMapping("/{id}/standings")
+    public ResponseEntity<ClanDto.Standing> getStanding(@PathVariable Long id) {
+        return ResponseEntity.ok(clanStandingsService.getStanding(id));
+    }
+
+    /**
+     * 클랜 대 클랜 상대 전적 행렬
+     */
+    @GetMapping("/matchups")
+    public ResponseEntity<List<ClanDto.Matchup>> getMatchups() {
+        return ResponseEntity.ok(clanStandingsService.getMatchups());
+    }
+
+    /**
+     * 전체 매치 이력으로 클랜 집계 재계산
+     */
+    @PostMapping("/standings/rebuild")
+    public ResponseEntity<ClanDto.RebuildResult> rebuild() {
+        return ResponseEntity.ok(clanStandingsService.rebuild());
+    }
+}
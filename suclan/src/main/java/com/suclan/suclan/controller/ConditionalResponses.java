@@ -0,0 +1,31 @@
+package com.suclan.suclan.controller;
+
+import com.suclan.suclan.service.ResourceVersionService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * 조건부 GET 응답
+ * If-None-Match 가 현재 ETag 와 맞으면 body 를 만들지 않고 304, 아니면 ETag / Cache-Control 을 붙여 200
+ */
+final class ConditionalResponses {
+
+  private ConditionalResponses() {
+  }
+
+  static <T> ResponseEntity<T> ok(WebRequest request, ResourceVersionService.Version version, Supplier<T> body) {
+    // checkNotModified 가 304 상태와 ETag 헤더를 직접 써 둔다
+    if (request.checkNotModified(version.etag())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .cacheControl(version.cacheControl())
+          .build();
+    }
+    return ResponseEntity.ok()
+        .eTag(version.etag())
+        .cacheControl(version.cacheControl())
+        .body(body.get());
+  }
+}
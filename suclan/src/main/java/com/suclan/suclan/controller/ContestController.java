@@ -1,7 +1,10 @@
 package com.suclan.suclan.controller;
 
 import com.suclan.suclan.dto.ContestDto;
+import com.suclan.suclan.dto.MatchDto;
+import com.suclan.suclan.dto.PlayerDto;
 import com.suclan.suclan.service.ContestService;
+import com.suclan.suclan.service.ResourceVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,6 +12,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/contests")
@@ -16,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 public class ContestController {
 
     private final ContestService contestService;
+    private final ResourceVersionService resourceVersionService;
 
     /**
      * 대회 생성
@@ -38,13 +43,31 @@ public class ContestController {
     }
 
     /**
-     * 대회 상세 조회
-     * 주의: ContestRepository가 구현되지 않아 현재는 예외 발생
+     * 대회 상세 조회 (참가자 / 매치 수만 포함, 목록은 /matches, /participants. ETag 가 같으면 304)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ContestDto.Response> getContest(@PathVariable Long id) {
-        ContestDto.Response response = contestService.getContest(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ContestDto.Response> getContest(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.ok(request, resourceVersionService.contest(id), () -> contestService.getContest(id));
+    }
+
+    /**
+     * 대회 매치 목록 조회 (페이징, 최근 경기 순)
+     */
+    @GetMapping("/{id}/matches")
+    public ResponseEntity<Page<MatchDto.Summary>> getContestMatches(
+            @PathVariable Long id,
+            @PageableDefault Pageable pageable) {
+        return ResponseEntity.ok(contestService.getContestMatches(id, pageable));
+    }
+
+    /**
+     * 대회 참가자 목록 조회 (페이징, 닉네임 순)
+     */
+    @GetMapping("/{id}/participants")
+    public ResponseEntity<Page<PlayerDto.Summary>> getContestParticipants(
+            @PathVariable Long id,
+            @PageableDefault Pageable pageable) {
+        return ResponseEntity.ok(contestService.getContestParticipants(id, pageable));
     }
 
     /**
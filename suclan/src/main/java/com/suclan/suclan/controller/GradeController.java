@@ -2,6 +2,7 @@ package com.suclan.suclan.controller;
 
 import com.suclan.suclan.dto.GradeDto;
 import com.suclan.suclan.service.GradeService;
+import com.suclan.suclan.service.ResourceVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,6 +10,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/grades")
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 public class GradeController {
 
     private final GradeService gradeService;
+    private final ResourceVersionService resourceVersionService;
 
     /**
      * 등급 생성
@@ -27,22 +30,20 @@ public class GradeController {
     }
 
     /**
-     * 등급 목록 조회 (페이징)
+     * 등급 목록 조회 (페이징, ETag 가 같으면 304)
      */
     @GetMapping
     public ResponseEntity<Page<GradeDto.Summary>> getAllGrades(
-            @PageableDefault Pageable pageable) {
-        Page<GradeDto.Summary> grades = gradeService.getAllGrades(pageable);
-        return ResponseEntity.ok(grades);
+            @PageableDefault Pageable pageable, WebRequest request) {
+        return ConditionalResponses.ok(request, resourceVersionService.grades(), () -> gradeService.getAllGrades(pageable));
     }
 
     /**
      * 등급 상세 조회
      */
     @GetMapping("/{id}")
-    public ResponseEntity<GradeDto.Response> getGrade(@PathVariable Long id) {
-        GradeDto.Response response = gradeService.getGrade(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<GradeDto.Response> getGrade(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.ok(request, resourceVersionService.grades(), () -> gradeService.getGrade(id));
     }
 
     /**
@@ -0,0 +1,33 @@
+package com.suclan.suclan.controller;
+
+import com.suclan.suclan.dto.HeadToHeadDto;
+import com.suclan.suclan.service.HeadToHeadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/players")
+@RequiredArgsConstructor
+public class HeadToHeadController {
+
+    private final HeadToHeadService headToHeadService;
+
+    /**
+     * 플레이어의 상대별 전적 (경기 수 내림차순)
+     */
+    @GetMapping("/{id}/head-to-head")
+    public ResponseEntity<HeadToHeadDto.Response> getHeadToHead(@PathVariable Long id) {
+        return ResponseEntity.ok(headToHeadService.getHeadToHead(id));
+    }
+
+    /**
+     * 선택한 플레이어들 간 상대 전적 행렬 (?ids=1,2,3)
+     */
+    @GetMapping("/head-to-head")
+    public ResponseEntity<HeadToHeadDto.Matrix> getMatrix(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(headToHeadService.getMatrix(ids));
+    }
+}
@@ -0,0 +1,41 @@
+package com.suclan.suclan.controller;
+
+import com.suclan.suclan.constant.LeaderboardMetric;
+import com.suclan.suclan.dto.LeaderboardDto;
+import com.suclan.suclan.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * 리더보드 조회 (전체 / race / clanId / gradeId 중 하나로 범위 지정)
+     */
+    @GetMapping
+    public ResponseEntity<Page<LeaderboardDto.Entry>> getLeaderboard(
+            @RequestParam(defaultValue = "WINS") LeaderboardMetric metric,
+            @ModelAttribute LeaderboardDto.SearchCondition condition,
+            @PageableDefault Pageable pageable) {
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(metric, condition, pageable));
+    }
+
+    /**
+     * 특정 플레이어의 순위 조회
+     */
+    @GetMapping("/players/{playerId}")
+    public ResponseEntity<LeaderboardDto.Entry> getRank(
+            @PathVariable Long playerId,
+            @RequestParam(defaultValue = "WINS") LeaderboardMetric metric,
+            @ModelAttribute LeaderboardDto.SearchCondition condition) {
+        return ResponseEntity.ok(leaderboardService.getRank(playerId, metric, condition));
+    }
+}
@@ -1,14 +1,31 @@
 package com.suclan.suclan.controller;
 
+import com.suclan.suclan.constant.ExportFormat;
+import com.suclan.suclan.dto.BatchRequest;
+import com.suclan.suclan.dto.CompactPage;
+import com.suclan.suclan.dto.CursorPage;
 import com.suclan.suclan.dto.MatchDto;
+import com.suclan.suclan.service.BatchLookupService;
+import com.suclan.suclan.service.MatchExportService;
+import com.suclan.suclan.service.MatchStreamService;
 import com.suclan.suclan.service.MatchService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/matches")
@@ -16,6 +33,9 @@ import org.springframework.web.bind.annotation.*;
 public class MatchController {
 
     private final MatchService matchService;
+    private final MatchExportService matchExportService;
+    private final MatchStreamService matchStreamService;
+    private final BatchLookupService batchLookupService;
 
     /**
      * 매치 생성
@@ -26,6 +46,34 @@ public class MatchController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 매치 일괄 등록 (JSON 배열). dryRun=true 면 검증 결과만 돌려준다
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MatchDto.ImportResult> importMatches(
+            @RequestBody List<MatchDto.CreateRequest> requests,
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        return ResponseEntity.ok(matchService.importMatches(requests, dryRun));
+    }
+
+    /**
+     * 매치 일괄 등록 (CSV, 첫 줄은 CreateRequest 필드명 헤더)
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<MatchDto.ImportResult> importMatchesCsv(
+            @RequestBody String csv,
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        return ResponseEntity.ok(matchService.importMatchesCsv(csv, dryRun));
+    }
+
+    /**
+     * 매치 여러 개 요약 조회 (id -> 요약, 없는 id 는 빠진다)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Map<Long, MatchDto.Summary>> getMatches(@RequestBody BatchRequest request) {
+        return ResponseEntity.ok(batchLookupService.getMatches(request));
+    }
+
     /**
      * 매치 목록 조회 (페이징)
      */
@@ -38,6 +86,77 @@ public class MatchController {
         return ResponseEntity.ok(matches);
     }
 
+    /**
+     * 매치 목록 조회 - 압축 형식 (선수는 players 에 한 번씩만)
+     */
+    @GetMapping(produces = CompactPage.MEDIA_TYPE)
+    public ResponseEntity<CompactPage<MatchDto.CompactSummary>> getAllMatchesCompact(
+            @PageableDefault Pageable pageable,
+            @ModelAttribute MatchDto.SearchCondition condition
+    ) {
+        return ResponseEntity.ok(CompactPage.of(matchService.getAllMatches(pageable, condition)));
+    }
+
+    /**
+     * 매치 목록 커서 조회 (무한 스크롤용, cursor 파라미터가 있을 때 선택됨 - 첫 페이지는 cursor= 로 요청)
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPage<MatchDto.Summary>> scrollMatches(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @ModelAttribute MatchDto.SearchCondition condition
+    ) {
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("size 는 1 ~ 100 사이여야 합니다: " + size);
+        }
+        CursorPage<MatchDto.Summary> matches = matchService.scrollMatches(cursor, size, condition);
+        return ResponseEntity.ok(matches);
+    }
+
+    /**
+     * 매치 목록 커서 조회 - 압축 형식
+     */
+    @GetMapping(params = "cursor", produces = CompactPage.MEDIA_TYPE)
+    public ResponseEntity<CompactPage<MatchDto.CompactSummary>> scrollMatchesCompact(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @ModelAttribute MatchDto.SearchCondition condition
+    ) {
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("size 는 1 ~ 100 사이여야 합니다: " + size);
+        }
+        return ResponseEntity.ok(CompactPage.of(matchService.scrollMatches(cursor, size, condition)));
+    }
+
+    /**
+     * 매치 이력 전체 내보내기 (CSV / NDJSON 스트리밍, 목록과 같은 검색 조건)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMatches(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @ModelAttribute MatchDto.SearchCondition condition,
+            HttpServletRequest request
+    ) {
+        StreamingResponseBody body = matchExportService.export(condition, format, WebAsyncUtils.getAsyncManager(request));
+        MediaType contentType = format == ExportFormat.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+        String filename = format == ExportFormat.CSV ? "matches.csv" : "matches.ndjson";
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
+    /**
+     * 실시간 매치 피드 (SSE: created / updated / deleted / imported / reset 이벤트)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMatches(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return matchStreamService.subscribe(lastEventId);
+    }
+
     /**
      * 특정 플레이어의 매치 목록 조회
      */
@@ -51,6 +170,18 @@ public class MatchController {
         return ResponseEntity.ok(matches);
     }
 
+    /**
+     * 특정 플레이어의 매치 목록 조회 - 압축 형식
+     */
+    @GetMapping(value = "/player/{playerId}", produces = CompactPage.MEDIA_TYPE)
+    public ResponseEntity<CompactPage<MatchDto.CompactSummary>> getMatchesByPlayerCompact(
+            @PathVariable Long playerId,
+            @PageableDefault Pageable pageable,
+            @ModelAttribute MatchDto.PlayerSpecificCondition condition
+    ) {
+        return ResponseEntity.ok(CompactPage.of(matchService.getMatchesByPlayer(playerId, condition, pageable)));
+    }
+
     /**
      * 매치 상세 조회
      */
@@ -3,22 +3,25 @@ package com.suclan.suclan.controller;
 import com.suclan.suclan.dto.ClanDto;
 import com.suclan.suclan.dto.NoticeDto;
 import com.suclan.suclan.service.NoticeService;
+import com.suclan.suclan.service.ResourceVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/notice")
 @RequiredArgsConstructor
 public class NoticeController {
   private final NoticeService noticeService;
+  private final ResourceVersionService resourceVersionService;
 
 
   @GetMapping
-  public ResponseEntity<Page<NoticeDto.Summary>> getNotices(Pageable pageable, @ModelAttribute NoticeDto.SearchCondition searchCondition) {
-    return ResponseEntity.ok(noticeService.getNotices(pageable, searchCondition));
+  public ResponseEntity<Page<NoticeDto.Summary>> getNotices(Pageable pageable, @ModelAttribute NoticeDto.SearchCondition searchCondition, WebRequest request) {
+    return ConditionalResponses.ok(request, resourceVersionService.notices(), () -> noticeService.getNotices(pageable, searchCondition));
   }
 
   @PostMapping
@@ -27,8 +30,8 @@ public class NoticeController {
   }
 
   @GetMapping("/{noticeId}")
-  public ResponseEntity<NoticeDto.Detail> getNotice(@PathVariable Long noticeId) {
-    return ResponseEntity.ok(noticeService.getNoticeDetail(noticeId));
+  public ResponseEntity<NoticeDto.Detail> getNotice(@PathVariable Long noticeId, WebRequest request) {
+    return ConditionalResponses.ok(request, resourceVersionService.notices(), () -> noticeService.getNoticeDetail(noticeId));
   }
 
 
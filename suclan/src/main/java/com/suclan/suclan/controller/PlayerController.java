@@ -1,7 +1,11 @@
 package com.suclan.suclan.controller;
 
+import com.suclan.suclan.dto.BatchRequest;
 import com.suclan.suclan.dto.PlayerDto;
+import com.suclan.suclan.service.BatchLookupService;
 import com.suclan.suclan.service.PlayerService;
+import com.suclan.suclan.service.PlayerSuggestService;
+import com.suclan.suclan.service.ResourceVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +14,10 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/players")
@@ -17,6 +25,9 @@ import org.springframework.web.bind.annotation.*;
 public class PlayerController {
 
     private final PlayerService playerService;
+    private final PlayerSuggestService playerSuggestService;
+    private final ResourceVersionService resourceVersionService;
+    private final BatchLookupService batchLookupService;
 
     /**
      * 플레이어 생성
@@ -41,12 +52,29 @@ public class PlayerController {
     }
 
     /**
-     * 플레이어 상세 조회
+     * 플레이어 여러 명 요약 조회 (id -> 요약, 없는 id 는 빠진다)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Map<Long, PlayerDto.Summary>> getPlayers(@RequestBody BatchRequest request) {
+        return ResponseEntity.ok(batchLookupService.getPlayers(request));
+    }
+
+    /**
+     * 닉네임 자동완성 (접두어 / 초성, 메모리 색인)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<PlayerDto.Suggestion>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(playerSuggestService.suggest(q, limit));
+    }
+
+    /**
+     * 플레이어 상세 조회 (ETag 가 같으면 304)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<PlayerDto.Response> getPlayer(@PathVariable Long id) {
-        PlayerDto.Response response = playerService.getPlayer(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<PlayerDto.Response> getPlayer(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.ok(request, resourceVersionService.player(id), () -> playerService.getPlayer(id));
     }
 
     /**
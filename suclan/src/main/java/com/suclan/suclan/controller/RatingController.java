@@ -0,0 +1,31 @@
+package com.suclan.suclan.controller;
+
+import com.suclan.suclan.dto.RatingDto;
+import com.suclan.suclan.service.RatingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/ratings")
+@RequiredArgsConstructor
+public class RatingController {
+
+    private final RatingService ratingService;
+
+    /**
+     * 플레이어 레이팅 조회
+     */
+    @GetMapping("/{playerId}")
+    public ResponseEntity<RatingDto.Response> getRating(@PathVariable Long playerId) {
+        return ResponseEntity.ok(ratingService.getRating(playerId));
+    }
+
+    /**
+     * 전체 매치 이력으로 레이팅 재계산
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<RatingDto.ReplayResult> replay() {
+        return ResponseEntity.ok(ratingService.replay());
+    }
+}
@@ -0,0 +1,37 @@
+package com.suclan.suclan.controller;
+
+import com.suclan.suclan.dto.SearchDto;
+import com.suclan.suclan.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * 닉네임 검색 (완전 일치 > 접두 > 포함 > 유사도 순)
+     */
+    @GetMapping("/players")
+    public ResponseEntity<List<SearchDto.PlayerHit>> searchPlayers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(searchService.searchPlayers(q, limit));
+    }
+
+    /**
+     * 맵 이름 검색
+     */
+    @GetMapping("/maps")
+    public ResponseEntity<List<SearchDto.MapHit>> searchMaps(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(searchService.searchMaps(q, limit));
+    }
+}
@@ -0,0 +1,43 @@
+package com.suclan.suclan.domain;
+
+import com.suclan.suclan.constant.BracketFormat;
+import com.suclan.suclan.domain.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 대회 대진표 (대회당 하나)
+ * currentRound 는 스위스에서 마지막으로 대진이 생성된 라운드이고, eliminations 는 탈락 순서 채번용이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Setter
+@Table(name = "brackets")
+public class Bracket extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  Long id;
+
+  @Column(name = "contest_id", unique = true)
+  Long contestId;
+
+  @Enumerated(EnumType.STRING)
+  BracketFormat format;
+
+  int totalRounds;
+
+  @Builder.Default
+  int currentRound = 0;
+
+  @Builder.Default
+  int eliminations = 0;
+
+  @Builder.Default
+  boolean completed = false;
+
+  Long championId;
+}
@@ -0,0 +1,58 @@
+package com.suclan.suclan.domain;
+
+import com.suclan.suclan.domain.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 대진표 참가자 순위 집계 (결과가 들어올 때마다 증분 갱신)
+ * buchholz 는 지금까지 상대한 선수들의 현재 승수 합이고, eliminatedOrder 는 탈락 순서(클수록 늦게 탈락)이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Setter
+@IdClass(BracketEntry.Key.class)
+@Table(name = "bracket_entries")
+public class BracketEntry extends BaseTimeEntity {
+
+  @Id
+  @Column(name = "bracket_id")
+  Long bracketId;
+
+  @Id
+  @Column(name = "player_id")
+  Long playerId;
+
+  int seed;
+
+  @Builder.Default
+  int wins = 0;
+
+  @Builder.Default
+  int losses = 0;
+
+  @Builder.Default
+  int buchholz = 0;
+
+  @Builder.Default
+  int byes = 0;
+
+  Integer eliminatedOrder;
+
+  public void addBuchholz(int delta) {
+    buchholz += delta;
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+    private Long bracketId;
+    private Long playerId;
+  }
+}
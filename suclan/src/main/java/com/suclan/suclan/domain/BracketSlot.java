@@ -0,0 +1,87 @@
+package com.suclan.suclan.domain;
+
+import com.suclan.suclan.constant.BracketSide;
+import com.suclan.suclan.domain.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 대진표의 한 경기 자리
+ * 두 입력(1: playerOne, 2: playerTwo)이 모두 정해지면 매치를 만들고, 결과가 나오면 승자/패자를 연결된 자리로 보낸다.
+ * 입력이 비어 있는 채로 정해지면(부전승) 경기 없이 남은 선수가 올라간다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Setter
+@Table(name = "bracket_slots", indexes = {
+    @Index(name = "idx_bracket_slots_bracket_round", columnList = "bracket_id, round"),
+    @Index(name = "idx_bracket_slots_match_id", columnList = "match_id")
+})
+public class BracketSlot extends BaseTimeEntity {
+
+  public static final int INPUT_ONE = 1;
+  public static final int INPUT_TWO = 2;
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  Long id;
+
+  @Column(name = "bracket_id")
+  Long bracketId;
+
+  @Enumerated(EnumType.STRING)
+  BracketSide side;
+
+  int round;
+  int position;
+
+  Long playerOneId;
+  Long playerTwoId;
+
+  // 정해진 입력 비트 (INPUT_ONE | INPUT_TWO)
+  @Builder.Default
+  int resolvedInputs = 0;
+
+  @Column(name = "match_id")
+  Long matchId;
+
+  Long winnerId;
+  Long loserId;
+
+  @Builder.Default
+  boolean finished = false;
+
+  Long winnerToSlotId;
+  int winnerToInput;
+
+  Long loserToSlotId;
+  int loserToInput;
+
+  public void feed(int input, Long playerId) {
+    setPlayer(input, playerId);
+    resolvedInputs |= input;
+  }
+
+  public void setPlayer(int input, Long playerId) {
+    if (input == INPUT_ONE) {
+      playerOneId = playerId;
+    } else {
+      playerTwoId = playerId;
+    }
+  }
+
+  public boolean isReady() {
+    return resolvedInputs == (INPUT_ONE | INPUT_TWO);
+  }
+
+  public boolean isPlayable() {
+    return playerOneId != null && playerTwoId != null;
+  }
+
+  public boolean hasPlayer(Long playerId) {
+    return playerId != null && (playerId.equals(playerOneId) || playerId.equals(playerTwoId));
+  }
+}
@@ -0,0 +1,55 @@
+package com.suclan.suclan.domain;
+
+import com.suclan.suclan.domain.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 클랜 대 클랜 상대 전적 (clanId 기준 승/패, 반대 방향 행이 함께 유지된다)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Setter
+@IdClass(ClanMatchup.Key.class)
+@Table(name = "clan_matchups")
+public class ClanMatchup extends BaseTimeEntity {
+
+  @Id
+  @Column(name = "clan_id")
+  Long clanId;
+
+  @Id
+  @Column(name = "opponent_clan_id")
+  Long opponentClanId;
+
+  @Builder.Default
+  int wins = 0;
+
+  @Builder.Default
+  int losses = 0;
+
+  public void record(boolean win, int delta) {
+    if (win) {
+      wins += delta;
+    } else {
+      losses += delta;
+    }
+  }
+
+  public static ClanMatchup empty(Long clanId, Long opponentClanId) {
+    return ClanMatchup.builder().clanId(clanId).opponentClanId(opponentClanId).build();
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+    private Long clanId;
+    private Long opponentClanId;
+  }
+}
@@ -0,0 +1,103 @@
+package com.suclan.suclan.domain;
+
+import com.suclan.suclan.constant.Race;
+import com.suclan.suclan.domain.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 클랜별 전적 집계 (매치 생성/수정/삭제 시 갱신)
+ * 경기 시점에 소속된 클랜으로 귀속하며, 같은 클랜끼리의 경기는 승/패에서 제외하고 종족 분포에만 반영한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Setter
+@Table(name = "clan_stats")
+public class ClanStats extends BaseTimeEntity {
+
+  @Id
+  @Column(name = "clan_id")
+  Long clanId;
+
+  @Builder.Default
+  int wins = 0;
+
+  @Builder.Default
+  int losses = 0;
+
+  @Builder.Default
+  int totalMatches = 0;
+
+  @Builder.Default
+  int zergGames = 0;
+
+  @Builder.Default
+  int zergWins = 0;
+
+  @Builder.Default
+  int terranGames = 0;
+
+  @Builder.Default
+  int terranWins = 0;
+
+  @Builder.Default
+  int protossGames = 0;
+
+  @Builder.Default
+  int protossWins = 0;
+
+  @Builder.Default
+  int randomGames = 0;
+
+  @Builder.Default
+  int randomWins = 0;
+
+  // 다른 클랜(또는 무소속) 상대 경기 결과
+  public void recordResult(boolean win, int delta) {
+    if (win) {
+      wins += delta;
+    } else {
+      losses += delta;
+    }
+    totalMatches += delta;
+  }
+
+  // 클랜원이 사용한 종족별 경기 수
+  public void recordRace(Race race, boolean win, int delta) {
+    if (race == null) {
+      return;
+    }
+    int winDelta = win ? delta : 0;
+    switch (race) {
+      case ZERG -> { zergGames += delta; zergWins += winDelta; }
+      case TERRAN -> { terranGames += delta; terranWins += winDelta; }
+      case PROTOSS -> { protossGames += delta; protossWins += winDelta; }
+      case RANDOM -> { randomGames += delta; randomWins += winDelta; }
+    }
+  }
+
+  public int getGamesAs(Race race) {
+    return switch (race) {
+      case ZERG -> zergGames;
+      case TERRAN -> terranGames;
+      case PROTOSS -> protossGames;
+      case RANDOM -> randomGames;
+    };
+  }
+
+  public int getWinsAs(Race race) {
+    return switch (race) {
+      case ZERG -> zergWins;
+      case TERRAN -> terranWins;
+      case PROTOSS -> protossWins;
+      case RANDOM -> randomWins;
+    };
+  }
+
+  public static ClanStats empty(Long clanId) {
+    return ClanStats.builder().clanId(clanId).build();
+  }
+}
@@ -33,7 +33,7 @@ public class Contest extends SoftDeleteTimeEntity {
   String description;
 
   @Builder.Default
-  @OneToMany(mappedBy = "contest", cascade = CascadeType.ALL)
+  @ManyToMany(mappedBy = "contest")
   Set<Player> players = new HashSet<>();
 
   @Builder.Default
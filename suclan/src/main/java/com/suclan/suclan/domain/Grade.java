@@ -4,6 +4,8 @@ import com.suclan.suclan.constant.EntityStatus;
 import com.suclan.suclan.domain.base.SoftDeleteTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 
 import java.time.LocalDate;
@@ -23,12 +25,14 @@ import java.util.Set;
         WHERE id = ?
 """ )
 @Table(name = "grades")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "grades")
 public class Grade extends SoftDeleteTimeEntity {
 
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   Long id;
 
+  // 이름 조회는 ReferenceDataRepository 에서 캐시된다. 삭제된 행이 이름을 계속 갖고 있으므로 DB 유니크 제약은 두지 않는다
   String name;
   String description;
 
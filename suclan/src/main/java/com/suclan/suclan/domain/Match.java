@@ -26,7 +26,9 @@ import java.time.LocalDateTime;
             status = 'DELETED'
         WHERE id = ?
 """ )
-@Table(name = "matches")
+@Table(name = "matches", indexes = {
+    @Index(name = "idx_matches_match_time_id", columnList = "match_time DESC, id DESC")
+})
 public class Match extends SoftDeleteTimeEntity {
 
   @Id
@@ -0,0 +1,29 @@
+package com.suclan.suclan.domain;
+
+import com.suclan.suclan.domain.base.BaseCreateEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 트랜잭션 아웃박스 (id 가 전달 순서이자 구독자 오프셋)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Setter
+@Table(name = "outbox_events")
+public class OutboxEvent extends BaseCreateEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  Long id;
+
+  String eventType;
+
+  Long aggregateId;
+
+  @Column(columnDefinition = "text")
+  String payload;
+}
@@ -0,0 +1,37 @@
+package com.suclan.suclan.domain;
+
+import com.suclan.suclan.domain.base.BaseCreateEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 구독자 오프셋이 지나쳐 간 빈 아웃박스 id
+ * 오래 걸린 트랜잭션이 늦게 커밋한 이벤트일 수 있으므로 gap-timeout-ms 동안 다시 확인하고, 나타나면 늦게라도 전달한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Setter
+@IdClass(OutboxGap.Key.class)
+@Table(name = "outbox_gaps")
+public class OutboxGap extends BaseCreateEntity {
+
+  @Id
+  String subscriber;
+
+  @Id
+  @Column(name = "event_id")
+  Long eventId;
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+    private String subscriber;
+    private Long eventId;
+  }
+}
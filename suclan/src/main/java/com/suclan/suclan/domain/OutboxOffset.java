@@ -0,0 +1,23 @@
+package com.suclan.suclan.domain;
+
+import com.suclan.suclan.domain.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 구독자별로 처리를 마친 마지막 아웃박스 id
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Setter
+@Table(name = "outbox_offsets")
+public class OutboxOffset extends BaseTimeEntity {
+
+  @Id
+  String subscriber;
+
+  long lastEventId;
+}
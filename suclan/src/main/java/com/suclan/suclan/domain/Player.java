@@ -42,15 +42,16 @@ public class Player extends SoftDeleteTimeEntity {
   @Builder.Default
   Set<Contest> contest = new HashSet<>();
 
-  @OneToMany(mappedBy = "winner", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+  // 매치 삭제는 MatchService 에서만 (DELETED 이벤트 발행) - cascade 하지 않는다
+  @OneToMany(mappedBy = "winner", fetch = FetchType.LAZY)
   @Builder.Default
   Set<Match> wins = new HashSet<>();
 
-  @OneToMany(mappedBy = "loser", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+  @OneToMany(mappedBy = "loser", fetch = FetchType.LAZY)
   @Builder.Default
   Set<Match> losses = new HashSet<>();
 
-  @OneToMany(mappedBy = "player", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+  @OneToMany(mappedBy = "player", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
   @Builder.Default
   Set<PlayerClan> playerClans = new HashSet<>();
 
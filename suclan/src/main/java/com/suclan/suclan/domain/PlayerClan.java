@@ -22,7 +22,9 @@ import static jakarta.persistence.FetchType.LAZY;
             status = 'DELETED'
         WHERE id = ?
 """ )
-@Table(name = "player_clans")
+@Table(name = "player_clans", indexes = {
+    @Index(name = "idx_player_clans_player_id", columnList = "player_id, joined_at")
+})
 public class PlayerClan extends SoftDeleteTimeEntity {
 
   @Id
@@ -0,0 +1,30 @@
+package com.suclan.suclan.domain;
+
+import com.suclan.suclan.domain.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 매치 결과로 계산되는 선수 레이팅 (Elo / Glicko-2)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Setter
+@Table(name = "player_ratings")
+public class PlayerRating extends BaseTimeEntity {
+
+  @Id
+  @Column(name = "player_id")
+  Long playerId;
+
+  double rating;
+
+  double deviation;
+
+  double volatility;
+
+  int games;
+}
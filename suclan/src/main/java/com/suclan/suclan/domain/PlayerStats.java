@@ -0,0 +1,98 @@
+package com.suclan.suclan.domain;
+
+import com.suclan.suclan.constant.Race;
+import com.suclan.suclan.domain.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 플레이어별 전적 집계 (매치 생성/수정/삭제 시 갱신)
+ * 상대 종족별 승/패를 함께 보관한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Setter
+@Table(name = "player_stats")
+public class PlayerStats extends BaseTimeEntity {
+
+  @Id
+  @Column(name = "player_id")
+  Long playerId;
+
+  @Builder.Default
+  int wins = 0;
+
+  @Builder.Default
+  int losses = 0;
+
+  @Builder.Default
+  int totalMatches = 0;
+
+  @Builder.Default
+  int vsZergWins = 0;
+
+  @Builder.Default
+  int vsZergLosses = 0;
+
+  @Builder.Default
+  int vsTerranWins = 0;
+
+  @Builder.Default
+  int vsTerranLosses = 0;
+
+  @Builder.Default
+  int vsProtossWins = 0;
+
+  @Builder.Default
+  int vsProtossLosses = 0;
+
+  @Builder.Default
+  int vsRandomWins = 0;
+
+  @Builder.Default
+  int vsRandomLosses = 0;
+
+  public void record(boolean win, Race opponentRace, int delta) {
+    if (win) {
+      wins += delta;
+    } else {
+      losses += delta;
+    }
+    totalMatches += delta;
+
+    if (opponentRace == null) {
+      return;
+    }
+    switch (opponentRace) {
+      case ZERG -> { if (win) vsZergWins += delta; else vsZergLosses += delta; }
+      case TERRAN -> { if (win) vsTerranWins += delta; else vsTerranLosses += delta; }
+      case PROTOSS -> { if (win) vsProtossWins += delta; else vsProtossLosses += delta; }
+      case RANDOM -> { if (win) vsRandomWins += delta; else vsRandomLosses += delta; }
+    }
+  }
+
+  public int getWinsAgainst(Race race) {
+    return switch (race) {
+      case ZERG -> vsZergWins;
+      case TERRAN -> vsTerranWins;
+      case PROTOSS -> vsProtossWins;
+      case RANDOM -> vsRandomWins;
+    };
+  }
+
+  public int getLossesAgainst(Race race) {
+    return switch (race) {
+      case ZERG -> vsZergLosses;
+      case TERRAN -> vsTerranLosses;
+      case PROTOSS -> vsProtossLosses;
+      case RANDOM -> vsRandomLosses;
+    };
+  }
+
+  public static PlayerStats empty(Long playerId) {
+    return PlayerStats.builder().playerId(playerId).build();
+  }
+}
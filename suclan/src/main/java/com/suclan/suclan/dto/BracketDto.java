@@ -0,0 +1,69 @@
+package com.suclan.suclan.dto;
+
+import com.suclan.suclan.constant.BracketFormat;
+import com.suclan.suclan.constant.BracketSide;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class BracketDto {
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CreateRequest {
+        private BracketFormat format;
+        private List<Long> playerIds;   // 시드 순서
+        private Integer rounds;         // 스위스 라운드 수 (없으면 참가자 수로 계산)
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        private Long id;
+        private Long contestId;
+        private BracketFormat format;
+        private int totalRounds;
+        private int currentRound;
+        private boolean completed;
+        private Long championId;
+        private List<Slot> slots;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Slot {
+        private Long id;
+        private BracketSide side;
+        private int round;
+        private int position;
+        private Long playerOneId;
+        private Long playerTwoId;
+        private Long matchId;
+        private Long winnerId;
+        private boolean finished;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Standing {
+        private int rank;
+        private PlayerDto.Summary player;
+        private int seed;
+        private int wins;
+        private int losses;
+        private int buchholz;
+        private int byes;
+        private boolean eliminated;
+    }
+}
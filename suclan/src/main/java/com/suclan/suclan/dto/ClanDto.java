@@ -1,6 +1,7 @@
 package com.suclan.suclan.dto;
 
 import com.suclan.suclan.constant.EntityStatus;
+import com.suclan.suclan.constant.Race;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class ClanDto {
 
@@ -59,4 +61,52 @@ public class ClanDto {
         private LocalDate foundingDate;
         private int memberCount;
     }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Standing {
+        private Long clanId;
+        private String name;
+        private int wins;
+        private int losses;
+        private int totalMatches;
+        private double winRate;
+        private List<RaceShare> races;
+        private List<Matchup> matchups;   // 클랜 단건 조회에서만 채운다
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RaceShare {
+        private Race race;
+        private int games;
+        private int wins;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Matchup {
+        private Long clanId;
+        private String clanName;
+        private Long opponentClanId;
+        private String opponentClanName;
+        private int wins;
+        private int losses;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RebuildResult {
+        private long matches;
+        private int clans;
+        private int matchups;
+    }
 }
@@ -0,0 +1,91 @@
+package com.suclan.suclan.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매치 목록 압축 응답 (Accept: application/vnd.suclan.compact+json)
+ * 행마다 두 번씩 반복되던 선수 객체(등급 / 클랜 포함)를 players 에 한 번씩만 두고 행에서는 id 로 참조한다.
+ * 페이지 목록이면 totalElements / totalPages / number, 커서 목록이면 next / hasNext 가 채워진다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CompactPage<T> {
+
+  public static final String MEDIA_TYPE = "application/vnd.suclan.compact+json";
+
+  private List<T> content;
+  private Collection<PlayerDto.Summary> players;
+  private int size;
+  private Long totalElements;
+  private Integer totalPages;
+  private Integer number;
+  private String next;
+  private Boolean hasNext;
+
+  public static CompactPage<MatchDto.CompactSummary> of(Page<MatchDto.Summary> page) {
+    Map<Long, PlayerDto.Summary> players = new LinkedHashMap<>();
+    return CompactPage.<MatchDto.CompactSummary>builder()
+        .content(compact(page.getContent(), players))
+        .players(players.values())
+        .size(page.getSize())
+        .totalElements(page.getTotalElements())
+        .totalPages(page.getTotalPages())
+        .number(page.getNumber())
+        .build();
+  }
+
+  public static CompactPage<MatchDto.CompactSummary> of(CursorPage<MatchDto.Summary> page) {
+    Map<Long, PlayerDto.Summary> players = new LinkedHashMap<>();
+    return CompactPage.<MatchDto.CompactSummary>builder()
+        .content(compact(page.getContent(), players))
+        .players(players.values())
+        .size(page.getSize())
+        .next(page.getNext())
+        .hasNext(page.isHasNext())
+        .build();
+  }
+
+  private static List<MatchDto.CompactSummary> compact(List<MatchDto.Summary> summaries,
+                                                       Map<Long, PlayerDto.Summary> players) {
+    List<MatchDto.CompactSummary> rows = new ArrayList<>(summaries.size());
+    for (MatchDto.Summary summary : summaries) {
+      rows.add(MatchDto.CompactSummary.builder()
+          .id(summary.getId())
+          .playerOneId(register(summary.getPlayerOne(), players))
+          .playerTwoId(register(summary.getPlayerTwo(), players))
+          .playerOneRace(summary.getPlayerOneRace())
+          .playerTwoRace(summary.getPlayerTwoRace())
+          .winnerId(summary.getWinner() != null ? summary.getWinner().getId() : null)
+          .streamingUrl(summary.getStreamingUrl())
+          .mapName(summary.getMapName())
+          .createdAt(summary.getCreatedAt())
+          .matchTime(summary.getMatchTime())
+          .playerOneWins(summary.getPlayerOneWins())
+          .opponentWins(summary.getOpponentWins())
+          .build());
+    }
+    return rows;
+  }
+
+  private static Long register(PlayerDto.Summary player, Map<Long, PlayerDto.Summary> players) {
+    if (player == null) {
+      return null;
+    }
+    players.putIfAbsent(player.getId(), player);
+    return player.getId();
+  }
+}
@@ -7,7 +7,6 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 public class ContestDto {
 
@@ -47,8 +46,6 @@ public class ContestDto {
         private LocalDateTime updatedAt;
         private int participantCount;
         private int matchCount;
-        private List<PlayerDto.Summary> participants;
-        private List<MatchDto.Summary> matches;
     }
 
     @Data
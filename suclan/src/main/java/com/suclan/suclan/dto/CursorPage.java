@@ -0,0 +1,22 @@
+package com.suclan.suclan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 (COUNT 쿼리 없이 다음 커서만 제공)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+  private List<T> content;
+  private int size;
+  private String next;
+  private boolean hasNext;
+}
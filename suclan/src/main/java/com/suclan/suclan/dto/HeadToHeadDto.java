@@ -0,0 +1,45 @@
+package com.suclan.suclan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class HeadToHeadDto {
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Record {
+    private PlayerDto.Summary opponent;
+    private int wins;
+    private int losses;
+    private int totalMatches;
+    private LocalDateTime lastPlayedAt;
+  }
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Response {
+    private PlayerDto.Summary player;
+    private List<Record> records;
+  }
+
+  /**
+   * players 순서대로 wins[i][j] = i 가 j 에게 이긴 횟수
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Matrix {
+    private List<PlayerDto.Summary> players;
+    private int[][] wins;
+  }
+}
@@ -0,0 +1,36 @@
+package com.suclan.suclan.dto;
+
+import com.suclan.suclan.constant.Race;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class LeaderboardDto {
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Entry {
+    private int rank;
+    private Long playerId;
+    private String nickname;
+    private Race race;
+    private Long clanId;
+    private Long gradeId;
+    private int wins;
+    private int losses;
+    private int totalMatches;
+  }
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class SearchCondition {
+    private Race race;
+    private Long clanId;
+    private Long gradeId;
+  }
+}
@@ -0,0 +1,42 @@
+package com.suclan.suclan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 매치 목록 커서 (matchTime, id) - 클라이언트에는 불투명한 문자열로 노출된다.
+ */
+@Value
+@AllArgsConstructor
+public class MatchCursor {
+  LocalDateTime matchTime;
+  Long id;
+
+  public String encode() {
+    String raw = (matchTime == null ? "" : matchTime.toString()) + "|" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static MatchCursor decode(String cursor) {
+    if (!StringUtils.hasText(cursor)) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int sep = raw.lastIndexOf('|');
+      String time = raw.substring(0, sep);
+      return new MatchCursor(
+          time.isEmpty() ? null : LocalDateTime.parse(time),
+          Long.parseLong(raw.substring(sep + 1))
+      );
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+    }
+  }
+}
@@ -1,8 +1,10 @@
 package com.suclan.suclan.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.suclan.suclan.constant.EntityStatus;
 import com.suclan.suclan.constant.PlayerMatchSearchType;
 import com.suclan.suclan.constant.Race;
+import com.suclan.suclan.event.MatchChangedEvent;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,6 +13,7 @@ import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.cglib.core.Local;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class MatchDto {
 
@@ -70,6 +73,19 @@ public class MatchDto {
         private LocalDateTime matchTime;
     }
 
+    /**
+     * 실시간 매치 피드 이벤트 (삭제 이벤트는 match 가 null)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StreamEvent {
+        private MatchChangedEvent.Type type;
+        private Long matchId;
+        private Summary match;
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -87,6 +103,46 @@ public class MatchDto {
         private LocalDateTime matchTime;
         private Long playerOneWins;
         private Long opponentWins;
+
+        // 매치 목록 프로젝션용 - 승자는 두 선수 중 하나이므로 id 로만 받는다
+        public Summary(Long id, PlayerDto.Summary playerOne, PlayerDto.Summary playerTwo,
+                       Race playerOneRace, Race playerTwoRace, Long winnerId,
+                       String streamingUrl, String mapName, LocalDateTime createdAt, LocalDateTime matchTime) {
+            this.id = id;
+            this.playerOne = playerOne;
+            this.playerTwo = playerTwo;
+            this.playerOneRace = playerOneRace;
+            this.playerTwoRace = playerTwoRace;
+            this.winner = winnerId == null ? null
+                    : winnerId.equals(playerOne.getId()) ? playerOne : playerTwo;
+            this.streamingUrl = streamingUrl;
+            this.mapName = mapName;
+            this.createdAt = createdAt;
+            this.matchTime = matchTime;
+        }
+    }
+
+    /**
+     * 압축 목록 행 - 선수는 CompactPage.players 의 id 로만 참조한다
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class CompactSummary {
+        private Long id;
+        private Long playerOneId;
+        private Long playerTwoId;
+        private Race playerOneRace;
+        private Race playerTwoRace;
+        private Long winnerId;
+        private String streamingUrl;
+        private String mapName;
+        private LocalDateTime createdAt;
+        private LocalDateTime matchTime;
+        private Long playerOneWins;
+        private Long opponentWins;
     }
 
   @Data
@@ -114,4 +170,24 @@ public class MatchDto {
     private boolean includeDeleted;
     private PlayerMatchSearchType matchSearchType;
   }
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class ImportResult {
+    private int total;
+    private int imported;
+    private boolean dryRun;
+    private List<ImportError> errors;
+  }
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class ImportError {
+    private int row;        // 1부터 시작하는 데이터 행 번호 (CSV 헤더 제외)
+    private String message;
+  }
 }
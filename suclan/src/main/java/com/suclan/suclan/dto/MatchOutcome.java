@@ -0,0 +1,42 @@
+package com.suclan.suclan.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.suclan.suclan.constant.EntityStatus;
+import com.suclan.suclan.constant.Race;
+import com.suclan.suclan.domain.Match;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전적에 반영되는 매치 결과 스냅샷
+ * 삭제되었거나 승자가 없는 매치는 null 로 표현한다.
+ * playedAt 은 matchTime 이 없으면 createdAt 으로 대체한 경기 시각이다.
+ */
+@Value
+@AllArgsConstructor(onConstructor_ = @JsonCreator)
+public class MatchOutcome {
+  Long matchId;
+  Long winnerId;
+  Race winnerRace;
+  Long loserId;
+  Race loserRace;
+  LocalDateTime playedAt;
+
+  public static MatchOutcome of(Match match) {
+    if (match.getStatus() != EntityStatus.REGISTERED || match.getWinner() == null || match.getLoser() == null) {
+      return null;
+    }
+    Long winnerId = match.getWinner().getId();
+    boolean playerOneWon = match.getPlayerOne() != null && winnerId.equals(match.getPlayerOne().getId());
+    return new MatchOutcome(
+        match.getId(),
+        winnerId,
+        playerOneWon ? match.getPlayerOneRace() : match.getPlayerTwoRace(),
+        match.getLoser().getId(),
+        playerOneWon ? match.getPlayerTwoRace() : match.getPlayerOneRace(),
+        match.getMatchTime() != null ? match.getMatchTime() : match.getCreatedAt()
+    );
+  }
+}
@@ -12,4 +12,8 @@ public class OpponentSummary {
   Long totalCount;
   Long win;
   Long lose;
+  String opponentNickname;
+  String opponentRace;
+  Long opponentGradeId;
+  String opponentGradeName;
 }
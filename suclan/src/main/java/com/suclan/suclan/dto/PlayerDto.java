@@ -8,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class PlayerDto {
 
@@ -50,6 +51,17 @@ public class PlayerDto {
         private int totalMatches;
         private int wins;
         private int losses;
+        private List<RaceStats> raceStats;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RaceStats {
+        private Race opponentRace;
+        private int wins;
+        private int losses;
     }
 
     @Data
@@ -67,8 +79,30 @@ public class PlayerDto {
         private Race race;
         private LocalDateTime createdAt;
         private EntityStatus status;
+
+        // 매치 목록 프로젝션용
+        public Summary(Long id, String nickname, Race race, EntityStatus status, Long gradeId, String gradeName) {
+            this.id = id;
+            this.nickname = nickname;
+            this.race = race;
+            this.status = status;
+            this.grade = gradeId == null ? null : GradeDto.Summary.builder()
+                    .id(gradeId)
+                    .name(gradeName)
+                    .build();
+        }
     }
 
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Suggestion {
+    private Long id;
+    private String nickname;
+    private Race race;
+  }
+
   @Data
   @Builder
   @NoArgsConstructor
@@ -0,0 +1,34 @@
+package com.suclan.suclan.dto;
+
+import com.suclan.suclan.constant.RatingAlgorithm;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class RatingDto {
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Response {
+    private Long playerId;
+    private RatingAlgorithm algorithm;
+    private double rating;
+    private double deviation;
+    private double volatility;
+    private int games;
+  }
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class ReplayResult {
+    private RatingAlgorithm algorithm;
+    private int players;
+    private int matches;
+    private long elapsedMillis;
+  }
+}
@@ -0,0 +1,30 @@
+package com.suclan.suclan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class SearchDto {
+
+  /**
+   * score: 완전 일치 3~, 접두 일치 2~, 포함 1~, 그 외 trigram 유사도 (0~1)
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class PlayerHit {
+    private PlayerDto.Summary player;
+    private double score;
+  }
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class MapHit {
+    private String mapName;
+    private double score;
+  }
+}
@@ -0,0 +1,21 @@
+package com.suclan.suclan.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 클랜 생성/수정/삭제 이벤트 (ClanService 트랜잭션 안에서 발행)
+ */
+@Value
+@AllArgsConstructor
+public class ClanChangedEvent {
+
+  public enum Type {
+    CREATED,
+    UPDATED,
+    DELETED
+  }
+
+  Type type;
+  Long clanId;
+}
@@ -0,0 +1,24 @@
+package com.suclan.suclan.event;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 선수의 소속 클랜 변경 (가입 시 previousClanId 가 null)
+ */
+@Value
+@AllArgsConstructor(onConstructor_ = @JsonCreator)
+public class ClanMembershipChanged implements DomainEvent {
+
+  Long playerId;
+  Long previousClanId;
+  Long clanId;
+
+  @Override
+  @JsonIgnore
+  public Long getAggregateId() {
+    return playerId;
+  }
+}
@@ -0,0 +1,24 @@
+package com.suclan.suclan.event;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 클랜 이름 변경
+ */
+@Value
+@AllArgsConstructor(onConstructor_ = @JsonCreator)
+public class ClanRenamed implements DomainEvent {
+
+  Long clanId;
+  String previousName;
+  String name;
+
+  @Override
+  @JsonIgnore
+  public Long getAggregateId() {
+    return clanId;
+  }
+}
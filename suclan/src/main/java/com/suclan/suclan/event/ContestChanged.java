@@ -0,0 +1,29 @@
+package com.suclan.suclan.event;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 대회 생성/수정/삭제 (대진표 생성으로 참가자가 바뀐 경우도 UPDATED)
+ */
+@Value
+@AllArgsConstructor(onConstructor_ = @JsonCreator)
+public class ContestChanged implements DomainEvent {
+
+  public enum Type {
+    CREATED,
+    UPDATED,
+    DELETED
+  }
+
+  Type type;
+  Long contestId;
+
+  @Override
+  @JsonIgnore
+  public Long getAggregateId() {
+    return contestId;
+  }
+}
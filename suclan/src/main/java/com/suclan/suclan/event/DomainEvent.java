@@ -0,0 +1,10 @@
+package com.suclan.suclan.event;
+
+/**
+ * 아웃박스를 거쳐 비동기로 전달되는 도메인 이벤트
+ * 쓰기 트랜잭션 안에서 outbox_events 에 함께 저장되고, 커밋된 것만 OutboxDispatcher 가 구독자에게 전달한다.
+ */
+public sealed interface DomainEvent permits MatchRecorded, PlayerRenamed, ClanMembershipChanged, ClanRenamed, ContestChanged {
+
+  Long getAggregateId();
+}
@@ -0,0 +1,21 @@
+package com.suclan.suclan.event;
+
+/**
+ * 아웃박스 구독자 (빈으로 등록하면 OutboxDispatcher 가 name 별 오프셋을 따로 관리한다)
+ * 전달은 최소 한 번(at-least-once)이므로 같은 이벤트를 두 번 받아도 결과가 같도록 처리해야 한다.
+ * 처음 등록된 구독자는 과거 이벤트를 받지 않고 등록 시점 이후부터 받는다.
+ */
+public interface DomainEventSubscriber {
+
+  String name();
+
+  void handle(DomainEvent event);
+
+  /**
+   * 메모리에 읽기 모델을 두는 구독자는 true. 인스턴스마다 모든 이벤트를 따로 받는다.
+   * 오프셋은 DB 대신 프로세스 메모리에 두며, 재시작하면 시작 시점 이후부터 받으므로 구독자가 전체를 다시 적재해야 한다.
+   */
+  default boolean perInstance() {
+    return false;
+  }
+}
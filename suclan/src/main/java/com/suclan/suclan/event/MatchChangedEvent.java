@@ -0,0 +1,29 @@
+package com.suclan.suclan.event;
+
+import com.suclan.suclan.dto.MatchOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 매치 생성/수정/삭제 이벤트 (MatchService 트랜잭션 안에서 발행)
+ * before / after 는 전적에 반영되는 결과이며, 반영 대상이 아니면 null 이다.
+ */
+@Value
+@AllArgsConstructor
+public class MatchChangedEvent {
+
+  public enum Type {
+    CREATED,
+    UPDATED,
+    DELETED
+  }
+
+  Type type;
+  Long matchId;
+  MatchOutcome before;
+  MatchOutcome after;
+
+  public boolean isOutcomeChanged() {
+    return before == null ? after != null : !before.equals(after);
+  }
+}
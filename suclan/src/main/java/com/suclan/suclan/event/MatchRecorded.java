@@ -0,0 +1,25 @@
+package com.suclan.suclan.event;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.suclan.suclan.dto.MatchOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 매치 결과가 기록/정정/취소됨 (before / after 는 MatchChangedEvent 와 같은 의미)
+ */
+@Value
+@AllArgsConstructor(onConstructor_ = @JsonCreator)
+public class MatchRecorded implements DomainEvent {
+
+  Long matchId;
+  MatchOutcome before;
+  MatchOutcome after;
+
+  @Override
+  @JsonIgnore
+  public Long getAggregateId() {
+    return matchId;
+  }
+}
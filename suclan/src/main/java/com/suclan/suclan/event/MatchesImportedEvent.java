@@ -0,0 +1,14 @@
+package com.suclan.suclan.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 매치 일괄 등록 이벤트 (MatchService 트랜잭션 안에서 발행)
+ * 개별 MatchChangedEvent 대신 한 번만 발행되며, 구독자는 증분 반영 대신 전체 재계산을 수행한다.
+ */
+@Value
+@AllArgsConstructor
+public class MatchesImportedEvent {
+  int count;
+}
@@ -0,0 +1,21 @@
+package com.suclan.suclan.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 플레이어 생성/수정/삭제 이벤트 (PlayerService 트랜잭션 안에서 발행)
+ */
+@Value
+@AllArgsConstructor
+public class PlayerChangedEvent {
+
+  public enum Type {
+    CREATED,
+    UPDATED,
+    DELETED
+  }
+
+  Type type;
+  Long playerId;
+}
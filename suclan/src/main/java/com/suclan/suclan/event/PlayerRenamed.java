@@ -0,0 +1,24 @@
+package com.suclan.suclan.event;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 선수 닉네임 변경
+ */
+@Value
+@AllArgsConstructor(onConstructor_ = @JsonCreator)
+public class PlayerRenamed implements DomainEvent {
+
+  Long playerId;
+  String previousNickname;
+  String nickname;
+
+  @Override
+  @JsonIgnore
+  public Long getAggregateId() {
+    return playerId;
+  }
+}
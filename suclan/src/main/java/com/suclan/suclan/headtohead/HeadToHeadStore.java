@@ -0,0 +1,191 @@
+package com.suclan.suclan.headtohead;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 선수 쌍별 상대 전적 (승/패, 마지막 경기 시각)
+ * (작은 id, 큰 id) 를 하나의 long 키로 묶어 쌍 인덱스를 찾고, 값은 원시 배열에 보관한다.
+ * 선수별 상대 목록을 함께 유지해 한 선수의 전체 상대 전적을 전체 스캔 없이 조회한다.
+ */
+public class HeadToHeadStore {
+
+  private static final long NEVER = Long.MIN_VALUE;
+
+  private final LongIntHashMap pairIndex;
+  private int[] lowWins;
+  private int[] highWins;
+  private long[] lastPlayed;
+  private int pairCount;
+
+  private final LongIntHashMap playerIndex;
+  private long[][] opponents;
+  private int[] opponentCounts;
+  private int playerCount;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  public HeadToHeadStore(int expectedPairs) {
+    int pairs = Math.max(16, expectedPairs);
+    pairIndex = new LongIntHashMap(pairs);
+    lowWins = new int[pairs];
+    highWins = new int[pairs];
+    lastPlayed = new long[pairs];
+    playerIndex = new LongIntHashMap(256);
+    opponents = new long[256][];
+    opponentCounts = new int[256];
+  }
+
+  /**
+   * 경기 결과를 delta 만큼 반영한다. 취소(delta < 0)된 경기가 마지막 경기였다면 false 를 돌려주며,
+   * 이 경우 호출자가 DB 에서 해당 쌍을 다시 읽어 reset 해야 마지막 경기 시각이 정확해진다.
+   */
+  public boolean record(long winnerId, long loserId, int delta, LocalDateTime playedAt) {
+    long played = playedAt != null ? playedAt.toEpochSecond(ZoneOffset.UTC) : NEVER;
+    lock.writeLock().lock();
+    try {
+      int pair = pairOrCreate(winnerId, loserId);
+      if (winnerId < loserId) {
+        lowWins[pair] += delta;
+      } else {
+        highWins[pair] += delta;
+      }
+      if (delta > 0) {
+        lastPlayed[pair] = Math.max(lastPlayed[pair], played);
+        return true;
+      }
+      return played < lastPlayed[pair];
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 한 쌍의 전적을 통째로 덮어쓴다.
+   */
+  public void reset(long playerId, long opponentId, int wins, int losses, LocalDateTime lastPlayedAt) {
+    lock.writeLock().lock();
+    try {
+      int pair = pairOrCreate(playerId, opponentId);
+      lowWins[pair] = playerId < opponentId ? wins : losses;
+      highWins[pair] = playerId < opponentId ? losses : wins;
+      lastPlayed[pair] = lastPlayedAt != null ? lastPlayedAt.toEpochSecond(ZoneOffset.UTC) : NEVER;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public Optional<Record> get(long playerId, long opponentId) {
+    lock.readLock().lock();
+    try {
+      int pair = pairIndex.get(key(playerId, opponentId));
+      return pair == LongIntHashMap.MISSING ? Optional.empty() : Optional.of(toRecord(pair, playerId, opponentId));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 한 선수의 상대별 전적 (전적이 모두 취소된 상대는 제외)
+   */
+  public List<Record> opponents(long playerId) {
+    lock.readLock().lock();
+    try {
+      int index = playerIndex.get(playerId);
+      if (index == LongIntHashMap.MISSING) {
+        return List.of();
+      }
+      List<Record> records = new ArrayList<>(opponentCounts[index]);
+      for (int i = 0; i < opponentCounts[index]; i++) {
+        long opponentId = opponents[index][i];
+        Record record = toRecord(pairIndex.get(key(playerId, opponentId)), playerId, opponentId);
+        if (record.getWins() + record.getLosses() > 0) {
+          records.add(record);
+        }
+      }
+      return records;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int pairCount() {
+    lock.readLock().lock();
+    try {
+      return pairCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private int pairOrCreate(long a, long b) {
+    long key = key(a, b);
+    int pair = pairIndex.get(key);
+    if (pair != LongIntHashMap.MISSING) {
+      return pair;
+    }
+    if (pairCount == lowWins.length) {
+      int capacity = pairCount * 2;
+      lowWins = Arrays.copyOf(lowWins, capacity);
+      highWins = Arrays.copyOf(highWins, capacity);
+      lastPlayed = Arrays.copyOf(lastPlayed, capacity);
+    }
+    pair = pairCount++;
+    lastPlayed[pair] = NEVER;
+    pairIndex.put(key, pair);
+    link(a, b);
+    link(b, a);
+    return pair;
+  }
+
+  private void link(long playerId, long opponentId) {
+    int index = playerIndex.get(playerId);
+    if (index == LongIntHashMap.MISSING) {
+      if (playerCount == opponents.length) {
+        opponents = Arrays.copyOf(opponents, playerCount * 2);
+        opponentCounts = Arrays.copyOf(opponentCounts, playerCount * 2);
+      }
+      index = playerCount++;
+      opponents[index] = new long[4];
+      playerIndex.put(playerId, index);
+    }
+    if (opponentCounts[index] == opponents[index].length) {
+      opponents[index] = Arrays.copyOf(opponents[index], opponentCounts[index] * 2);
+    }
+    opponents[index][opponentCounts[index]++] = opponentId;
+  }
+
+  private Record toRecord(int pair, long playerId, long opponentId) {
+    boolean low = playerId < opponentId;
+    long played = lastPlayed[pair];
+    return new Record(
+        opponentId,
+        low ? lowWins[pair] : highWins[pair],
+        low ? highWins[pair] : lowWins[pair],
+        played == NEVER ? null : LocalDateTime.ofEpochSecond(played, 0, ZoneOffset.UTC));
+  }
+
+  // 두 선수 id 를 (작은 id << 32 | 큰 id) 로 묶는다
+  static long key(long a, long b) {
+    if (a < 0 || b < 0 || a > 0xFFFFFFFFL || b > 0xFFFFFFFFL) {
+      throw new IllegalArgumentException("player id out of range: " + a + ", " + b);
+    }
+    return a < b ? (a << 32) | b : (b << 32) | a;
+  }
+
+  @Value
+  public static class Record {
+    long opponentId;
+    int wins;
+    int losses;
+    LocalDateTime lastPlayedAt;
+  }
+}
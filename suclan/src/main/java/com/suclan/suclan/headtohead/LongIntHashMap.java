@@ -0,0 +1,90 @@
+package com.suclan.suclan.headtohead;
+
+import java.util.Arrays;
+
+/**
+ * long -> int 오픈 어드레싱 해시맵 (선형 탐사, 삭제 없음)
+ * 박싱 없이 선수 id / 선수 쌍 키를 배열 인덱스로 바꾸는 용도. Long.MIN_VALUE 는 빈 칸 표시로 쓰므로 키로 쓸 수 없다.
+ */
+final class LongIntHashMap {
+
+  static final int MISSING = -1;
+
+  private static final long FREE = Long.MIN_VALUE;
+
+  private long[] keys;
+  private int[] values;
+  private int size;
+  private int mask;
+
+  LongIntHashMap(int expectedSize) {
+    int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+    allocate(capacity);
+  }
+
+  int get(long key) {
+    int slot = slot(key);
+    while (true) {
+      long k = keys[slot];
+      if (k == key) {
+        return values[slot];
+      }
+      if (k == FREE) {
+        return MISSING;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  void put(long key, int value) {
+    if (key == FREE) {
+      throw new IllegalArgumentException("unsupported key: " + key);
+    }
+    if ((size + 1) * 2 > keys.length) {
+      grow();
+    }
+    int slot = slot(key);
+    while (keys[slot] != FREE && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    if (keys[slot] == FREE) {
+      keys[slot] = key;
+      size++;
+    }
+    values[slot] = value;
+  }
+
+  int size() {
+    return size;
+  }
+
+  private int slot(long key) {
+    // murmur3 fmix64
+    long h = key;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return (int) h & mask;
+  }
+
+  private void grow() {
+    long[] oldKeys = keys;
+    int[] oldValues = values;
+    allocate(oldKeys.length << 1);
+    size = 0;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != FREE) {
+        put(oldKeys[i], oldValues[i]);
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    Arrays.fill(keys, FREE);
+    values = new int[capacity];
+    mask = capacity - 1;
+  }
+}
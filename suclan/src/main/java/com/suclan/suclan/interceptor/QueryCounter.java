@@ -0,0 +1,60 @@
+package com.suclan.suclan.interceptor;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 요청 스레드에서 실행된 SQL 문 수를 센다.
+ * QueryCountingDataSource 를 거치는 모든 문장(Hibernate, JdbcTemplate)이 기록되며, 측정 중이 아닌 스레드에서는 아무것도 하지 않는다.
+ */
+@Component
+public class QueryCounter {
+
+  private static final ThreadLocal<Counts> COUNTS = new ThreadLocal<>();
+
+  public void start() {
+    COUNTS.set(new Counts());
+  }
+
+  /**
+   * 측정을 끝내고 지금까지의 횟수를 돌려준다. 측정 중이 아니었다면 null.
+   */
+  public Counts stop() {
+    Counts counts = COUNTS.get();
+    COUNTS.remove();
+    return counts;
+  }
+
+  public void record(String sql) {
+    Counts counts = COUNTS.get();
+    if (counts != null) {
+      counts.total++;
+      if (isSelect(sql)) {
+        counts.selects++;
+      }
+    }
+  }
+
+  private static boolean isSelect(String sql) {
+    String head = sql.stripLeading();
+    if (head.length() < 6) {
+      return false;
+    }
+    String keyword = head.substring(0, 6).toLowerCase(Locale.ROOT);
+    return keyword.equals("select") || keyword.startsWith("with");
+  }
+
+  public static class Counts {
+    private int total;
+    private int selects;
+
+    public int getTotal() {
+      return total;
+    }
+
+    public int getSelects() {
+      return selects;
+    }
+  }
+}
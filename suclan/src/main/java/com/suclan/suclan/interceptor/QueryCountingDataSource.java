@@ -0,0 +1,72 @@
+package com.suclan.suclan.interceptor;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * JDBC 계층에서 SQL 문 수를 QueryCounter 에 기록하는 DataSource 래퍼
+ * Hibernate 뿐 아니라 JdbcTemplate 등 커넥션을 쓰는 모든 경로가 집계된다.
+ * PreparedStatement 는 준비할 때, Statement 는 SQL 을 넘겨 실행할 때 한 번 센다 (batch 는 한 문장으로 본다).
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+  private static final Set<String> STATEMENT_EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+
+  private final QueryCounter queryCounter;
+
+  public QueryCountingDataSource(DataSource target, QueryCounter queryCounter) {
+    super(target);
+    this.queryCounter = queryCounter;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return wrap(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return wrap(super.getConnection(username, password));
+  }
+
+  private Connection wrap(Connection connection) {
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+        (proxy, method, args) -> {
+          String name = method.getName();
+          if ((name.equals("prepareStatement") || name.equals("prepareCall")) && args != null && args[0] instanceof String sql) {
+            queryCounter.record(sql);
+          }
+          Object result = invoke(connection, method, args);
+          if (name.equals("createStatement") && result instanceof Statement statement) {
+            return wrap(statement);
+          }
+          return result;
+        });
+  }
+
+  private Statement wrap(Statement statement) {
+    return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Statement.class},
+        (proxy, method, args) -> {
+          if (STATEMENT_EXECUTE_METHODS.contains(method.getName()) && args != null && args[0] instanceof String sql) {
+            queryCounter.record(sql);
+          }
+          return invoke(statement, method, args);
+        });
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package com.suclan.suclan.interceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 컨트롤러 메서드별 응답 시간과 요청당 SQL 문 수를 기록한다.
+ * SELECT 가 임계값을 넘는 요청은 N+1 의심으로 집계하고 로그를 남긴다.
+ */
+@Slf4j
+@Component
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+  private static final String SAMPLE_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".sample";
+
+  private final MeterRegistry meterRegistry;
+  private final QueryCounter queryCounter;
+  private final int nPlusOneThreshold;
+
+  public RequestMetricsInterceptor(MeterRegistry meterRegistry,
+                                   QueryCounter queryCounter,
+                                   @Value("${metrics.n-plus-one-threshold:10}") int nPlusOneThreshold) {
+    this.meterRegistry = meterRegistry;
+    this.queryCounter = queryCounter;
+    this.nPlusOneThreshold = nPlusOneThreshold;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (handler instanceof HandlerMethod) {
+      request.setAttribute(SAMPLE_ATTRIBUTE, Timer.start(meterRegistry));
+      queryCounter.start();
+    }
+    return true;
+  }
+
+  // 비동기 응답(스트리밍 등)은 요청 스레드를 먼저 반납하므로 여기서 카운터를 정리한다
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    queryCounter.stop();
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    if (!(handler instanceof HandlerMethod handlerMethod)) {
+      return;
+    }
+    QueryCounter.Counts counts = queryCounter.stop();
+    Timer.Sample sample = (Timer.Sample) request.getAttribute(SAMPLE_ATTRIBUTE);
+    if (sample == null || counts == null) {
+      return;
+    }
+
+    Tags tags = Tags.of(
+        "controller", handlerMethod.getBeanType().getSimpleName(),
+        "method", handlerMethod.getMethod().getName());
+
+    sample.stop(Timer.builder("suclan.controller.requests")
+        .description("컨트롤러 메서드 처리 시간")
+        .tags(tags)
+        .tag("status", String.valueOf(response.getStatus()))
+        .publishPercentileHistogram()
+        .register(meterRegistry));
+
+    DistributionSummary.builder("suclan.controller.statements")
+        .description("요청당 실행된 SQL 문 수")
+        .tags(tags)
+        .tag("kind", "select")
+        .register(meterRegistry)
+        .record(counts.getSelects());
+    DistributionSummary.builder("suclan.controller.statements")
+        .description("요청당 실행된 SQL 문 수")
+        .tags(tags)
+        .tag("kind", "all")
+        .register(meterRegistry)
+        .record(counts.getTotal());
+
+    if (counts.getSelects() > nPlusOneThreshold) {
+      Counter.builder("suclan.controller.n_plus_one")
+          .description("SELECT 수가 임계값을 넘은 요청 수")
+          .tags(tags)
+          .register(meterRegistry)
+          .increment();
+      log.warn("N+1 의심: {}.{} {} {} selects={} total={}",
+          handlerMethod.getBeanType().getSimpleName(), handlerMethod.getMethod().getName(),
+          request.getMethod(), request.getRequestURI(), counts.getSelects(), counts.getTotal());
+    }
+  }
+}
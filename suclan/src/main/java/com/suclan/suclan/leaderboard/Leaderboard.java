@@ -0,0 +1,148 @@
+package com.suclan.suclan.leaderboard;
+
+import com.suclan.suclan.constant.LeaderboardMetric;
+import lombok.Value;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 지표/범위별 순위 인덱스
+ * 쓰기는 단일 write lock, 조회는 read lock 으로 보호된다.
+ */
+public class Leaderboard {
+
+  private final Map<Long, LeaderboardEntry> entries = new HashMap<>();
+  private final Map<LeaderboardMetric, Map<String, OrderStatisticTree>> trees = new EnumMap<>(LeaderboardMetric.class);
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  public Leaderboard() {
+    for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+      trees.put(metric, new HashMap<>());
+    }
+  }
+
+  public void replaceAll(Collection<LeaderboardEntry> loaded) {
+    lock.writeLock().lock();
+    try {
+      entries.clear();
+      trees.values().forEach(Map::clear);
+      loaded.forEach(this::add);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void upsert(LeaderboardEntry entry) {
+    lock.writeLock().lock();
+    try {
+      LeaderboardEntry previous = entries.get(entry.getPlayerId());
+      if (previous != null) {
+        detach(previous);
+      }
+      add(entry);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(long playerId) {
+    lock.writeLock().lock();
+    try {
+      LeaderboardEntry previous = entries.remove(playerId);
+      if (previous != null) {
+        detach(previous);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void adjust(long playerId, int winsDelta, int lossesDelta) {
+    lock.writeLock().lock();
+    try {
+      LeaderboardEntry previous = entries.get(playerId);
+      if (previous == null) {
+        return;
+      }
+      detach(previous);
+      add(previous.withRecord(previous.getWins() + winsDelta, previous.getLosses() + lossesDelta));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size(LeaderboardMetric metric, String scope) {
+    lock.readLock().lock();
+    try {
+      OrderStatisticTree tree = trees.get(metric).get(scope);
+      return tree == null ? 0 : tree.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * offset 부터 limit 개의 (순위, 항목) - 순위는 1부터
+   */
+  public List<Ranked> page(LeaderboardMetric metric, String scope, int offset, int limit) {
+    lock.readLock().lock();
+    try {
+      OrderStatisticTree tree = trees.get(metric).get(scope);
+      if (tree == null) {
+        return List.of();
+      }
+      int end = Math.min(tree.size(), offset + limit);
+      List<Ranked> result = new ArrayList<>(Math.max(0, end - offset));
+      for (int i = offset; i < end; i++) {
+        result.add(new Ranked(i + 1, entries.get(tree.select(i))));
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public Optional<Ranked> rank(LeaderboardMetric metric, String scope, long playerId) {
+    lock.readLock().lock();
+    try {
+      LeaderboardEntry entry = entries.get(playerId);
+      OrderStatisticTree tree = trees.get(metric).get(scope);
+      if (entry == null || tree == null || !entry.scopes().contains(scope)) {
+        return Optional.empty();
+      }
+      return Optional.of(new Ranked(tree.rank(playerId, entry.score(metric)) + 1, entry));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void add(LeaderboardEntry entry) {
+    entries.put(entry.getPlayerId(), entry);
+    for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+      Map<String, OrderStatisticTree> byScope = trees.get(metric);
+      for (String scope : entry.scopes()) {
+        byScope.computeIfAbsent(scope, s -> new OrderStatisticTree()).insert(entry.getPlayerId(), entry.score(metric));
+      }
+    }
+  }
+
+  private void detach(LeaderboardEntry entry) {
+    for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+      Map<String, OrderStatisticTree> byScope = trees.get(metric);
+      for (String scope : entry.scopes()) {
+        OrderStatisticTree tree = byScope.get(scope);
+        if (tree != null) {
+          tree.remove(entry.getPlayerId(), entry.score(metric));
+        }
+      }
+    }
+  }
+
+  @Value
+  public static class Ranked {
+    int rank;
+    LeaderboardEntry entry;
+  }
+}
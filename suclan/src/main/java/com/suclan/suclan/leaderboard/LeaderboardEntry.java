@@ -0,0 +1,48 @@
+package com.suclan.suclan.leaderboard;
+
+import com.suclan.suclan.constant.LeaderboardMetric;
+import com.suclan.suclan.constant.Race;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Value
+@AllArgsConstructor
+public class LeaderboardEntry {
+  long playerId;
+  String nickname;
+  Race race;
+  Long clanId;
+  Long gradeId;
+  int wins;
+  int losses;
+
+  public int score(LeaderboardMetric metric) {
+    return switch (metric) {
+      case WINS -> wins;
+      case LOSSES -> losses;
+      case TOTAL_MATCHES -> wins + losses;
+    };
+  }
+
+  public LeaderboardEntry withRecord(int wins, int losses) {
+    return new LeaderboardEntry(playerId, nickname, race, clanId, gradeId, wins, losses);
+  }
+
+  List<String> scopes() {
+    List<String> scopes = new ArrayList<>(4);
+    scopes.add(LeaderboardScope.overall());
+    if (race != null) {
+      scopes.add(LeaderboardScope.race(race));
+    }
+    if (clanId != null) {
+      scopes.add(LeaderboardScope.clan(clanId));
+    }
+    if (gradeId != null) {
+      scopes.add(LeaderboardScope.grade(gradeId));
+    }
+    return scopes;
+  }
+}
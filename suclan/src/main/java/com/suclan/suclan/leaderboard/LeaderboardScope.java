@@ -0,0 +1,28 @@
+package com.suclan.suclan.leaderboard;
+
+import com.suclan.suclan.constant.Race;
+
+/**
+ * 리더보드 범위 키 (전체 / 종족 / 클랜 / 등급)
+ */
+public final class LeaderboardScope {
+
+  private LeaderboardScope() {
+  }
+
+  public static String overall() {
+    return "all";
+  }
+
+  public static String race(Race race) {
+    return "race:" + race.name();
+  }
+
+  public static String clan(long clanId) {
+    return "clan:" + clanId;
+  }
+
+  public static String grade(long gradeId) {
+    return "grade:" + gradeId;
+  }
+}
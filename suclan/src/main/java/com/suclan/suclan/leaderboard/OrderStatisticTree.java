@@ -0,0 +1,158 @@
+package com.suclan.suclan.leaderboard;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 점수 내림차순, id 오름차순으로 정렬되는 treap (서브트리 크기 보관)
+ * 삽입/삭제/순위/k번째 조회가 모두 O(log n) 이다. 동기화는 호출자가 책임진다.
+ */
+final class OrderStatisticTree {
+
+  private static final class Node {
+    final long id;
+    final int score;
+    final int priority;
+    int size = 1;
+    Node left;
+    Node right;
+
+    Node(long id, int score) {
+      this.id = id;
+      this.score = score;
+      this.priority = ThreadLocalRandom.current().nextInt();
+    }
+  }
+
+  private Node root;
+
+  int size() {
+    return size(root);
+  }
+
+  void insert(long id, int score) {
+    root = insert(root, new Node(id, score));
+  }
+
+  void remove(long id, int score) {
+    root = remove(root, id, score);
+  }
+
+  /**
+   * 앞선 항목 수 (0부터 시작하는 순위)
+   */
+  int rank(long id, int score) {
+    int rank = 0;
+    Node node = root;
+    while (node != null) {
+      int cmp = compare(id, score, node);
+      if (cmp <= 0) {
+        node = node.left;
+      } else {
+        rank += size(node.left) + 1;
+        node = node.right;
+      }
+    }
+    return rank;
+  }
+
+  /**
+   * k 번째(0부터) 항목의 id, 범위를 벗어나면 -1
+   */
+  long select(int k) {
+    Node node = root;
+    while (node != null) {
+      int leftSize = size(node.left);
+      if (k < leftSize) {
+        node = node.left;
+      } else if (k == leftSize) {
+        return node.id;
+      } else {
+        k -= leftSize + 1;
+        node = node.right;
+      }
+    }
+    return -1;
+  }
+
+  private Node insert(Node node, Node inserted) {
+    if (node == null) {
+      return inserted;
+    }
+    if (inserted.priority > node.priority) {
+      Node[] parts = split(node, inserted.id, inserted.score);
+      inserted.left = parts[0];
+      inserted.right = parts[1];
+      return update(inserted);
+    }
+    if (compare(inserted.id, inserted.score, node) < 0) {
+      node.left = insert(node.left, inserted);
+    } else {
+      node.right = insert(node.right, inserted);
+    }
+    return update(node);
+  }
+
+  private Node remove(Node node, long id, int score) {
+    if (node == null) {
+      return null;
+    }
+    int cmp = compare(id, score, node);
+    if (cmp == 0) {
+      return merge(node.left, node.right);
+    }
+    if (cmp < 0) {
+      node.left = remove(node.left, id, score);
+    } else {
+      node.right = remove(node.right, id, score);
+    }
+    return update(node);
+  }
+
+  // (key 보다 앞선 노드들, 나머지)
+  private Node[] split(Node node, long id, int score) {
+    if (node == null) {
+      return new Node[]{null, null};
+    }
+    if (compare(id, score, node) > 0) {
+      Node[] parts = split(node.right, id, score);
+      node.right = parts[0];
+      parts[0] = update(node);
+      return parts;
+    }
+    Node[] parts = split(node.left, id, score);
+    node.left = parts[1];
+    parts[1] = update(node);
+    return parts;
+  }
+
+  private Node merge(Node left, Node right) {
+    if (left == null) {
+      return right;
+    }
+    if (right == null) {
+      return left;
+    }
+    if (left.priority > right.priority) {
+      left.right = merge(left.right, right);
+      return update(left);
+    }
+    right.left = merge(left, right.left);
+    return update(right);
+  }
+
+  private static int compare(long id, int score, Node node) {
+    if (score != node.score) {
+      return score > node.score ? -1 : 1;
+    }
+    return Long.compare(id, node.id);
+  }
+
+  private static Node update(Node node) {
+    node.size = 1 + size(node.left) + size(node.right);
+    return node;
+  }
+
+  private static int size(Node node) {
+    return node == null ? 0 : node.size;
+  }
+}
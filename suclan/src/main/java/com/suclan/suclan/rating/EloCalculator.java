@@ -0,0 +1,20 @@
+package com.suclan.suclan.rating;
+
+public class EloCalculator implements RatingCalculator {
+
+  private final double kFactor;
+
+  public EloCalculator(double kFactor) {
+    this.kFactor = kFactor;
+  }
+
+  @Override
+  public void apply(RatingTable table, int winner, int loser) {
+    double expected = 1.0 / (1.0 + Math.pow(10.0, (table.rating[loser] - table.rating[winner]) / 400.0));
+    double delta = kFactor * (1.0 - expected);
+    table.rating[winner] += delta;
+    table.rating[loser] -= delta;
+    table.games[winner]++;
+    table.games[loser]++;
+  }
+}
@@ -0,0 +1,91 @@
+package com.suclan.suclan.rating;
+
+/**
+ * Glicko-2 (경기 하나를 하나의 rating period 로 취급)
+ */
+public class Glicko2Calculator implements RatingCalculator {
+
+  private static final double SCALE = 173.7178;
+  private static final double BASE = 1500.0;
+  private static final double EPSILON = 0.000001;
+
+  private final double tau;
+
+  public Glicko2Calculator(double tau) {
+    this.tau = tau;
+  }
+
+  @Override
+  public void apply(RatingTable table, int winner, int loser) {
+    double winnerMu = (table.rating[winner] - BASE) / SCALE;
+    double winnerPhi = table.deviation[winner] / SCALE;
+    double loserMu = (table.rating[loser] - BASE) / SCALE;
+    double loserPhi = table.deviation[loser] / SCALE;
+
+    update(table, winner, winnerMu, winnerPhi, loserMu, loserPhi, 1.0);
+    update(table, loser, loserMu, loserPhi, winnerMu, winnerPhi, 0.0);
+  }
+
+  private void update(RatingTable table, int index, double mu, double phi,
+                      double opponentMu, double opponentPhi, double score) {
+    double g = g(opponentPhi);
+    double expected = 1.0 / (1.0 + Math.exp(-g * (mu - opponentMu)));
+    double v = 1.0 / (g * g * expected * (1.0 - expected));
+    double delta = v * g * (score - expected);
+
+    double sigma = volatility(phi, table.volatility[index], v, delta);
+    double phiStar = Math.sqrt(phi * phi + sigma * sigma);
+    double newPhi = 1.0 / Math.sqrt(1.0 / (phiStar * phiStar) + 1.0 / v);
+    double newMu = mu + newPhi * newPhi * g * (score - expected);
+
+    table.rating[index] = newMu * SCALE + BASE;
+    table.deviation[index] = newPhi * SCALE;
+    table.volatility[index] = sigma;
+    table.games[index]++;
+  }
+
+  // Illinois 알고리즘으로 새 변동성 계산
+  private double volatility(double phi, double sigma, double v, double delta) {
+    double a = Math.log(sigma * sigma);
+    double phi2 = phi * phi;
+    double delta2 = delta * delta;
+
+    double lower = a;
+    double upper;
+    if (delta2 > phi2 + v) {
+      upper = Math.log(delta2 - phi2 - v);
+    } else {
+      int k = 1;
+      while (f(a - k * tau, a, phi2, v, delta2) < 0) {
+        k++;
+      }
+      upper = a - k * tau;
+    }
+
+    double fLower = f(lower, a, phi2, v, delta2);
+    double fUpper = f(upper, a, phi2, v, delta2);
+    while (Math.abs(upper - lower) > EPSILON) {
+      double c = lower + (lower - upper) * fLower / (fUpper - fLower);
+      double fC = f(c, a, phi2, v, delta2);
+      if (fC * fUpper <= 0) {
+        lower = upper;
+        fLower = fUpper;
+      } else {
+        fLower = fLower / 2.0;
+      }
+      upper = c;
+      fUpper = fC;
+    }
+    return Math.exp(lower / 2.0);
+  }
+
+  private double f(double x, double a, double phi2, double v, double delta2) {
+    double ex = Math.exp(x);
+    double denominator = phi2 + v + ex;
+    return ex * (delta2 - phi2 - v - ex) / (2.0 * denominator * denominator) - (x - a) / (tau * tau);
+  }
+
+  private static double g(double phi) {
+    return 1.0 / Math.sqrt(1.0 + 3.0 * phi * phi / (Math.PI * Math.PI));
+  }
+}
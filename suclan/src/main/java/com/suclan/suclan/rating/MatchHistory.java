@@ -0,0 +1,57 @@
+package com.suclan.suclan.rating;
+
+import java.util.Arrays;
+
+/**
+ * 전체 재계산용 매치 이력 (선수 id 를 정렬된 배열의 인덱스로 치환해 보관)
+ */
+public final class MatchHistory {
+
+  private final long[] playerIds;
+  private int[] winners = new int[1024];
+  private int[] losers = new int[1024];
+  private int size;
+
+  public MatchHistory(long[] sortedPlayerIds) {
+    this.playerIds = sortedPlayerIds;
+  }
+
+  /**
+   * 경기 시각 순서대로 호출해야 한다. 알 수 없는 선수가 포함된 경기는 무시한다.
+   */
+  public boolean add(long winnerId, long loserId) {
+    int winner = Arrays.binarySearch(playerIds, winnerId);
+    int loser = Arrays.binarySearch(playerIds, loserId);
+    if (winner < 0 || loser < 0) {
+      return false;
+    }
+    if (size == winners.length) {
+      winners = Arrays.copyOf(winners, size * 2);
+      losers = Arrays.copyOf(losers, size * 2);
+    }
+    winners[size] = winner;
+    losers[size] = loser;
+    size++;
+    return true;
+  }
+
+  public RatingTable replay(RatingCalculator calculator, double initialRating, double initialDeviation, double initialVolatility) {
+    RatingTable table = new RatingTable(playerIds.length, initialRating, initialDeviation, initialVolatility);
+    for (int i = 0; i < size; i++) {
+      calculator.apply(table, winners[i], losers[i]);
+    }
+    return table;
+  }
+
+  public long playerId(int index) {
+    return playerIds[index];
+  }
+
+  public int playerCount() {
+    return playerIds.length;
+  }
+
+  public int size() {
+    return size;
+  }
+}
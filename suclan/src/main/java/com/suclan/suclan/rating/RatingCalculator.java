@@ -0,0 +1,19 @@
+package com.suclan.suclan.rating;
+
+import com.suclan.suclan.configuration.RatingProperties;
+
+/**
+ * 한 경기 결과를 RatingTable 에 반영한다.
+ * 증분 갱신과 전체 재계산이 같은 구현을 사용하므로 결과가 항상 일치한다.
+ */
+public interface RatingCalculator {
+
+  void apply(RatingTable table, int winner, int loser);
+
+  static RatingCalculator of(RatingProperties properties) {
+    return switch (properties.getAlgorithm()) {
+      case ELO -> new EloCalculator(properties.getEloKFactor());
+      case GLICKO2 -> new Glicko2Calculator(properties.getGlickoTau());
+    };
+  }
+}
@@ -0,0 +1,51 @@
+package com.suclan.suclan.rating;
+
+import java.util.Arrays;
+
+/**
+ * 선수 인덱스 기반 레이팅 상태 (박싱 없는 배열)
+ */
+public final class RatingTable {
+
+  final double[] rating;
+  final double[] deviation;
+  final double[] volatility;
+  final int[] games;
+
+  public RatingTable(int size, double initialRating, double initialDeviation, double initialVolatility) {
+    rating = new double[size];
+    deviation = new double[size];
+    volatility = new double[size];
+    games = new int[size];
+    Arrays.fill(rating, initialRating);
+    Arrays.fill(deviation, initialDeviation);
+    Arrays.fill(volatility, initialVolatility);
+  }
+
+  public int size() {
+    return rating.length;
+  }
+
+  public double rating(int index) {
+    return rating[index];
+  }
+
+  public double deviation(int index) {
+    return deviation[index];
+  }
+
+  public double volatility(int index) {
+    return volatility[index];
+  }
+
+  public int games(int index) {
+    return games[index];
+  }
+
+  public void set(int index, double rating, double deviation, double volatility, int games) {
+    this.rating[index] = rating;
+    this.deviation[index] = deviation;
+    this.volatility[index] = volatility;
+    this.games[index] = games;
+  }
+}
@@ -0,0 +1,20 @@
+package com.suclan.suclan.repository;
+
+import com.suclan.suclan.domain.BracketEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface BracketEntryRepository extends JpaRepository<BracketEntry, BracketEntry.Key> {
+
+  // 순위: 생존 > 늦게 탈락, 승 > 부흐홀츠 > 패가 적은 순 > 시드
+  @Query("""
+      SELECT e FROM BracketEntry e
+      WHERE e.bracketId = :bracketId
+      ORDER BY CASE WHEN e.eliminatedOrder IS NULL THEN 0 ELSE 1 END,
+               e.eliminatedOrder DESC, e.wins DESC, e.buchholz DESC, e.losses ASC, e.seed ASC
+      """)
+  List<BracketEntry> findStandings(@Param("bracketId") Long bracketId);
+}
@@ -0,0 +1,20 @@
+package com.suclan.suclan.repository;
+
+import com.suclan.suclan.domain.Bracket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface BracketRepository extends JpaRepository<Bracket, Long> {
+
+  Optional<Bracket> findByContestId(Long contestId);
+
+  // 같은 대진표의 결과 반영은 순서대로 (라운드 종료 판정 / 다음 라운드 대진 생성)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT b FROM Bracket b WHERE b.id = :id")
+  Optional<Bracket> findForUpdate(@Param("id") Long id);
+}
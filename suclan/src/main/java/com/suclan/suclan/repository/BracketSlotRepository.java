@@ -0,0 +1,38 @@
+package com.suclan.suclan.repository;
+
+import com.suclan.suclan.domain.BracketSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BracketSlotRepository extends JpaRepository<BracketSlot, Long> {
+
+  Optional<BracketSlot> findByMatchId(Long matchId);
+
+  @Query("SELECT s.bracketId FROM BracketSlot s WHERE s.matchId = :matchId")
+  Optional<Long> findBracketIdByMatchId(@Param("matchId") Long matchId);
+
+  List<BracketSlot> findByBracketId(Long bracketId);
+
+  List<BracketSlot> findByBracketIdAndRound(Long bracketId, int round);
+
+  long countByBracketIdAndRoundAndFinishedFalse(Long bracketId, int round);
+
+  long countByBracketIdAndFinishedFalse(Long bracketId);
+
+  // 선수가 치른 (부전승 제외) 경기 중 excludeSlotId 를 뺀 나머지
+  @Query("""
+      SELECT s FROM BracketSlot s
+      WHERE s.bracketId = :bracketId
+        AND s.finished = true
+        AND s.loserId IS NOT NULL
+        AND (s.playerOneId = :playerId OR s.playerTwoId = :playerId)
+        AND s.id <> :excludeSlotId
+      """)
+  List<BracketSlot> findPlayedByPlayer(@Param("bracketId") Long bracketId,
+                                       @Param("playerId") Long playerId,
+                                       @Param("excludeSlotId") Long excludeSlotId);
+}
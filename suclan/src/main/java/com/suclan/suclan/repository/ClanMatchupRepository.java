@@ -0,0 +1,49 @@
+package com.suclan.suclan.repository;
+
+import com.suclan.suclan.constant.EntityStatus;
+import com.suclan.suclan.domain.ClanMatchup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ClanMatchupRepository extends JpaRepository<ClanMatchup, ClanMatchup.Key> {
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT m FROM ClanMatchup m WHERE m.clanId = :clanId AND m.opponentClanId = :opponentClanId")
+  Optional<ClanMatchup> findForUpdate(@Param("clanId") Long clanId, @Param("opponentClanId") Long opponentClanId);
+
+  // 두 클랜의 첫 경기가 동시에 들어와도 행은 하나만 생긴다
+  @Modifying
+  @Query(value = """
+      INSERT INTO clan_matchups (clan_id, opponent_clan_id, wins, losses, created_at, updated_at)
+      VALUES (:clanId, :opponentClanId, 0, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+      ON CONFLICT (clan_id, opponent_clan_id) DO NOTHING
+      """, nativeQuery = true)
+  int insertIfAbsent(@Param("clanId") Long clanId, @Param("opponentClanId") Long opponentClanId);
+
+  // 특정 클랜의 상대 클랜별 전적
+  @Query("""
+      SELECT m FROM ClanMatchup m
+      WHERE m.clanId = :clanId
+        AND m.opponentClanId IN (SELECT c.id FROM Clan c WHERE c.status = :status)
+        AND (m.wins <> 0 OR m.losses <> 0)
+      ORDER BY m.wins + m.losses DESC, m.opponentClanId
+      """)
+  List<ClanMatchup> findByClanId(@Param("clanId") Long clanId, @Param("status") EntityStatus status);
+
+  // 상태가 일치하는 클랜끼리의 전체 상대 전적 (클랜 x 클랜 행렬)
+  @Query("""
+      SELECT m FROM ClanMatchup m
+      WHERE m.clanId IN (SELECT c.id FROM Clan c WHERE c.status = :status)
+        AND m.opponentClanId IN (SELECT c.id FROM Clan c WHERE c.status = :status)
+        AND (m.wins <> 0 OR m.losses <> 0)
+      ORDER BY m.clanId, m.opponentClanId
+      """)
+  List<ClanMatchup> findAllByClanStatus(@Param("status") EntityStatus status);
+}
@@ -0,0 +1,40 @@
+package com.suclan.suclan.repository;
+
+import com.suclan.suclan.constant.EntityStatus;
+import com.suclan.suclan.domain.ClanStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ClanStatsRepository extends JpaRepository<ClanStats, Long> {
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM ClanStats s WHERE s.clanId = :clanId")
+  Optional<ClanStats> findForUpdate(@Param("clanId") Long clanId);
+
+  // 첫 매치가 동시에 들어와도 행은 하나만 생긴다 (이미 있으면 아무것도 하지 않음)
+  @Modifying
+  @Query(value = """
+      INSERT INTO clan_stats (
+        clan_id, wins, losses, total_matches,
+        zerg_games, zerg_wins, terran_games, terran_wins,
+        protoss_games, protoss_wins, random_games, random_wins,
+        created_at, updated_at
+      )
+      VALUES (:clanId, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+      ON CONFLICT (clan_id) DO NOTHING
+      """, nativeQuery = true)
+  int insertIfAbsent(@Param("clanId") Long clanId);
+
+  // 상태가 일치하는 클랜의 집계만 조회
+  @Query(value = "SELECT s FROM ClanStats s WHERE s.clanId IN (SELECT c.id FROM Clan c WHERE c.status = :status)",
+      countQuery = "SELECT COUNT(s) FROM ClanStats s WHERE s.clanId IN (SELECT c.id FROM Clan c WHERE c.status = :status)")
+  Page<ClanStats> findAllByClanStatus(@Param("status") EntityStatus status, Pageable pageable);
+}
@@ -0,0 +1,88 @@
+package com.suclan.suclan.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.suclan.suclan.constant.EntityStatus;
+import com.suclan.suclan.dto.PlayerDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.suclan.suclan.domain.QContest.contest;
+import static com.suclan.suclan.domain.QGrade.grade;
+import static com.suclan.suclan.domain.QMatch.match;
+import static com.suclan.suclan.domain.QPlayer.player;
+
+/**
+ * 대회 참가자/매치 수와 참가자 목록 프로젝션 쿼리
+ * 대회 엔티티의 players / matches 컬렉션을 로딩하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContestQueryRepository {
+
+  private final JPAQueryFactory jpaQueryFactory;
+
+  /**
+   * 대회별 참가자 수 (contestId -> count, 참가자가 없는 대회는 빠진다). 삭제된 선수는 세지 않는다.
+   */
+  public Map<Long, Integer> countParticipants(Collection<Long> contestIds) {
+    if (contestIds.isEmpty()) {
+      return Map.of();
+    }
+    List<Tuple> rows = jpaQueryFactory
+        .select(contest.id, player.count())
+        .from(contest)
+        .join(contest.players, player)
+        .where(contest.id.in(contestIds), player.status.eq(EntityStatus.REGISTERED))
+        .groupBy(contest.id)
+        .fetch();
+    Map<Long, Integer> counts = new HashMap<>();
+    rows.forEach(row -> counts.put(row.get(contest.id), row.get(player.count()).intValue()));
+    return counts;
+  }
+
+  /**
+   * 대회별 등록된 매치 수 (contestId -> count, 매치가 없는 대회는 빠진다)
+   */
+  public Map<Long, Integer> countMatches(Collection<Long> contestIds) {
+    if (contestIds.isEmpty()) {
+      return Map.of();
+    }
+    List<Tuple> rows = jpaQueryFactory
+        .select(match.contest.id, match.count())
+        .from(match)
+        .where(match.contest.id.in(contestIds), match.status.eq(EntityStatus.REGISTERED))
+        .groupBy(match.contest.id)
+        .fetch();
+    Map<Long, Integer> counts = new HashMap<>();
+    rows.forEach(row -> counts.put(row.get(match.contest.id), row.get(match.count()).intValue()));
+    return counts;
+  }
+
+  /**
+   * 참가자 목록 (닉네임 순, 삭제된 선수 제외)
+   */
+  public Page<PlayerDto.Summary> findParticipants(Long contestId, Pageable pageable) {
+    List<PlayerDto.Summary> content = jpaQueryFactory
+        .select(MatchQueryRepository.playerProjection(player, grade))
+        .from(contest)
+        .join(contest.players, player)
+        .leftJoin(player.grade, grade)
+        .where(contest.id.eq(contestId), player.status.eq(EntityStatus.REGISTERED))
+        .orderBy(player.nickname.asc(), player.id.asc())
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .fetch();
+
+    Integer total = countParticipants(List.of(contestId)).get(contestId);
+    return new PageImpl<>(content, pageable, total != null ? total : 0);
+  }
+}
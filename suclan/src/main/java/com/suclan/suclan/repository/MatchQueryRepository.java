@@ -0,0 +1,107 @@
+package com.suclan.suclan.repository;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.suclan.suclan.domain.QGrade;
+import com.suclan.suclan.domain.QPlayer;
+import com.suclan.suclan.dto.MatchDto;
+import com.suclan.suclan.dto.PlayerDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.suclan.suclan.domain.QGrade.grade;
+import static com.suclan.suclan.domain.QMatch.match;
+import static com.suclan.suclan.domain.QPlayer.player;
+
+/**
+ * 매치 목록용 프로젝션 쿼리
+ * 선수/등급을 한 번의 조인으로 가져와 Player 엔티티를 로딩하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchQueryRepository {
+
+  public static final QPlayer playerOne = new QPlayer("playerOne");
+  public static final QPlayer playerTwo = new QPlayer("playerTwo");
+  public static final QGrade playerOneGrade = new QGrade("playerOneGrade");
+  public static final QGrade playerTwoGrade = new QGrade("playerTwoGrade");
+
+  private final JPAQueryFactory jpaQueryFactory;
+
+  /**
+   * match, playerOne, playerTwo 가 조인된 Summary 쿼리 (where / orderBy / limit 는 호출자가 추가)
+   */
+  public JPAQuery<MatchDto.Summary> selectSummaries() {
+    return jpaQueryFactory
+        .select(summaryProjection())
+        .from(match)
+        .join(match.playerOne, playerOne)
+        .join(match.playerTwo, playerTwo)
+        .leftJoin(playerOne.grade, playerOneGrade)
+        .leftJoin(playerTwo.grade, playerTwoGrade);
+  }
+
+  /**
+   * selectSummaries 와 같은 조인 구조의 COUNT 쿼리
+   */
+  public JPAQuery<Long> countSummaries() {
+    return jpaQueryFactory
+        .select(match.count())
+        .from(match)
+        .join(match.playerOne, playerOne)
+        .join(match.playerTwo, playerTwo);
+  }
+
+  public Optional<PlayerDto.Summary> findPlayerSummary(Long playerId) {
+    return Optional.ofNullable(jpaQueryFactory
+        .select(playerProjection(player, grade))
+        .from(player)
+        .leftJoin(player.grade, grade)
+        .where(player.id.eq(playerId))
+        .fetchOne());
+  }
+
+  public List<PlayerDto.Summary> findPlayerSummaries(Collection<Long> playerIds) {
+    if (playerIds.isEmpty()) {
+      return List.of();
+    }
+    return jpaQueryFactory
+        .select(playerProjection(player, grade))
+        .from(player)
+        .leftJoin(player.grade, grade)
+        .where(player.id.in(playerIds))
+        .fetch();
+  }
+
+  private static ConstructorExpression<MatchDto.Summary> summaryProjection() {
+    return Projections.constructor(MatchDto.Summary.class,
+        match.id,
+        playerProjection(playerOne, playerOneGrade),
+        playerProjection(playerTwo, playerTwoGrade),
+        match.playerOneRace,
+        match.playerTwoRace,
+        match.winner.id,
+        match.streamingUrl,
+        match.mapName,
+        match.createdAt,
+        match.matchTime
+    );
+  }
+
+  static ConstructorExpression<PlayerDto.Summary> playerProjection(QPlayer player, QGrade grade) {
+    return Projections.constructor(PlayerDto.Summary.class,
+        player.id,
+        player.nickname,
+        player.race,
+        player.status,
+        grade.id,
+        grade.name
+    );
+  }
+}
@@ -19,7 +19,21 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
      */
     Page<Match> findByPlayerOneIdOrPlayerTwoId(Long playerOneId, Long playerTwoId, Pageable pageable);
 
-  //      AND (p2.nickname LIKE :oppo or p.nickname LIKE :oppo)
+    /**
+     * 특정 플레이어가 참가한 등록 상태 매치 id (플레이어 삭제 시 매치를 하나씩 삭제하기 위해)
+     */
+    @Query("""
+        SELECT m.id FROM Match m
+        WHERE m.status = com.suclan.suclan.constant.EntityStatus.REGISTERED
+          AND (m.playerOne.id = :playerId OR m.playerTwo.id = :playerId)
+        ORDER BY m.id
+        """)
+    List<Long> findRegisteredIdsByPlayer(@Param("playerId") Long playerId);
+
+  /**
+   * 특정 플레이어의 상대별 전적 (상대 닉네임/종족/등급까지 한 번에 조회)
+   * oppo 가 null 이 아니면 해당 상대만 조회한다.
+   */
   @Query(value = """
        WITH base_cte AS (
           SELECT
@@ -32,14 +46,29 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
           FROM matches m
           WHERE m.status = 'REGISTERED'
             AND (m.player_one_id = :playerId OR m.player_two_id = :playerId)
+        ), grouped AS (
+          SELECT
+            opponent_id,
+            COUNT(*) as total_count,
+            SUM(CASE WHEN winner_id = :playerId THEN 1 END) as win,
+            SUM(CASE WHEN loser_id = :playerId THEN 1 END) as lose
+          FROM base_cte
+          WHERE (CAST(:oppo AS BIGINT) IS NULL OR opponent_id = CAST(:oppo AS BIGINT))
+          GROUP BY opponent_id
         )
-        SELECT 
-          opponent_id,
-          COUNT(*) as total_count,
-          SUM(CASE WHEN winner_id = :playerId THEN 1 END) as win,
-          SUM(CASE WHEN loser_id = :playerId THEN 1 END) as lose
-        From base_cte
-        GROUP BY opponent_id
+        SELECT
+          g.opponent_id,
+          g.total_count,
+          g.win,
+          g.lose,
+          op.nickname as opponent_nickname,
+          op.race as opponent_race,
+          gr.id as opponent_grade_id,
+          gr.name as opponent_grade_name
+        FROM grouped g
+        JOIN players op ON op.id = g.opponent_id
+        LEFT JOIN grades gr ON gr.id = op.grade_id
+        ORDER BY g.total_count DESC, g.opponent_id
     """, countQuery = """
         SELECT COUNT(
           DISTINCT (CASE WHEN m.player_one_id = :playerId THEN m.player_two_id ELSE m.player_one_id END)
@@ -47,6 +76,8 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
         FROM matches m
         WHERE m.status = 'REGISTERED'
             AND (m.player_one_id = :playerId OR m.player_two_id = :playerId)
+            AND (CAST(:oppo AS BIGINT) IS NULL
+              OR (CASE WHEN m.player_one_id = :playerId THEN m.player_two_id ELSE m.player_one_id END) = CAST(:oppo AS BIGINT))
       """
       , nativeQuery = true)
   Page<OpponentSummary> findOpponentSummaries(@Param("playerId") Long playerId,
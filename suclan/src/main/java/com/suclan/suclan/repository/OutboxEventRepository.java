@@ -0,0 +1,24 @@
+package com.suclan.suclan.repository;
+
+import com.suclan.suclan.domain.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  List<OutboxEvent> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+  @Query("SELECT COALESCE(MAX(e.id), 0) FROM OutboxEvent e")
+  long findMaxId();
+
+  // 모든 구독자가 지나간 오래된 이벤트 정리
+  @Modifying
+  @Query("DELETE FROM OutboxEvent e WHERE e.id <= :id AND e.createdAt < :before")
+  int deleteDelivered(@Param("id") long id, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,25 @@
+package com.suclan.suclan.repository;
+
+import com.suclan.suclan.domain.OutboxGap;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxGapRepository extends JpaRepository<OutboxGap, OutboxGap.Key> {
+
+  List<OutboxGap> findBySubscriberOrderByEventIdAsc(String subscriber);
+
+  // 이만큼 지나도 나타나지 않은 id 는 롤백된 것으로 본다
+  @Modifying
+  @Query("DELETE FROM OutboxGap g WHERE g.subscriber = :subscriber AND g.createdAt < :before")
+  int deleteExpired(@Param("subscriber") String subscriber, @Param("before") LocalDateTime before);
+
+  // 종료된 인스턴스 구독자가 남긴 id 까지 정리
+  @Modifying
+  @Query("DELETE FROM OutboxGap g WHERE g.createdAt < :before")
+  int deleteAllExpired(@Param("before") LocalDateTime before);
+}
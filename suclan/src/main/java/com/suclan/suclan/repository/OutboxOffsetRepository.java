@@ -0,0 +1,21 @@
+package com.suclan.suclan.repository;
+
+import com.suclan.suclan.domain.OutboxOffset;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface OutboxOffsetRepository extends JpaRepository<OutboxOffset, String> {
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT o FROM OutboxOffset o WHERE o.subscriber = :subscriber")
+  Optional<OutboxOffset> findForUpdate(@Param("subscriber") String subscriber);
+
+  @Query("SELECT MIN(o.lastEventId) FROM OutboxOffset o WHERE o.subscriber IN :subscribers")
+  Optional<Long> findMinOffset(@Param("subscribers") Collection<String> subscribers);
+}
@@ -10,7 +10,10 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PlayerClanRepository extends JpaRepository<PlayerClan, Long> {
@@ -24,7 +27,26 @@ public interface PlayerClanRepository extends JpaRepository<PlayerClan, Long> {
   @Query("SELECT pc FROM PlayerClan pc WHERE pc.player = :player AND pc.status = :status")
   Optional<PlayerClan> findByPlayerAndStatus(@Param("player") Player player, @Param("status") EntityStatus status);
 
+  // 특정 플레이어의 상태별 클랜 관계 (중복 소속이 남아 있는 기존 데이터까지 조회)
+  List<PlayerClan> findAllByPlayerAndStatus(Player player, EntityStatus status);
+
   // 특정 클랜의 모든 활성 멤버 조회
   @Query("SELECT pc FROM PlayerClan pc WHERE pc.clan = :clan AND pc.status = :status")
   List<PlayerClan> findByClanAndStatus(@Param("clan") Clan clan, @Param("status") EntityStatus status);
-}
\ No newline at end of file
+
+  // 클랜별 활성 멤버 수 (clanId, count)
+  @Query("SELECT pc.clan.id, COUNT(pc) FROM PlayerClan pc WHERE pc.clan.id IN :clanIds AND pc.status = :status GROUP BY pc.clan.id")
+  List<Object[]> countGroupByClan(@Param("clanIds") Collection<Long> clanIds, @Param("status") EntityStatus status);
+
+  // 클랜 id -> 활성 멤버 수. 멤버가 없는 클랜은 맵에 없다
+  default Map<Long, Integer> countActiveMembers(Collection<Long> clanIds) {
+    Map<Long, Integer> counts = new HashMap<>();
+    if (clanIds.isEmpty()) {
+      return counts;
+    }
+    for (Object[] row : countGroupByClan(clanIds, EntityStatus.REGISTERED)) {
+      counts.put((Long) row[0], ((Number) row[1]).intValue());
+    }
+    return counts;
+  }
+}
@@ -0,0 +1,17 @@
+package com.suclan.suclan.repository;
+
+import com.suclan.suclan.domain.PlayerRating;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface PlayerRatingRepository extends JpaRepository<PlayerRating, Long> {
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT r FROM PlayerRating r WHERE r.playerId = :playerId")
+  Optional<PlayerRating> findForUpdate(@Param("playerId") Long playerId);
+}
@@ -2,6 +2,8 @@ package com.suclan.suclan.repository;
 
 import com.suclan.suclan.domain.Player;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -10,4 +12,7 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
 
   boolean existsByNickname(String username);
   Optional<Player> findByNickname(String username);
+
+  @Query("SELECT p.id FROM Player p WHERE p.nickname = :nickname")
+  Optional<Long> findIdByNickname(@Param("nickname") String nickname);
 }
@@ -0,0 +1,33 @@
+package com.suclan.suclan.repository;
+
+import com.suclan.suclan.domain.PlayerStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface PlayerStatsRepository extends JpaRepository<PlayerStats, Long> {
+
+  // 동시 매치 등록 시 카운터 유실 방지
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM PlayerStats s WHERE s.playerId = :playerId")
+  Optional<PlayerStats> findForUpdate(@Param("playerId") Long playerId);
+
+  // 첫 매치가 동시에 들어와도 행은 하나만 생긴다 (이미 있으면 아무것도 하지 않음)
+  @Modifying
+  @Query(value = """
+      INSERT INTO player_stats (
+        player_id, wins, losses, total_matches,
+        vs_zerg_wins, vs_zerg_losses, vs_terran_wins, vs_terran_losses,
+        vs_protoss_wins, vs_protoss_losses, vs_random_wins, vs_random_losses,
+        created_at, updated_at
+      )
+      VALUES (:playerId, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+      ON CONFLICT (player_id) DO NOTHING
+      """, nativeQuery = true)
+  int insertIfAbsent(@Param("playerId") Long playerId);
+}
@@ -0,0 +1,90 @@
+package com.suclan.suclan.repository;
+
+import com.suclan.suclan.constant.EntityStatus;
+import com.suclan.suclan.domain.Clan;
+import com.suclan.suclan.domain.Grade;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * 등급/클랜 이름 조회 (2차 캐시)
+ * 이름 -> id 는 쿼리 캐시(grade-names / clan-names), 엔티티는 엔티티 캐시에서 찾으므로 둘 다 있으면 DB 를 거치지 않는다.
+ * 삭제된 행도 이름을 그대로 갖고 있으므로 REGISTERED 만 찾는다. 이름이 겹치는 기존 행이 있으면 id 가 가장 작은 행을 돌려준다.
+ */
+@Repository
+public class ReferenceDataRepository {
+
+  private static final String GRADE_NAMES = "grade-names";
+  private static final String CLAN_NAMES = "clan-names";
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  public Optional<Grade> findGradeByName(String name) {
+    return findByName(Grade.class, name, GRADE_NAMES);
+  }
+
+  public Optional<Clan> findClanByName(String name) {
+    return findByName(Clan.class, name, CLAN_NAMES);
+  }
+
+  /**
+   * 커밋 후 등급 캐시 제거 (엔티티 + 이름 조회)
+   */
+  public void evictGradeAfterCommit(Long gradeId) {
+    afterCommit(() -> {
+      Cache cache = sessionFactory().getCache();
+      cache.evictEntityData(Grade.class, gradeId);
+      cache.evictQueryRegion(GRADE_NAMES);
+    });
+  }
+
+  /**
+   * 커밋 후 클랜 캐시 제거 (엔티티 + 이름 조회)
+   */
+  public void evictClanAfterCommit(Long clanId) {
+    afterCommit(() -> {
+      Cache cache = sessionFactory().getCache();
+      cache.evictEntityData(Clan.class, clanId);
+      cache.evictQueryRegion(CLAN_NAMES);
+    });
+  }
+
+  private <T> Optional<T> findByName(Class<T> type, String name, String region) {
+    return entityManager.createQuery(
+            "select e from " + type.getSimpleName() + " e where e.name = :name and e.status = :status order by e.id",
+            type)
+        .setParameter("name", name)
+        .setParameter("status", EntityStatus.REGISTERED)
+        .setMaxResults(1)
+        .setHint(HibernateHints.HINT_CACHEABLE, true)
+        .setHint(HibernateHints.HINT_CACHE_REGION, region)
+        .getResultStream()
+        .findFirst();
+  }
+
+  private SessionFactory sessionFactory() {
+    return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+  }
+
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
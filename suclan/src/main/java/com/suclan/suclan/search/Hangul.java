@@ -0,0 +1,93 @@
+package com.suclan.suclan.search;
+
+import java.util.Locale;
+
+/**
+ * 한글 자모 분해 (자동완성 검색 키 생성용)
+ * 완성형 음절과 겹자모를 호환 자모 낱자로 풀어 입력 중인 글자("김ㅊ", "달")도 접두어로 일치시킨다.
+ */
+public final class Hangul {
+
+  private static final char SYLLABLE_BASE = 0xAC00;
+  private static final char SYLLABLE_LAST = 0xD7A3;
+
+  private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+  private static final String[] JUNGSEONG = {
+      "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+      "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+  };
+  private static final String[] JONGSEONG = {
+      "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+      "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+  };
+
+  // 호환 자모 겹글자 -> 낱자
+  private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+  private static final String[] COMPOUND_PARTS = {
+      "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+      "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+  };
+
+  private Hangul() {
+  }
+
+  /**
+   * 소문자화 후 음절/겹자모를 낱자로 분해한다. 공백은 제거한다. ("김철수" -> "ㄱㅣㅁㅊㅓㄹㅅㅜ")
+   */
+  public static String decompose(String text) {
+    StringBuilder out = new StringBuilder(text.length() * 3);
+    for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+      if (Character.isWhitespace(c)) {
+        continue;
+      }
+      if (isSyllable(c)) {
+        int index = c - SYLLABLE_BASE;
+        out.append(CHOSEONG.charAt(index / 588))
+            .append(JUNGSEONG[(index % 588) / 28])
+            .append(JONGSEONG[index % 28]);
+      } else {
+        int compound = COMPOUND_JAMO.indexOf(c);
+        if (compound >= 0) {
+          out.append(COMPOUND_PARTS[compound]);
+        } else {
+          out.append(c);
+        }
+      }
+    }
+    return out.toString();
+  }
+
+  /**
+   * 음절은 초성으로, 그 외 글자는 소문자 그대로 둔다. 공백은 제거한다. ("김철수 A" -> "ㄱㅊㅅa")
+   */
+  public static String choseong(String text) {
+    StringBuilder out = new StringBuilder(text.length());
+    for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+      if (Character.isWhitespace(c)) {
+        continue;
+      }
+      out.append(isSyllable(c) ? CHOSEONG.charAt((c - SYLLABLE_BASE) / 588) : c);
+    }
+    return out.toString();
+  }
+
+  /**
+   * 초성 검색어인지 (호환 자모 자음이 하나 이상 있고 완성형 음절과 모음이 없음)
+   */
+  public static boolean isChoseongQuery(String text) {
+    boolean hasConsonant = false;
+    for (char c : text.toCharArray()) {
+      if (isSyllable(c) || (c >= 'ㅏ' && c <= 'ㅣ')) {
+        return false;
+      }
+      if (CHOSEONG.indexOf(c) >= 0) {
+        hasConsonant = true;
+      }
+    }
+    return hasConsonant;
+  }
+
+  private static boolean isSyllable(char c) {
+    return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+  }
+}
@@ -0,0 +1,123 @@
+package com.suclan.suclan.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * 문자 단위 접두어 트라이 (키 -> long id 목록)
+ * 자식은 정렬된 문자 배열로 보관해 이분 탐색하며, 조회는 접두어 노드에서 깊이 순 BFS 로 limit 개만 모은다.
+ * 동기화는 호출자가 담당한다.
+ */
+public class PrefixTrie {
+
+  private static final char[] NO_KEYS = new char[0];
+  private static final Node[] NO_CHILDREN = new Node[0];
+  private static final long[] NO_IDS = new long[0];
+
+  private final Node root = new Node();
+
+  public void add(String key, long id) {
+    Node node = root;
+    for (int i = 0; i < key.length(); i++) {
+      node = node.childOrCreate(key.charAt(i));
+    }
+    node.addId(id);
+  }
+
+  public void remove(String key, long id) {
+    Node node = root;
+    for (int i = 0; i < key.length() && node != null; i++) {
+      node = node.child(key.charAt(i));
+    }
+    if (node != null) {
+      node.removeId(id);
+    }
+  }
+
+  /**
+   * prefix 로 시작하는 키의 id 를 짧은 키부터 사전순으로 최대 limit 개 (accept 가 false 인 id 는 건너뜀)
+   */
+  public List<Long> collect(String prefix, int limit, LongPredicate accept) {
+    List<Long> result = new ArrayList<>(limit);
+    Node node = root;
+    for (int i = 0; i < prefix.length() && node != null; i++) {
+      node = node.child(prefix.charAt(i));
+    }
+    if (node == null) {
+      return result;
+    }
+    // 자식을 문자 순으로 큐에 넣으므로 같은 깊이(같은 길이) 안에서는 사전순이 유지된다
+    ArrayDeque<Node> queue = new ArrayDeque<>();
+    queue.add(node);
+    while (!queue.isEmpty() && result.size() < limit) {
+      Node current = queue.poll();
+      for (int i = 0; i < current.idCount && result.size() < limit; i++) {
+        if (accept.test(current.ids[i])) {
+          result.add(current.ids[i]);
+        }
+      }
+      for (int i = 0; i < current.childCount; i++) {
+        queue.add(current.children[i]);
+      }
+    }
+    return result;
+  }
+
+  private static final class Node {
+    private char[] keys = NO_KEYS;
+    private Node[] children = NO_CHILDREN;
+    private int childCount;
+    private long[] ids = NO_IDS;
+    private int idCount;
+
+    Node child(char c) {
+      int index = Arrays.binarySearch(keys, 0, childCount, c);
+      return index >= 0 ? children[index] : null;
+    }
+
+    Node childOrCreate(char c) {
+      int index = Arrays.binarySearch(keys, 0, childCount, c);
+      if (index >= 0) {
+        return children[index];
+      }
+      int insert = -index - 1;
+      if (childCount == keys.length) {
+        int capacity = Math.max(2, childCount * 2);
+        keys = Arrays.copyOf(keys, capacity);
+        children = Arrays.copyOf(children, capacity);
+      }
+      System.arraycopy(keys, insert, keys, insert + 1, childCount - insert);
+      System.arraycopy(children, insert, children, insert + 1, childCount - insert);
+      Node child = new Node();
+      keys[insert] = c;
+      children[insert] = child;
+      childCount++;
+      return child;
+    }
+
+    void addId(long id) {
+      for (int i = 0; i < idCount; i++) {
+        if (ids[i] == id) {
+          return;
+        }
+      }
+      if (idCount == ids.length) {
+        ids = Arrays.copyOf(ids, Math.max(1, idCount * 2));
+      }
+      ids[idCount++] = id;
+    }
+
+    void removeId(long id) {
+      for (int i = 0; i < idCount; i++) {
+        if (ids[i] == id) {
+          System.arraycopy(ids, i + 1, ids, i, idCount - i - 1);
+          idCount--;
+          return;
+        }
+      }
+    }
+  }
+}
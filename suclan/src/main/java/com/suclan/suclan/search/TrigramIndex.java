@@ -0,0 +1,189 @@
+package com.suclan.suclan.search;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 trigram 색인 (pg_trgm 이 없는 H2 등에서 사용)
+ * 문자열을 pg_trgm 과 같은 방식("  " + 소문자 + " ")으로 trigram 으로 나누고, trigram 별 문서 목록을 보관한다.
+ * 점수는 pg_trgm similarity 와 같은 공유 trigram 비율이며, 포함 / 접두 / 완전 일치는 그보다 앞에 둔다.
+ * 문서 수정은 기존 슬롯을 비우고 새 슬롯에 추가하며, 비워진 슬롯은 다음 전체 적재 때 정리된다.
+ */
+public class TrigramIndex {
+
+  public static final double SIMILARITY_THRESHOLD = 0.3;
+
+  private final Map<String, int[]> postings = new HashMap<>();
+  private final Map<String, Integer> postingSizes = new HashMap<>();
+  private final Map<Long, Integer> slots = new HashMap<>();
+  private long[] ids = new long[1024];
+  private String[] texts = new String[1024];
+  private String[] normalizedTexts = new String[1024];
+  private int[] trigramCounts = new int[1024];
+  private int size;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  public void put(long id, String text) {
+    lock.writeLock().lock();
+    try {
+      removeSlot(id);
+      if (text == null || text.isBlank()) {
+        return;
+      }
+      String normalized = normalize(text);
+      if (size == ids.length) {
+        ids = Arrays.copyOf(ids, size * 2);
+        texts = Arrays.copyOf(texts, size * 2);
+        normalizedTexts = Arrays.copyOf(normalizedTexts, size * 2);
+        trigramCounts = Arrays.copyOf(trigramCounts, size * 2);
+      }
+      int slot = size++;
+      ids[slot] = id;
+      texts[slot] = text;
+      normalizedTexts[slot] = normalized;
+      Set<String> trigrams = trigrams(normalized);
+      trigramCounts[slot] = trigrams.size();
+      for (String trigram : trigrams) {
+        int count = postingSizes.getOrDefault(trigram, 0);
+        int[] posting = postings.computeIfAbsent(trigram, t -> new int[4]);
+        if (count == posting.length) {
+          posting = Arrays.copyOf(posting, count * 2);
+          postings.put(trigram, posting);
+        }
+        posting[count] = slot;
+        postingSizes.put(trigram, count + 1);
+      }
+      slots.put(id, slot);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(long id) {
+    lock.writeLock().lock();
+    try {
+      removeSlot(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public List<Hit> search(String query, int limit) {
+    String q = normalize(query);
+    if (q.isEmpty()) {
+      return List.of();
+    }
+    lock.readLock().lock();
+    try {
+      List<Hit> hits = new ArrayList<>();
+      if (q.length() < 3) {
+        // trigram 이 만들어지지 않는 짧은 검색어는 포함 여부만 본다
+        for (int slot = 0; slot < size; slot++) {
+          if (texts[slot] != null && normalizedTexts[slot].contains(q)) {
+            hits.add(new Hit(ids[slot], texts[slot], rank(q, normalizedTexts[slot], 0)));
+          }
+        }
+      } else {
+        Set<String> queryTrigrams = trigrams(q);
+        int[] shared = new int[size];
+        List<Integer> touched = new ArrayList<>();
+        for (String trigram : queryTrigrams) {
+          int[] posting = postings.get(trigram);
+          if (posting == null) {
+            continue;
+          }
+          int count = postingSizes.get(trigram);
+          for (int i = 0; i < count; i++) {
+            int slot = posting[i];
+            if (shared[slot]++ == 0) {
+              touched.add(slot);
+            }
+          }
+        }
+        for (int slot : touched) {
+          if (texts[slot] == null) {
+            continue;
+          }
+          double similarity = (double) shared[slot] / (queryTrigrams.size() + trigramCounts[slot] - shared[slot]);
+          String text = normalizedTexts[slot];
+          if (similarity >= SIMILARITY_THRESHOLD || text.contains(q)) {
+            hits.add(new Hit(ids[slot], texts[slot], rank(q, text, similarity)));
+          }
+        }
+      }
+      hits.sort((a, b) -> a.getScore() != b.getScore()
+          ? Double.compare(b.getScore(), a.getScore())
+          : a.getText().compareTo(b.getText()));
+      return hits.size() > limit ? hits.subList(0, limit) : hits;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return slots.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // 완전 일치 3 + / 접두 2 + / 포함 1 + / 유사도 (0~1)
+  static double rank(String query, String text, double similarity) {
+    if (text.equals(query)) {
+      return 3 + similarity;
+    }
+    if (text.startsWith(query)) {
+      return 2 + similarity;
+    }
+    if (text.contains(query)) {
+      return 1 + similarity;
+    }
+    return similarity;
+  }
+
+  static String normalize(String text) {
+    return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+  }
+
+  static Set<String> trigrams(String normalized) {
+    Set<String> trigrams = new LinkedHashSet<>();
+    for (String word : normalized.split("\\s+")) {
+      if (word.isEmpty()) {
+        continue;
+      }
+      String padded = "  " + word + " ";
+      for (int i = 0; i + 3 <= padded.length(); i++) {
+        trigrams.add(padded.substring(i, i + 3));
+      }
+    }
+    return trigrams;
+  }
+
+  private void removeSlot(long id) {
+    Integer slot = slots.remove(id);
+    if (slot != null) {
+      texts[slot] = null;
+      normalizedTexts[slot] = null;
+    }
+  }
+
+  @Value
+  public static class Hit {
+    long id;
+    String text;
+    double score;
+  }
+}
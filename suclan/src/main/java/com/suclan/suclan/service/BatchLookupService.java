@@ -0,0 +1,118 @@
+package com.suclan.suclan.service;
+
+import com.suclan.suclan.dto.BatchRequest;
+import com.suclan.suclan.dto.MatchDto;
+import com.suclan.suclan.dto.PlayerDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 플레이어 / 매치 일괄 조회
+ * 같은 id 묶음을 동시에(또는 collapse-window-ms 안에) 요청하면 먼저 온 요청의 쿼리 결과를 함께 쓴다.
+ * 대회 화면처럼 여러 클라이언트가 같은 목록을 거의 동시에 여는 경우 쿼리가 한 번만 나간다.
+ */
+@Service
+public class BatchLookupService {
+
+  private final PlayerService playerService;
+  private final MatchService matchService;
+  private final int maxIds;
+  private final Collapser<PlayerDto.Summary> players;
+  private final Collapser<MatchDto.Summary> matches;
+
+  public BatchLookupService(PlayerService playerService,
+                            MatchService matchService,
+                            @Value("${batch-lookup.max-ids:100}") int maxIds,
+                            @Value("${batch-lookup.collapse-window-ms:50}") long collapseWindowMillis) {
+    this.playerService = playerService;
+    this.matchService = matchService;
+    this.maxIds = maxIds;
+    this.players = new Collapser<>(collapseWindowMillis);
+    this.matches = new Collapser<>(collapseWindowMillis);
+  }
+
+  public Map<Long, PlayerDto.Summary> getPlayers(BatchRequest request) {
+    List<Long> ids = validate(request);
+    return inRequestOrder(ids, players.load(ids, playerService::getPlayerSummaries));
+  }
+
+  public Map<Long, MatchDto.Summary> getMatches(BatchRequest request) {
+    List<Long> ids = validate(request);
+    return inRequestOrder(ids, matches.load(ids, matchService::getMatchSummaries));
+  }
+
+  private List<Long> validate(BatchRequest request) {
+    if (request == null || request.getIds() == null || request.getIds().isEmpty()) {
+      throw new IllegalArgumentException("ids 가 필요합니다");
+    }
+    List<Long> ids = request.getIds().stream().filter(Objects::nonNull).distinct().toList();
+    if (ids.size() > maxIds) {
+      throw new IllegalArgumentException("한 번에 최대 " + maxIds + "개까지 조회할 수 있습니다: " + ids.size());
+    }
+    return ids;
+  }
+
+  // 없는 id 는 응답에서 빠진다
+  private static <V> Map<Long, V> inRequestOrder(List<Long> ids, Map<Long, V> found) {
+    Map<Long, V> result = new LinkedHashMap<>();
+    for (Long id : ids) {
+      V value = found.get(id);
+      if (value != null) {
+        result.put(id, value);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 같은 id 집합 조회를 하나로 합친다
+   * 진행 중인 조회가 있으면 그 결과를 기다리고, 끝난 뒤에도 window 동안은 결과를 재사용한다 (실패는 바로 버린다).
+   */
+  private static final class Collapser<V> {
+    private final long windowMillis;
+    private final Map<Set<Long>, CompletableFuture<Map<Long, V>>> inFlight = new ConcurrentHashMap<>();
+
+    private Collapser(long windowMillis) {
+      this.windowMillis = windowMillis;
+    }
+
+    Map<Long, V> load(Collection<Long> ids, Function<Collection<Long>, Map<Long, V>> loader) {
+      Set<Long> key = new TreeSet<>(ids);
+      CompletableFuture<Map<Long, V>> mine = new CompletableFuture<>();
+      CompletableFuture<Map<Long, V>> shared = inFlight.putIfAbsent(key, mine);
+      if (shared == null) {
+        // 이 요청이 대표로 조회한다 (호출 스레드에서 실행, 트랜잭션도 여기서 열린다)
+        try {
+          mine.complete(Map.copyOf(loader.apply(key)));
+          CompletableFuture.delayedExecutor(windowMillis, TimeUnit.MILLISECONDS)
+              .execute(() -> inFlight.remove(key, mine));
+        } catch (RuntimeException e) {
+          inFlight.remove(key, mine);
+          mine.completeExceptionally(e);
+        }
+        shared = mine;
+      }
+      try {
+        return shared.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        throw e;
+      }
+    }
+  }
+}
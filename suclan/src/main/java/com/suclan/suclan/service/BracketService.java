@@ -0,0 +1,540 @@
+package com.suclan.suclan.service;
+
+import com.suclan.suclan.bracket.BracketPlanner;
+import com.suclan.suclan.bracket.SwissPairing;
+import com.suclan.suclan.constant.BracketFormat;
+import com.suclan.suclan.constant.BracketSide;
+import com.suclan.suclan.constant.EntityStatus;
+import com.suclan.suclan.domain.Bracket;
+import com.suclan.suclan.domain.BracketEntry;
+import com.suclan.suclan.domain.BracketSlot;
+import com.suclan.suclan.domain.Contest;
+import com.suclan.suclan.domain.Match;
+import com.suclan.suclan.domain.Player;
+import com.suclan.suclan.dto.BracketDto;
+import com.suclan.suclan.dto.MatchOutcome;
+import com.suclan.suclan.dto.PlayerDto;
+import com.suclan.suclan.event.ContestChanged;
+import com.suclan.suclan.event.MatchChangedEvent;
+import com.suclan.suclan.exception.ResourceNotFoundException;
+import com.suclan.suclan.repository.BracketEntryRepository;
+import com.suclan.suclan.repository.BracketRepository;
+import com.suclan.suclan.repository.BracketSlotRepository;
+import com.suclan.suclan.repository.MatchQueryRepository;
+import com.suclan.suclan.repository.MatchRepository;
+import com.suclan.suclan.repository.PlayerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대회 대진표 (싱글/더블 엘리미네이션, 스위스, 풀리그)
+ * 매치 결과가 바뀌면 같은 트랜잭션에서 승자/패자를 다음 자리로 보내고 순위 집계를 증분 갱신한다.
+ * 스위스는 라운드의 마지막 결과가 들어올 때 현재 순위표로 다음 라운드 대진을 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BracketService {
+
+  public static final int MAX_PLAYERS = 1024;
+
+  private final BracketRepository bracketRepository;
+  private final BracketSlotRepository slotRepository;
+  private final BracketEntryRepository entryRepository;
+  private final ContestService contestService;
+  private final ResourceVersionService resourceVersionService;
+  private final OutboxService outboxService;
+  private final PlayerRepository playerRepository;
+  private final MatchRepository matchRepository;
+  private final MatchQueryRepository matchQueryRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Transactional
+  public BracketDto.Response createBracket(Long contestId, BracketDto.CreateRequest request) {
+    Contest contest = contestService.findContestById(contestId);
+    if (bracketRepository.findByContestId(contestId).isPresent()) {
+      throw new IllegalArgumentException("이미 대진표가 있는 대회입니다: " + contestId);
+    }
+    if (request.getFormat() == null) {
+      throw new IllegalArgumentException("format 이 필요합니다");
+    }
+    List<Long> seeds = request.getPlayerIds() == null ? List.of() : List.copyOf(new LinkedHashSet<>(request.getPlayerIds()));
+    if (seeds.size() < 2 || seeds.size() > MAX_PLAYERS) {
+      throw new IllegalArgumentException("참가자는 2 ~ " + MAX_PLAYERS + "명이어야 합니다: " + seeds.size());
+    }
+
+    Map<Long, Player> players = playerRepository.findAllById(seeds).stream()
+        .collect(Collectors.toMap(Player::getId, Function.identity()));
+    for (Long playerId : seeds) {
+      Player player = players.get(playerId);
+      if (player == null || player.getStatus() != EntityStatus.REGISTERED) {
+        throw new ResourceNotFoundException("Player not found with id: " + playerId);
+      }
+      player.getContest().add(contest);
+    }
+    resourceVersionService.bumpAfterCommit(ResourceVersionService.contestKey(contest.getId()));
+    outboxService.append(new ContestChanged(ContestChanged.Type.UPDATED, contest.getId()));
+
+    List<BracketPlanner.SlotPlan> plans = switch (request.getFormat()) {
+      case SINGLE_ELIMINATION -> BracketPlanner.singleElimination(seeds);
+      case DOUBLE_ELIMINATION -> BracketPlanner.doubleElimination(seeds);
+      case ROUND_ROBIN -> BracketPlanner.roundRobin(seeds);
+      case SWISS -> List.of();
+    };
+
+    Bracket bracket = bracketRepository.save(Bracket.builder()
+        .contestId(contestId)
+        .format(request.getFormat())
+        .totalRounds(totalRounds(request, plans, seeds.size()))
+        .build());
+
+    List<BracketEntry> entries = new ArrayList<>(seeds.size());
+    for (int i = 0; i < seeds.size(); i++) {
+      entries.add(BracketEntry.builder().bracketId(bracket.getId()).playerId(seeds.get(i)).seed(i + 1).build());
+    }
+    entryRepository.saveAll(entries);
+
+    if (request.getFormat() == BracketFormat.SWISS) {
+      pairSwissRound(bracket, 1);
+    } else {
+      bracket.setCurrentRound(request.getFormat() == BracketFormat.ROUND_ROBIN ? bracket.getTotalRounds() : 1);
+      persistPlan(bracket, plans);
+    }
+    return convertToResponse(bracket, slotRepository.findByBracketId(bracket.getId()));
+  }
+
+  @Transactional(readOnly = true)
+  public BracketDto.Response getBracket(Long contestId, Integer round) {
+    Bracket bracket = findByContest(contestId);
+    List<BracketSlot> slots = round != null
+        ? slotRepository.findByBracketIdAndRound(bracket.getId(), round)
+        : slotRepository.findByBracketId(bracket.getId());
+    return convertToResponse(bracket, slots);
+  }
+
+  @Transactional(readOnly = true)
+  public List<BracketDto.Standing> getStandings(Long contestId) {
+    Bracket bracket = findByContest(contestId);
+    List<BracketEntry> entries = entryRepository.findStandings(bracket.getId());
+    Map<Long, PlayerDto.Summary> players = matchQueryRepository.findPlayerSummaries(
+            entries.stream().map(BracketEntry::getPlayerId).toList()).stream()
+        .collect(Collectors.toMap(PlayerDto.Summary::getId, Function.identity()));
+
+    List<BracketDto.Standing> standings = new ArrayList<>(entries.size());
+    for (BracketEntry entry : entries) {
+      standings.add(BracketDto.Standing.builder()
+          .rank(standings.size() + 1)
+          .player(players.get(entry.getPlayerId()))
+          .seed(entry.getSeed())
+          .wins(entry.getWins())
+          .losses(entry.getLosses())
+          .buchholz(entry.getBuchholz())
+          .byes(entry.getByes())
+          .eliminated(entry.getEliminatedOrder() != null)
+          .build());
+    }
+    return standings;
+  }
+
+  /**
+   * 대진표 매치의 결과 반영 (MatchService 트랜잭션 안에서 실행, 예외를 던지면 매치 수정도 취소된다)
+   */
+  @EventListener
+  @Transactional
+  public void onMatchChanged(MatchChangedEvent event) {
+    if (event.getType() == MatchChangedEvent.Type.CREATED) {
+      return;
+    }
+    Optional<Long> bracketId = slotRepository.findBracketIdByMatchId(event.getMatchId());
+    if (bracketId.isEmpty()) {
+      return;
+    }
+    // 자리 상태는 대진표 잠금을 잡은 뒤에 읽는다
+    Bracket bracket = bracketRepository.findForUpdate(bracketId.get())
+        .orElseThrow(() -> new ResourceNotFoundException("Bracket not found with id: " + bracketId.get()));
+    BracketSlot slot = slotRepository.findByMatchId(event.getMatchId())
+        .orElseThrow(() -> new ResourceNotFoundException("Bracket slot not found for match: " + event.getMatchId()));
+
+    if (event.getType() == MatchChangedEvent.Type.DELETED) {
+      throw new IllegalArgumentException("대진표 매치는 삭제할 수 없습니다: " + event.getMatchId());
+    }
+    Match match = matchRepository.findById(event.getMatchId())
+        .orElseThrow(() -> new ResourceNotFoundException("Match not found with id: " + event.getMatchId()));
+    if (match.getStatus() != EntityStatus.REGISTERED) {
+      throw new IllegalArgumentException("대진표 매치는 삭제할 수 없습니다: " + match.getId());
+    }
+    if (!slot.hasPlayer(match.getPlayerOne().getId()) || !slot.hasPlayer(match.getPlayerTwo().getId())) {
+      throw new IllegalArgumentException("대진표 매치의 선수는 바꿀 수 없습니다: " + match.getId());
+    }
+
+    MatchOutcome after = event.getAfter();
+    if (after == null) {
+      if (slot.isFinished()) {
+        throw new IllegalArgumentException("대진표 매치의 결과는 지울 수 없습니다: " + match.getId());
+      }
+      return;
+    }
+    if (slot.isFinished()) {
+      if (!after.getWinnerId().equals(slot.getWinnerId())) {
+        correct(bracket, slot, after.getWinnerId(), after.getLoserId());
+      }
+      return;
+    }
+    record(bracket, slot, after.getWinnerId(), after.getLoserId());
+  }
+
+  private void record(Bracket bracket, BracketSlot slot, Long winnerId, Long loserId) {
+    slot.setWinnerId(winnerId);
+    slot.setLoserId(loserId);
+    slot.setFinished(true);
+    updateStandings(bracket, slot, winnerId, loserId, 1);
+    if (bracket.getFormat().isElimination() && slot.getLoserToSlotId() == null) {
+      eliminate(bracket, loserId);
+    }
+    forward(bracket, slot, winnerId, loserId);
+    if (!bracket.getFormat().isElimination()) {
+      advanceRound(bracket, slot.getRound());
+    }
+  }
+
+  /**
+   * 결과 정정 (승자가 바뀐 경우). 다음 자리의 경기가 이미 끝났거나 다음 스위스 라운드가 짜였으면 거부한다.
+   */
+  private void correct(Bracket bracket, BracketSlot slot, Long winnerId, Long loserId) {
+    boolean downstreamPlayed = isFinished(slot.getWinnerToSlotId()) || isFinished(slot.getLoserToSlotId());
+    boolean nextRoundPaired = bracket.getFormat() == BracketFormat.SWISS && slot.getRound() < bracket.getCurrentRound();
+    if (downstreamPlayed || nextRoundPaired || (bracket.isCompleted() && !bracket.getFormat().isElimination())) {
+      throw new IllegalArgumentException("이후 경기가 진행되어 결과를 바꿀 수 없습니다: " + slot.getMatchId());
+    }
+
+    updateStandings(bracket, slot, slot.getWinnerId(), slot.getLoserId(), -1);
+    updateStandings(bracket, slot, winnerId, loserId, 1);
+    slot.setWinnerId(winnerId);
+    slot.setLoserId(loserId);
+
+    if (bracket.getFormat().isElimination()) {
+      if (slot.getLoserToSlotId() == null) {
+        // 탈락 순서는 그대로 두고 탈락자만 바꾼다
+        BracketEntry previous = entry(bracket, winnerId);
+        entry(bracket, loserId).setEliminatedOrder(previous.getEliminatedOrder());
+        previous.setEliminatedOrder(null);
+      }
+      replaceInput(slot.getWinnerToSlotId(), slot.getWinnerToInput(), winnerId);
+      replaceInput(slot.getLoserToSlotId(), slot.getLoserToInput(), loserId);
+      if (slot.getWinnerToSlotId() == null) {
+        bracket.setChampionId(winnerId);
+      }
+    }
+  }
+
+  private void persistPlan(Bracket bracket, List<BracketPlanner.SlotPlan> plans) {
+    List<BracketSlot> slots = new ArrayList<>(plans.size());
+    for (BracketPlanner.SlotPlan plan : plans) {
+      BracketSlot slot = BracketSlot.builder()
+          .bracketId(bracket.getId())
+          .side(plan.getSide())
+          .round(plan.getRound())
+          .position(plan.getPosition())
+          .playerOneId(plan.getPlayerOneId())
+          .playerTwoId(plan.getPlayerTwoId())
+          .resolvedInputs(plan.isSeeded() ? BracketSlot.INPUT_ONE | BracketSlot.INPUT_TWO : 0)
+          .build();
+      slots.add(slot);
+    }
+    slotRepository.saveAll(slots);
+
+    for (int i = 0; i < plans.size(); i++) {
+      BracketPlanner.SlotPlan plan = plans.get(i);
+      BracketSlot slot = slots.get(i);
+      if (plan.getWinnerTo() >= 0) {
+        slot.setWinnerToSlotId(slots.get(plan.getWinnerTo()).getId());
+        slot.setWinnerToInput(plan.getWinnerInput());
+      }
+      if (plan.getLoserTo() >= 0) {
+        slot.setLoserToSlotId(slots.get(plan.getLoserTo()).getId());
+        slot.setLoserToInput(plan.getLoserInput());
+      }
+    }
+    for (BracketSlot slot : slots) {
+      if (slot.isReady()) {
+        resolve(bracket, slot);
+      }
+    }
+  }
+
+  // 두 입력이 정해진 자리: 둘 다 있으면 매치 생성, 하나면 부전승, 둘 다 비면 빈 자리로 넘긴다
+  private void resolve(Bracket bracket, BracketSlot slot) {
+    if (slot.isPlayable()) {
+      if (slot.getMatchId() == null) {
+        createMatch(bracket, slot);
+      }
+      return;
+    }
+    Long advancing = slot.getPlayerOneId() != null ? slot.getPlayerOneId() : slot.getPlayerTwoId();
+    slot.setWinnerId(advancing);
+    slot.setFinished(true);
+    forward(bracket, slot, advancing, null);
+  }
+
+  private void forward(Bracket bracket, BracketSlot slot, Long winnerId, Long loserId) {
+    if (slot.getWinnerToSlotId() != null) {
+      feed(bracket, slot.getWinnerToSlotId(), slot.getWinnerToInput(), winnerId);
+    } else if (bracket.getFormat().isElimination() && winnerId != null) {
+      bracket.setChampionId(winnerId);
+      bracket.setCompleted(true);
+    }
+    if (slot.getLoserToSlotId() != null) {
+      feed(bracket, slot.getLoserToSlotId(), slot.getLoserToInput(), loserId);
+    }
+  }
+
+  private void feed(Bracket bracket, Long slotId, int input, Long playerId) {
+    BracketSlot target = slot(slotId);
+    target.feed(input, playerId);
+    if (target.isReady()) {
+      resolve(bracket, target);
+    }
+  }
+
+  private void replaceInput(Long slotId, int input, Long playerId) {
+    if (slotId == null) {
+      return;
+    }
+    BracketSlot target = slot(slotId);
+    target.setPlayer(input, playerId);
+    if (target.getMatchId() != null) {
+      Player player = playerRepository.getReferenceById(playerId);
+      Match match = matchRepository.findById(target.getMatchId())
+          .orElseThrow(() -> new ResourceNotFoundException("Match not found with id: " + target.getMatchId()));
+      if (input == BracketSlot.INPUT_ONE) {
+        match.setPlayerOne(player);
+        match.setPlayerOneRace(player.getRace());
+      } else {
+        match.setPlayerTwo(player);
+        match.setPlayerTwoRace(player.getRace());
+      }
+    }
+  }
+
+  private void createMatch(Bracket bracket, BracketSlot slot) {
+    Player one = playerRepository.getReferenceById(slot.getPlayerOneId());
+    Player two = playerRepository.getReferenceById(slot.getPlayerTwoId());
+    Match match = matchRepository.save(Match.builder()
+        .playerOne(one)
+        .playerTwo(two)
+        .playerOneRace(one.getRace())
+        .playerTwoRace(two.getRace())
+        .contest(contestService.findContestById(bracket.getContestId()))
+        .description(describe(slot))
+        .build());
+    slot.setMatchId(match.getId());
+    eventPublisher.publishEvent(new MatchChangedEvent(MatchChangedEvent.Type.CREATED, match.getId(), null, null));
+  }
+
+  // 스위스 / 풀리그: 라운드의 마지막 결과면 다음 라운드 대진 또는 종료
+  private void advanceRound(Bracket bracket, int round) {
+    if (slotRepository.countByBracketIdAndRoundAndFinishedFalse(bracket.getId(), round) > 0) {
+      return;
+    }
+    if (bracket.getFormat() == BracketFormat.ROUND_ROBIN) {
+      if (slotRepository.countByBracketIdAndFinishedFalse(bracket.getId()) == 0) {
+        complete(bracket);
+      }
+      return;
+    }
+    if (round != bracket.getCurrentRound()) {
+      return;
+    }
+    if (bracket.getCurrentRound() >= bracket.getTotalRounds()) {
+      complete(bracket);
+    } else {
+      pairSwissRound(bracket, round + 1);
+    }
+  }
+
+  private void pairSwissRound(Bracket bracket, int round) {
+    List<SwissPairing.Player> ranked = entryRepository.findStandings(bracket.getId()).stream()
+        .map(e -> new SwissPairing.Player(e.getPlayerId(), e.getWins(), e.getByes() > 0))
+        .toList();
+    Set<Long> played = new HashSet<>();
+    for (BracketSlot slot : slotRepository.findByBracketId(bracket.getId())) {
+      if (slot.isPlayable()) {
+        played.add(SwissPairing.pairKey(slot.getPlayerOneId(), slot.getPlayerTwoId()));
+      }
+    }
+
+    SwissPairing.Result result = SwissPairing.pair(ranked, played);
+    bracket.setCurrentRound(round);
+
+    int position = 0;
+    for (long[] pair : result.getPairs()) {
+      BracketSlot slot = slotRepository.save(BracketSlot.builder()
+          .bracketId(bracket.getId())
+          .side(BracketSide.MAIN)
+          .round(round)
+          .position(position++)
+          .playerOneId(pair[0])
+          .playerTwoId(pair[1])
+          .resolvedInputs(BracketSlot.INPUT_ONE | BracketSlot.INPUT_TWO)
+          .build());
+      createMatch(bracket, slot);
+    }
+    if (result.getByePlayerId() != null) {
+      Long byeId = result.getByePlayerId();
+      BracketSlot bye = slotRepository.save(BracketSlot.builder()
+          .bracketId(bracket.getId())
+          .side(BracketSide.MAIN)
+          .round(round)
+          .position(position)
+          .playerOneId(byeId)
+          .resolvedInputs(BracketSlot.INPUT_ONE | BracketSlot.INPUT_TWO)
+          .winnerId(byeId)
+          .finished(true)
+          .build());
+      // 부전승은 1승으로 치고, 이 선수의 기존 상대들 부흐홀츠도 함께 오른다
+      BracketEntry entry = entry(bracket, byeId);
+      entry.setWins(entry.getWins() + 1);
+      entry.setByes(entry.getByes() + 1);
+      addToOpponents(bracket, byeId, bye.getId(), 1);
+    }
+  }
+
+  /**
+   * 승/패와 부흐홀츠 증분 갱신 (delta = -1 이면 되돌림)
+   * 부흐홀츠 = 상대한 선수들의 현재 승수 합이므로, 승자의 승수가 바뀐 만큼 승자의 다른 상대들에게도 반영한다.
+   */
+  private void updateStandings(Bracket bracket, BracketSlot slot, Long winnerId, Long loserId, int delta) {
+    BracketEntry winner = entry(bracket, winnerId);
+    BracketEntry loser = entry(bracket, loserId);
+    boolean scored = !bracket.getFormat().isElimination();
+
+    if (delta > 0) {
+      winner.setWins(winner.getWins() + 1);
+      loser.setLosses(loser.getLosses() + 1);
+      if (scored) {
+        winner.addBuchholz(loser.getWins());
+        loser.addBuchholz(winner.getWins());
+      }
+    } else {
+      if (scored) {
+        winner.addBuchholz(-loser.getWins());
+        loser.addBuchholz(-winner.getWins());
+      }
+      winner.setWins(winner.getWins() - 1);
+      loser.setLosses(loser.getLosses() - 1);
+    }
+    if (scored) {
+      addToOpponents(bracket, winnerId, slot.getId(), delta);
+    }
+  }
+
+  private void addToOpponents(Bracket bracket, Long playerId, Long excludeSlotId, int delta) {
+    for (BracketSlot played : slotRepository.findPlayedByPlayer(bracket.getId(), playerId, excludeSlotId)) {
+      Long opponent = playerId.equals(played.getPlayerOneId()) ? played.getPlayerTwoId() : played.getPlayerOneId();
+      entry(bracket, opponent).addBuchholz(delta);
+    }
+  }
+
+  private void eliminate(Bracket bracket, Long playerId) {
+    bracket.setEliminations(bracket.getEliminations() + 1);
+    entry(bracket, playerId).setEliminatedOrder(bracket.getEliminations());
+  }
+
+  private void complete(Bracket bracket) {
+    bracket.setCompleted(true);
+    List<BracketEntry> standings = entryRepository.findStandings(bracket.getId());
+    bracket.setChampionId(standings.isEmpty() ? null : standings.get(0).getPlayerId());
+  }
+
+  private boolean isFinished(Long slotId) {
+    return slotId != null && slot(slotId).isFinished();
+  }
+
+  private BracketSlot slot(Long slotId) {
+    return slotRepository.findById(slotId)
+        .orElseThrow(() -> new ResourceNotFoundException("Bracket slot not found with id: " + slotId));
+  }
+
+  private BracketEntry entry(Bracket bracket, Long playerId) {
+    return entryRepository.findById(new BracketEntry.Key(bracket.getId(), playerId))
+        .orElseThrow(() -> new ResourceNotFoundException("Bracket entry not found for player: " + playerId));
+  }
+
+  private Bracket findByContest(Long contestId) {
+    return bracketRepository.findByContestId(contestId)
+        .orElseThrow(() -> new ResourceNotFoundException("Bracket not found for contest: " + contestId));
+  }
+
+  private static int totalRounds(BracketDto.CreateRequest request, List<BracketPlanner.SlotPlan> plans, int players) {
+    if (request.getFormat() == BracketFormat.SWISS) {
+      int rounds = request.getRounds() != null ? request.getRounds() : BracketPlanner.swissRounds(players);
+      if (rounds < 1 || rounds > players - 1) {
+        throw new IllegalArgumentException("스위스 라운드 수는 1 ~ " + (players - 1) + " 사이여야 합니다: " + rounds);
+      }
+      return rounds;
+    }
+    if (request.getFormat() == BracketFormat.ROUND_ROBIN) {
+      return BracketPlanner.roundRobinRounds(players);
+    }
+    return plans.stream()
+        .filter(plan -> plan.getSide() == BracketSide.MAIN)
+        .mapToInt(BracketPlanner.SlotPlan::getRound)
+        .max()
+        .orElse(0);
+  }
+
+  private static String describe(BracketSlot slot) {
+    return switch (slot.getSide()) {
+      case MAIN -> slot.getRound() + "라운드 " + (slot.getPosition() + 1) + "경기";
+      case LOWER -> "패자조 " + slot.getRound() + "라운드 " + (slot.getPosition() + 1) + "경기";
+      case FINAL -> "결승";
+    };
+  }
+
+  private BracketDto.Response convertToResponse(Bracket bracket, List<BracketSlot> slots) {
+    return BracketDto.Response.builder()
+        .id(bracket.getId())
+        .contestId(bracket.getContestId())
+        .format(bracket.getFormat())
+        .totalRounds(bracket.getTotalRounds())
+        .currentRound(bracket.getCurrentRound())
+        .completed(bracket.isCompleted())
+        .championId(bracket.getChampionId())
+        .slots(slots.stream()
+            .sorted(Comparator.comparing(BracketSlot::getSide)
+                .thenComparingInt(BracketSlot::getRound)
+                .thenComparingInt(BracketSlot::getPosition))
+            .map(this::convertSlot)
+            .toList())
+        .build();
+  }
+
+  private BracketDto.Slot convertSlot(BracketSlot slot) {
+    return BracketDto.Slot.builder()
+        .id(slot.getId())
+        .side(slot.getSide())
+        .round(slot.getRound())
+        .position(slot.getPosition())
+        .playerOneId(slot.getPlayerOneId())
+        .playerTwoId(slot.getPlayerTwoId())
+        .matchId(slot.getMatchId())
+        .winnerId(slot.getWinnerId())
+        .finished(slot.isFinished())
+        .build();
+  }
+}
@@ -0,0 +1,108 @@
+package com.suclan.suclan.service;
+
+import com.suclan.suclan.event.ClanMembershipChanged;
+import com.suclan.suclan.event.DomainEvent;
+import com.suclan.suclan.event.DomainEventSubscriber;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 클랜별 활성 멤버 수 (아웃박스 구독 읽기 모델)
+ * 목록 API 마다 player_clans 를 GROUP BY 하지 않도록 선수 -> 현재 클랜을 메모리에 두고,
+ * ClanMembershipChanged 를 받으면 그 선수의 현재 소속을 DB 에서 다시 읽는다.
+ * 이벤트 내용 대신 현재 상태를 읽으므로 중복 / 순서 뒤바뀐 전달에도 결과가 같다. 반영은 폴링 주기만큼 늦다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClanRosterService implements DomainEventSubscriber {
+
+  private static final String MEMBERSHIP_SQL = """
+      SELECT pc.player_id, pc.clan_id
+      FROM player_clans pc
+      WHERE pc.status = 'REGISTERED'
+      ORDER BY pc.joined_at, pc.id
+      """;
+
+  private static final String PLAYER_MEMBERSHIP_SQL = """
+      SELECT pc.clan_id
+      FROM player_clans pc
+      WHERE pc.status = 'REGISTERED'
+        AND pc.player_id = ?
+      ORDER BY pc.joined_at DESC, pc.id DESC
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final Map<Long, Long> clanByPlayer = new HashMap<>();
+  private final Map<Long, Integer> memberCounts = new HashMap<>();
+
+  @Override
+  public String name() {
+    return "clan-roster";
+  }
+
+  // 인스턴스마다 자기 메모리 사본을 갱신해야 한다
+  @Override
+  public boolean perInstance() {
+    return true;
+  }
+
+  // 조회와 반영을 같은 잠금 안에서 해야 적재와 이벤트 처리가 엇갈려도 오래된 값으로 덮어쓰지 않는다
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void load() {
+    clanByPlayer.clear();
+    memberCounts.clear();
+    jdbcTemplate.query(MEMBERSHIP_SQL, (RowCallbackHandler) rs -> move(rs.getLong(1), rs.getLong(2)));
+    log.info("clan roster loaded with {} memberships", clanByPlayer.size());
+  }
+
+  @Override
+  public synchronized void handle(DomainEvent event) {
+    if (event instanceof ClanMembershipChanged changed) {
+      List<Long> current = jdbcTemplate.queryForList(PLAYER_MEMBERSHIP_SQL, Long.class, changed.getPlayerId());
+      move(changed.getPlayerId(), current.isEmpty() ? null : current.get(0));
+    }
+  }
+
+  /**
+   * 선수의 현재 클랜 id (소속이 없으면 null)
+   */
+  public synchronized Long clanOf(Long playerId) {
+    return clanByPlayer.get(playerId);
+  }
+
+  /**
+   * 클랜 id -> 활성 멤버 수. 멤버가 없는 클랜은 맵에 없다 (PlayerClanRepository.countActiveMembers 와 같은 형태)
+   */
+  public synchronized Map<Long, Integer> memberCounts(Collection<Long> clanIds) {
+    Map<Long, Integer> counts = new HashMap<>();
+    for (Long clanId : clanIds) {
+      Integer count = memberCounts.get(clanId);
+      if (count != null) {
+        counts.put(clanId, count);
+      }
+    }
+    return counts;
+  }
+
+  private void move(Long playerId, Long clanId) {
+    Long previous = clanId != null ? clanByPlayer.put(playerId, clanId) : clanByPlayer.remove(playerId);
+    if (previous != null) {
+      memberCounts.computeIfPresent(previous, (id, count) -> count > 1 ? count - 1 : null);
+    }
+    if (clanId != null) {
+      memberCounts.merge(clanId, 1, Integer::sum);
+    }
+  }
+}
@@ -2,15 +2,23 @@ package com.suclan.suclan.service;
 
 import com.suclan.suclan.domain.Clan;
 import com.suclan.suclan.dto.ClanDto;
+import com.suclan.suclan.constant.EntityStatus;
+import com.suclan.suclan.event.ClanChangedEvent;
+import com.suclan.suclan.event.ClanMembershipChanged;
+import com.suclan.suclan.event.ClanRenamed;
 import com.suclan.suclan.exception.ResourceNotFoundException;
 import com.suclan.suclan.repository.ClanRepository;
+import com.suclan.suclan.repository.PlayerClanRepository;
+import com.suclan.suclan.repository.ReferenceDataRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -18,9 +26,19 @@ import java.util.Optional;
 public class ClanService {
 
     private final ClanRepository clanRepository;
+    private final PlayerClanRepository playerClanRepository;
+    private final ReferenceDataRepository referenceDataRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClanStandingsService clanStandingsService;
+    private final OutboxService outboxService;
+    private final ClanRosterService clanRosterService;
 
     @Transactional
     public ClanDto.Response createClan(ClanDto.CreateRequest request) {
+        if (referenceDataRepository.findClanByName(request.getName()).isPresent()) {
+            throw new IllegalArgumentException("이미 사용되고 있는 클랜 이름입니다. " + request.getName());
+        }
+
         Clan clan = Clan.builder()
                 .name(request.getName())
                 .description(request.getDescription())
@@ -28,6 +46,8 @@ public class ClanService {
                 .build();
 
         Clan savedClan = clanRepository.save(clan);
+        clanStandingsService.initialize(savedClan.getId());
+        eventPublisher.publishEvent(new ClanChangedEvent(ClanChangedEvent.Type.CREATED, savedClan.getId()));
         return convertToResponse(savedClan);
     }
 
@@ -36,7 +56,11 @@ public class ClanService {
         Clan clan = clanRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Clan not found with id: " + id));
 
-        if (request.getName() != null) {
+        if (request.getName() != null && !request.getName().equals(clan.getName())) {
+            if (referenceDataRepository.findClanByName(request.getName()).isPresent()) {
+                throw new IllegalArgumentException("이미 사용되고 있는 클랜 이름입니다. " + request.getName());
+            }
+            outboxService.append(new ClanRenamed(id, clan.getName(), request.getName()));
             clan.setName(request.getName());
         }
         if (request.getDescription() != null) {
@@ -50,6 +74,8 @@ public class ClanService {
         }
 
         Clan updatedClan = clanRepository.save(clan);
+        referenceDataRepository.evictClanAfterCommit(id);
+        eventPublisher.publishEvent(new ClanChangedEvent(ClanChangedEvent.Type.UPDATED, id));
         return convertToResponse(updatedClan);
     }
 
@@ -62,16 +88,23 @@ public class ClanService {
 
     @Transactional
     public Page<ClanDto.Summary> getAllClans(Pageable pageable) {
-      return clanRepository.findAll(pageable)
-            .map(this::convertToSummary);
+      Page<Clan> clans = clanRepository.findAll(pageable);
+      // 목록의 멤버 수는 아웃박스로 갱신되는 읽기 모델에서 (폴링 주기만큼 늦을 수 있다)
+      Map<Long, Integer> memberCounts = clanRosterService.memberCounts(
+          clans.getContent().stream().map(Clan::getId).toList());
+      return clans.map(clan -> convertToSummary(clan, memberCounts.getOrDefault(clan.getId(), 0)));
     }
 
     @Transactional
     public void deleteClan(Long id) {
-        if (!clanRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Clan not found with id: " + id);
-        }
-        clanRepository.deleteById(id);
+        Clan clan = clanRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Clan not found with id: " + id));
+        // 클랜 삭제로 끝나는 소속 (player_clans 는 cascade 로 함께 소프트 삭제된다)
+        playerClanRepository.findByClanAndStatus(clan, EntityStatus.REGISTERED).forEach(pc ->
+            outboxService.append(new ClanMembershipChanged(pc.getPlayer().getId(), id, null)));
+        clanRepository.delete(clan);
+        referenceDataRepository.evictClanAfterCommit(id);
+        eventPublisher.publishEvent(new ClanChangedEvent(ClanChangedEvent.Type.DELETED, id));
     }
 
     private ClanDto.Response convertToResponse(Clan clan) {
@@ -84,16 +117,16 @@ public class ClanService {
                 .status(clan.getStatus())
                 .createdAt(clan.getCreatedAt())
                 .updatedAt(clan.getUpdatedAt())
-                .memberCount(clan.getPlayerClan().size())
+                .memberCount(playerClanRepository.countActiveMembers(List.of(clan.getId())).getOrDefault(clan.getId(), 0))
                 .build();
     }
 
-    private ClanDto.Summary convertToSummary(Clan clan) {
+    private ClanDto.Summary convertToSummary(Clan clan, int memberCount) {
         return ClanDto.Summary.builder()
                 .id(clan.getId())
                 .name(clan.getName())
                 .status(clan.getStatus())
-                .memberCount(clan.getPlayerClan().size())
+                .memberCount(memberCount)
                 .foundingDate(clan.getFoundingDate())
                 .build();
     }
@@ -0,0 +1,365 @@
+package com.suclan.suclan.service;
+
+import com.suclan.suclan.constant.EntityStatus;
+import com.suclan.suclan.constant.Race;
+import com.suclan.suclan.domain.Clan;
+import com.suclan.suclan.domain.ClanMatchup;
+import com.suclan.suclan.domain.ClanStats;
+import com.suclan.suclan.dto.ClanDto;
+import com.suclan.suclan.dto.MatchOutcome;
+import com.suclan.suclan.event.MatchChangedEvent;
+import com.suclan.suclan.event.MatchesImportedEvent;
+import com.suclan.suclan.exception.ResourceNotFoundException;
+import com.suclan.suclan.repository.ClanMatchupRepository;
+import com.suclan.suclan.repository.ClanRepository;
+import com.suclan.suclan.repository.ClanStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 클랜 순위 / 클랜 대 클랜 전적 / 클랜원 종족 분포
+ * 매치는 경기 시각(playedAt)에 두 선수가 소속돼 있던 클랜으로 귀속한다. (PlayerClan.joinedAt ~ exitedAt)
+ * 매치 트랜잭션 안에서 clan_stats, clan_matchups 를 증분 갱신하고, rebuild 로 전체를 다시 계산한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClanStandingsService {
+
+  // %1$s: 선수 id, %2$s: 경기 시각. joinedAt 이 없는 기존 데이터는 처음부터 소속된 것으로 본다
+  private static final String CLAN_AT = """
+      SELECT pc.clan_id FROM player_clans pc
+      WHERE pc.player_id = %1$s
+        AND (pc.joined_at IS NULL OR pc.joined_at <= %2$s)
+        AND (COALESCE(pc.exited_at, pc.deleted_at) IS NULL OR COALESCE(pc.exited_at, pc.deleted_at) > %2$s)
+      ORDER BY pc.joined_at DESC NULLS LAST, pc.id DESC
+      LIMIT 1
+      """;
+
+  private static final String PLAYED_AT = "COALESCE(m.match_time, m.created_at)";
+
+  private static final String REBUILD_MATCHES_SQL = """
+      SELECT
+        (%1$s) AS winner_clan,
+        (%2$s) AS loser_clan,
+        CASE WHEN m.winner_id = m.player_one_id THEN m.player_one_race ELSE m.player_two_race END,
+        CASE WHEN m.loser_id = m.player_one_id THEN m.player_one_race ELSE m.player_two_race END
+      FROM matches m
+      WHERE m.status = 'REGISTERED'
+        AND m.winner_id IS NOT NULL
+        AND m.loser_id IS NOT NULL
+      """.formatted(CLAN_AT.formatted("m.winner_id", PLAYED_AT), CLAN_AT.formatted("m.loser_id", PLAYED_AT));
+
+  private static final String INSERT_STATS_SQL = """
+      INSERT INTO clan_stats (
+        clan_id, wins, losses, total_matches,
+        zerg_games, zerg_wins, terran_games, terran_wins,
+        protoss_games, protoss_wins, random_games, random_wins,
+        created_at, updated_at
+      )
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+      """;
+
+  private static final String INSERT_MATCHUP_SQL = """
+      INSERT INTO clan_matchups (clan_id, opponent_clan_id, wins, losses, created_at, updated_at)
+      VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+      """;
+
+  private static final Comparator<ClanMatchup.Key> MATCHUP_ORDER = Comparator
+      .comparing(ClanMatchup.Key::getClanId)
+      .thenComparing(ClanMatchup.Key::getOpponentClanId);
+
+  private final ClanStatsRepository clanStatsRepository;
+  private final ClanMatchupRepository clanMatchupRepository;
+  private final ClanRepository clanRepository;
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 매치 변경 전/후 결과를 받아 차이만큼 클랜 집계를 갱신한다. (매치 트랜잭션 안에서 실행)
+   */
+  @EventListener
+  @Transactional
+  public void onMatchChanged(MatchChangedEvent event) {
+    if (!event.isOutcomeChanged()) {
+      return;
+    }
+    List<Attribution> changes = new ArrayList<>(2);
+    if (event.getBefore() != null) {
+      changes.add(attributionOf(event.getBefore(), -1));
+    }
+    if (event.getAfter() != null) {
+      changes.add(attributionOf(event.getAfter(), 1));
+    }
+
+    // 교착 방지를 위해 전/후 결과에 걸린 행을 먼저 모두 잠근다 (clan_stats 는 clan id 순, clan_matchups 는 (clan, 상대) 순)
+    SortedSet<Long> clanIds = new TreeSet<>();
+    SortedSet<ClanMatchup.Key> pairs = new TreeSet<>(MATCHUP_ORDER);
+    for (Attribution change : changes) {
+      if (change.winnerClan() != null) {
+        clanIds.add(change.winnerClan());
+      }
+      if (change.loserClan() != null) {
+        clanIds.add(change.loserClan());
+      }
+      if (change.winnerClan() != null && change.loserClan() != null
+          && !change.winnerClan().equals(change.loserClan())) {
+        pairs.add(new ClanMatchup.Key(change.winnerClan(), change.loserClan()));
+        pairs.add(new ClanMatchup.Key(change.loserClan(), change.winnerClan()));
+      }
+    }
+    Map<Long, ClanStats> stats = new HashMap<>();
+    clanIds.forEach(clanId -> stats.put(clanId, lockStats(clanId)));
+    Map<ClanMatchup.Key, ClanMatchup> matchups = new HashMap<>();
+    pairs.forEach(key -> matchups.put(key, lockMatchup(key)));
+
+    for (Attribution change : changes) {
+      attribute(change.winnerClan(), change.loserClan(), change.winnerRace(), change.loserRace(), change.delta(),
+          stats::get,
+          (clanId, opponentClanId) -> matchups.get(new ClanMatchup.Key(clanId, opponentClanId)));
+    }
+  }
+
+  // 일괄 등록은 증분 대신 전체 재계산 (같은 트랜잭션)
+  @EventListener
+  @Transactional
+  public void onMatchesImported(MatchesImportedEvent event) {
+    rebuild();
+  }
+
+  @Transactional
+  public ClanStats initialize(Long clanId) {
+    return clanStatsRepository.findById(clanId)
+        .orElseGet(() -> clanStatsRepository.save(ClanStats.empty(clanId)));
+  }
+
+  @Transactional(readOnly = true)
+  public Page<ClanDto.Standing> getStandings(Pageable pageable) {
+    Page<ClanStats> stats = clanStatsRepository.findAllByClanStatus(EntityStatus.REGISTERED, pageable);
+    Map<Long, String> names = clanNames(stats.getContent().stream().map(ClanStats::getClanId).toList());
+    return stats.map(s -> convertToStanding(s, names.get(s.getClanId()), null));
+  }
+
+  @Transactional(readOnly = true)
+  public ClanDto.Standing getStanding(Long clanId) {
+    Clan clan = clanRepository.findById(clanId)
+        .orElseThrow(() -> new ResourceNotFoundException("Clan not found with id: " + clanId));
+    ClanStats stats = clanStatsRepository.findById(clanId).orElseGet(() -> ClanStats.empty(clanId));
+
+    List<ClanMatchup> matchups = clanMatchupRepository.findByClanId(clanId, EntityStatus.REGISTERED);
+    Map<Long, String> names = clanNames(matchups.stream().map(ClanMatchup::getOpponentClanId).toList());
+    names.put(clanId, clan.getName());
+    return convertToStanding(stats, clan.getName(), matchups.stream().map(m -> convertToMatchup(m, names)).toList());
+  }
+
+  /**
+   * 활성 클랜끼리의 상대 전적 (행렬의 0 이 아닌 칸만)
+   */
+  @Transactional(readOnly = true)
+  public List<ClanDto.Matchup> getMatchups() {
+    List<ClanMatchup> matchups = clanMatchupRepository.findAllByClanStatus(EntityStatus.REGISTERED);
+    Set<Long> clanIds = new HashSet<>();
+    for (ClanMatchup m : matchups) {
+      clanIds.add(m.getClanId());
+      clanIds.add(m.getOpponentClanId());
+    }
+    Map<Long, String> names = clanNames(clanIds);
+    return matchups.stream().map(m -> convertToMatchup(m, names)).toList();
+  }
+
+  /**
+   * matches / player_clans 로부터 클랜 집계를 다시 계산한다.
+   */
+  @Transactional
+  public ClanDto.RebuildResult rebuild() {
+    Map<Long, ClanStats> stats = new HashMap<>();
+    Map<ClanMatchup.Key, ClanMatchup> matchups = new HashMap<>();
+    for (Long clanId : jdbcTemplate.queryForList("SELECT id FROM clans", Long.class)) {
+      stats.put(clanId, ClanStats.empty(clanId));
+    }
+
+    long[] matches = {0};
+    jdbcTemplate.query(connection -> {
+      PreparedStatement ps = connection.prepareStatement(REBUILD_MATCHES_SQL,
+          ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      ps.setFetchSize(10_000);
+      return ps;
+    }, (RowCallbackHandler) rs -> {
+      String winnerRace = rs.getString(3);
+      String loserRace = rs.getString(4);
+      attribute(
+          rs.getObject(1, Long.class),
+          rs.getObject(2, Long.class),
+          winnerRace != null ? Race.valueOf(winnerRace) : null,
+          loserRace != null ? Race.valueOf(loserRace) : null,
+          1,
+          clanId -> stats.computeIfAbsent(clanId, ClanStats::empty),
+          (clanId, opponentClanId) -> matchups.computeIfAbsent(
+              new ClanMatchup.Key(clanId, opponentClanId), key -> ClanMatchup.empty(clanId, opponentClanId)));
+      matches[0]++;
+    });
+
+    jdbcTemplate.update("DELETE FROM clan_matchups");
+    jdbcTemplate.update("DELETE FROM clan_stats");
+    jdbcTemplate.batchUpdate(INSERT_STATS_SQL, new ArrayList<>(stats.values()), 1000, (ps, s) -> {
+      ps.setLong(1, s.getClanId());
+      ps.setInt(2, s.getWins());
+      ps.setInt(3, s.getLosses());
+      ps.setInt(4, s.getTotalMatches());
+      ps.setInt(5, s.getZergGames());
+      ps.setInt(6, s.getZergWins());
+      ps.setInt(7, s.getTerranGames());
+      ps.setInt(8, s.getTerranWins());
+      ps.setInt(9, s.getProtossGames());
+      ps.setInt(10, s.getProtossWins());
+      ps.setInt(11, s.getRandomGames());
+      ps.setInt(12, s.getRandomWins());
+    });
+    jdbcTemplate.batchUpdate(INSERT_MATCHUP_SQL, new ArrayList<>(matchups.values()), 1000, (ps, m) -> {
+      ps.setLong(1, m.getClanId());
+      ps.setLong(2, m.getOpponentClanId());
+      ps.setInt(3, m.getWins());
+      ps.setInt(4, m.getLosses());
+    });
+    log.info("clan standings rebuilt from {} matches: {} clans, {} matchups", matches[0], stats.size(), matchups.size());
+
+    return ClanDto.RebuildResult.builder()
+        .matches(matches[0])
+        .clans(stats.size())
+        .matchups(matchups.size())
+        .build();
+  }
+
+  // 최초 배포 시 기존 매치 이력으로 집계 테이블을 채운다
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void rebuildIfEmpty() {
+    if (clanStatsRepository.count() == 0) {
+      rebuild();
+    }
+  }
+
+  private Attribution attributionOf(MatchOutcome outcome, int delta) {
+    return new Attribution(
+        clanAt(outcome.getWinnerId(), outcome.getPlayedAt()),
+        clanAt(outcome.getLoserId(), outcome.getPlayedAt()),
+        outcome.getWinnerRace(),
+        outcome.getLoserRace(),
+        delta);
+  }
+
+  /**
+   * 한 경기를 클랜 집계에 반영한다.
+   * 종족 분포는 소속 클랜이 있는 쪽마다, 승/패와 상대 전적은 서로 다른 클랜(또는 무소속) 간 경기에만 반영한다.
+   */
+  private void attribute(Long winnerClan, Long loserClan, Race winnerRace, Race loserRace, int delta,
+                         Function<Long, ClanStats> statsOf, MatchupLookup matchupOf) {
+    boolean interClan = !Objects.equals(winnerClan, loserClan);
+    if (winnerClan != null) {
+      ClanStats stats = statsOf.apply(winnerClan);
+      stats.recordRace(winnerRace, true, delta);
+      if (interClan) {
+        stats.recordResult(true, delta);
+      }
+    }
+    if (loserClan != null) {
+      ClanStats stats = statsOf.apply(loserClan);
+      stats.recordRace(loserRace, false, delta);
+      if (interClan) {
+        stats.recordResult(false, delta);
+      }
+    }
+    if (interClan && winnerClan != null && loserClan != null) {
+      matchupOf.get(winnerClan, loserClan).record(true, delta);
+      matchupOf.get(loserClan, winnerClan).record(false, delta);
+    }
+  }
+
+  private Long clanAt(Long playerId, LocalDateTime playedAt) {
+    Timestamp at = Timestamp.valueOf(playedAt);
+    List<Long> clanIds = jdbcTemplate.queryForList(CLAN_AT.formatted("?", "?"), Long.class, playerId, at, at);
+    return clanIds.isEmpty() ? null : clanIds.get(0);
+  }
+
+  // 첫 행이 동시에 만들어져도 하나만 생기도록 ON CONFLICT 로 만든 뒤 잠근다
+  private ClanStats lockStats(Long clanId) {
+    clanStatsRepository.insertIfAbsent(clanId);
+    return clanStatsRepository.findForUpdate(clanId)
+        .orElseThrow(() -> new IllegalStateException("clan_stats row missing for clan " + clanId));
+  }
+
+  private ClanMatchup lockMatchup(ClanMatchup.Key key) {
+    clanMatchupRepository.insertIfAbsent(key.getClanId(), key.getOpponentClanId());
+    return clanMatchupRepository.findForUpdate(key.getClanId(), key.getOpponentClanId())
+        .orElseThrow(() -> new IllegalStateException("clan_matchups row missing for " + key));
+  }
+
+  private Map<Long, String> clanNames(Collection<Long> clanIds) {
+    return clanRepository.findAllById(clanIds).stream()
+        .collect(Collectors.toMap(Clan::getId, Clan::getName, (a, b) -> a, HashMap::new));
+  }
+
+  private ClanDto.Standing convertToStanding(ClanStats stats, String name, List<ClanDto.Matchup> matchups) {
+    return ClanDto.Standing.builder()
+        .clanId(stats.getClanId())
+        .name(name)
+        .wins(stats.getWins())
+        .losses(stats.getLosses())
+        .totalMatches(stats.getTotalMatches())
+        .winRate(stats.getTotalMatches() == 0 ? 0 : (double) stats.getWins() / stats.getTotalMatches())
+        .races(Arrays.stream(Race.values())
+            .map(race -> ClanDto.RaceShare.builder()
+                .race(race)
+                .games(stats.getGamesAs(race))
+                .wins(stats.getWinsAs(race))
+                .build())
+            .toList())
+        .matchups(matchups)
+        .build();
+  }
+
+  private ClanDto.Matchup convertToMatchup(ClanMatchup matchup, Map<Long, String> names) {
+    return ClanDto.Matchup.builder()
+        .clanId(matchup.getClanId())
+        .clanName(names.get(matchup.getClanId()))
+        .opponentClanId(matchup.getOpponentClanId())
+        .opponentClanName(names.get(matchup.getOpponentClanId()))
+        .wins(matchup.getWins())
+        .losses(matchup.getLosses())
+        .build();
+  }
+
+  @FunctionalInterface
+  private record Attribution(Long winnerClan, Long loserClan, Race winnerRace, Race loserRace, int delta) {
+  }
+
+  private interface MatchupLookup {
+    ClanMatchup get(Long clanId, Long opponentClanId);
+  }
+}
@@ -1,23 +1,27 @@
 package com.suclan.suclan.service;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.suclan.suclan.constant.EntityStatus;
 import com.suclan.suclan.domain.Contest;
-import com.suclan.suclan.domain.Match;
-import com.suclan.suclan.domain.Player;
 import com.suclan.suclan.dto.ContestDto;
 import com.suclan.suclan.dto.MatchDto;
 import com.suclan.suclan.dto.PlayerDto;
+import com.suclan.suclan.event.ContestChanged;
 import com.suclan.suclan.exception.ResourceNotFoundException;
+import com.suclan.suclan.repository.ContestQueryRepository;
 import com.suclan.suclan.repository.ContestRepository;
-import com.suclan.suclan.repository.MatchRepository;
-import com.suclan.suclan.repository.PlayerRepository;
+import com.suclan.suclan.repository.MatchQueryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+
+import static com.suclan.suclan.domain.QMatch.match;
 
 @Service
 @RequiredArgsConstructor
@@ -25,8 +29,10 @@ import java.util.stream.Collectors;
 public class ContestService {
 
     private final ContestRepository contestRepository;
-    private final MatchRepository matchRepository;
-    private final PlayerRepository playerRepository;
+    private final ContestQueryRepository contestQueryRepository;
+    private final MatchQueryRepository matchQueryRepository;
+    private final ResourceVersionService resourceVersionService;
+    private final OutboxService outboxService;
 
     @Transactional
     public ContestDto.Response createContest(ContestDto.CreateRequest request) {
@@ -37,6 +43,7 @@ public class ContestService {
                 .build();
 
         Contest savedContest = contestRepository.save(contest);
+        outboxService.append(new ContestChanged(ContestChanged.Type.CREATED, savedContest.getId()));
         return convertToResponse(savedContest);
     }
 
@@ -58,6 +65,8 @@ public class ContestService {
         }
 
         Contest updatedContest = contestRepository.save(contest);
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.contestKey(id));
+        outboxService.append(new ContestChanged(ContestChanged.Type.UPDATED, id));
         return convertToResponse(updatedContest);
     }
 
@@ -69,16 +78,49 @@ public class ContestService {
 
     @Transactional
     public Page<ContestDto.Summary> getAllContests(Pageable pageable) {
-        return contestRepository.findAll(pageable)
-                .map(this::convertToSummary);
+        Page<Contest> contests = contestRepository.findAll(pageable);
+        Map<Long, Integer> participantCounts = contestQueryRepository.countParticipants(
+                contests.getContent().stream().map(Contest::getId).toList());
+        return contests.map(contest -> convertToSummary(contest, participantCounts));
+    }
+
+    /**
+     * 대회 매치 목록 (최근 경기 순)
+     */
+    @Transactional
+    public Page<MatchDto.Summary> getContestMatches(Long id, Pageable pageable) {
+        requireContest(id);
+        BooleanExpression condition = match.contest.id.eq(id).and(match.status.eq(EntityStatus.REGISTERED));
+
+        List<MatchDto.Summary> content = matchQueryRepository.selectSummaries()
+                .where(condition)
+                .orderBy(match.matchTime.desc().nullsLast(), match.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        long total = matchQueryRepository.countSummaries()
+                .where(condition)
+                .fetchOne();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 대회 참가자 목록 (닉네임 순)
+     */
+    @Transactional
+    public Page<PlayerDto.Summary> getContestParticipants(Long id, Pageable pageable) {
+        requireContest(id);
+        return contestQueryRepository.findParticipants(id, pageable);
     }
 
     @Transactional
     public void deleteContest(Long id) {
-        if (!contestRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Contest not found with id: " + id);
-        }
+        requireContest(id);
         contestRepository.deleteById(id);
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.contestKey(id));
+        outboxService.append(new ContestChanged(ContestChanged.Type.DELETED, id));
     }
 
     @Transactional
@@ -87,15 +129,14 @@ public class ContestService {
                 .orElseThrow(() -> new ResourceNotFoundException("Contest not found with id: " + id));
     }
 
-    private ContestDto.Response convertToResponse(Contest contest) {
-        List<PlayerDto.Summary> participants = contest.getPlayers().stream()
-                .map(this::convertPlayerToSummary)
-                .collect(Collectors.toList());
-
-        List<MatchDto.Summary> matches = contest.getMatches().stream()
-                .map(this::convertMatchToSummary)
-                .collect(Collectors.toList());
+    private void requireContest(Long id) {
+        if (!contestRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Contest not found with id: " + id);
+        }
+    }
 
+    private ContestDto.Response convertToResponse(Contest contest) {
+        List<Long> ids = List.of(contest.getId());
         return ContestDto.Response.builder()
                 .id(contest.getId())
                 .name(contest.getName())
@@ -105,39 +146,19 @@ public class ContestService {
                 .endedAt(contest.getEndedAt())
                 .createdAt(contest.getCreatedAt())
                 .updatedAt(contest.getUpdatedAt())
-                .participantCount(contest.getPlayers().size())
-                .matchCount(contest.getMatches().size())
-                .participants(participants)
-                .matches(matches)
+                .participantCount(contestQueryRepository.countParticipants(ids).getOrDefault(contest.getId(), 0))
+                .matchCount(contestQueryRepository.countMatches(ids).getOrDefault(contest.getId(), 0))
                 .build();
     }
 
-    private ContestDto.Summary convertToSummary(Contest contest) {
+    private ContestDto.Summary convertToSummary(Contest contest, Map<Long, Integer> participantCounts) {
         return ContestDto.Summary.builder()
                 .id(contest.getId())
                 .name(contest.getName())
                 .status(contest.getStatus())
                 .startedAt(contest.getStartedAt())
                 .endedAt(contest.getEndedAt())
-                .participantCount(contest.getPlayers().size())
-                .build();
-    }
-
-    private PlayerDto.Summary convertPlayerToSummary(Player player) {
-        return PlayerDto.Summary.builder()
-                .id(player.getId())
-                .nickname(player.getNickname())
-                .status(player.getStatus())
-                .build();
-    }
-
-    private MatchDto.Summary convertMatchToSummary(Match match) {
-        return MatchDto.Summary.builder()
-                .id(match.getId())
-                .playerOne(convertPlayerToSummary(match.getPlayerOne()))
-                .playerTwo(convertPlayerToSummary(match.getPlayerTwo()))
-                .winner(match.getWinner() != null ? convertPlayerToSummary(match.getWinner()) : null)
-                .mapName(match.getMapName())
+                .participantCount(participantCounts.getOrDefault(contest.getId(), 0))
                 .build();
     }
 }
@@ -4,6 +4,7 @@ import com.suclan.suclan.domain.Grade;
 import com.suclan.suclan.dto.GradeDto;
 import com.suclan.suclan.exception.ResourceNotFoundException;
 import com.suclan.suclan.repository.GradeRepository;
+import com.suclan.suclan.repository.ReferenceDataRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,10 +19,12 @@ import java.util.Optional;
 public class GradeService {
 
     private final GradeRepository gradeRepository;
+    private final ReferenceDataRepository referenceDataRepository;
+    private final ResourceVersionService resourceVersionService;
 
     @Transactional
     public GradeDto.Response createGrade(GradeDto.CreateRequest request) {
-        Optional<Grade> g = gradeRepository.findByName(request.getName());
+        Optional<Grade> g = referenceDataRepository.findGradeByName(request.getName());
         if (g.isPresent()) {
           return convertToResponse(g.get());
         }
@@ -32,6 +35,7 @@ public class GradeService {
                 .build();
 
         Grade savedGrade = gradeRepository.save(grade);
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.GRADES);
         return convertToResponse(savedGrade);
     }
 
@@ -40,7 +44,10 @@ public class GradeService {
         Grade grade = gradeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Grade not found with id: " + id));
 
-        if (request.getName() != null) {
+        if (request.getName() != null && !request.getName().equals(grade.getName())) {
+            if (referenceDataRepository.findGradeByName(request.getName()).isPresent()) {
+                throw new IllegalArgumentException("이미 사용되고 있는 등급 이름입니다. " + request.getName());
+            }
             grade.setName(request.getName());
         }
         if (request.getDescription() != null) {
@@ -51,6 +58,8 @@ public class GradeService {
         }
 
         Grade updatedGrade = gradeRepository.save(grade);
+        referenceDataRepository.evictGradeAfterCommit(id);
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.GRADES);
         return convertToResponse(updatedGrade);
     }
 
@@ -73,6 +82,8 @@ public class GradeService {
             throw new ResourceNotFoundException("Grade not found with id: " + id);
         }
         gradeRepository.deleteById(id);
+        referenceDataRepository.evictGradeAfterCommit(id);
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.GRADES);
     }
 
     private GradeDto.Response convertToResponse(Grade grade) {
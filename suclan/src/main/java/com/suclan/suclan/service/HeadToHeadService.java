@@ -0,0 +1,201 @@
+package com.suclan.suclan.service;
+
+import com.suclan.suclan.dto.HeadToHeadDto;
+import com.suclan.suclan.dto.MatchOutcome;
+import com.suclan.suclan.dto.PlayerDto;
+import com.suclan.suclan.event.MatchChangedEvent;
+import com.suclan.suclan.event.MatchesImportedEvent;
+import com.suclan.suclan.exception.ResourceNotFoundException;
+import com.suclan.suclan.headtohead.HeadToHeadStore;
+import com.suclan.suclan.repository.MatchQueryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 선수 간 상대 전적
+ * 메모리 저장소에서 바로 응답하며, 매치 변경은 커밋 후 증분 반영하고 주기적으로 전체를 다시 적재한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HeadToHeadService {
+
+  public static final int MAX_MATRIX_PLAYERS = 50;
+
+  private static final String LOAD_SQL = """
+      SELECT m.winner_id, m.loser_id, COALESCE(m.match_time, m.created_at)
+      FROM matches m
+      WHERE m.status = 'REGISTERED'
+        AND m.winner_id IS NOT NULL
+        AND m.loser_id IS NOT NULL
+      """;
+
+  private static final String PAIR_SQL = """
+      SELECT
+        COALESCE(SUM(CASE WHEN m.winner_id = ? THEN 1 ELSE 0 END), 0),
+        COALESCE(SUM(CASE WHEN m.winner_id = ? THEN 1 ELSE 0 END), 0),
+        MAX(COALESCE(m.match_time, m.created_at))
+      FROM matches m
+      WHERE m.status = 'REGISTERED'
+        AND ((m.winner_id = ? AND m.loser_id = ?) OR (m.winner_id = ? AND m.loser_id = ?))
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final MatchQueryRepository matchQueryRepository;
+
+  private volatile HeadToHeadStore store = new HeadToHeadStore(0);
+
+  // 증분 반영과 저장소 교체를 직렬화한다. 전체 적재 중에는 바뀐 선수 쌍만 모아 두었다가 교체 직전에 다시 읽는다.
+  private final Object applyLock = new Object();
+  private List<long[]> rebuildingPairs;
+
+  @Scheduled(fixedDelayString = "${head-to-head.rebuild-interval-ms:600000}")
+  public synchronized void rebuild() {
+    synchronized (applyLock) {
+      rebuildingPairs = new ArrayList<>();
+    }
+    HeadToHeadStore loaded = new HeadToHeadStore(store.pairCount());
+    try {
+      jdbcTemplate.query(connection -> {
+        PreparedStatement ps = connection.prepareStatement(LOAD_SQL,
+            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        ps.setFetchSize(10_000);
+        return ps;
+      }, (RowCallbackHandler) rs -> {
+        Timestamp playedAt = rs.getTimestamp(3);
+        loaded.record(rs.getLong(1), rs.getLong(2), 1, playedAt != null ? playedAt.toLocalDateTime() : null);
+      });
+    } catch (RuntimeException e) {
+      synchronized (applyLock) {
+        rebuildingPairs = null;
+      }
+      throw e;
+    }
+    synchronized (applyLock) {
+      // 적재 중 들어온 변경은 적재 결과에 이미 포함됐는지 알 수 없으므로 해당 쌍을 DB 에서 다시 읽는다
+      for (long[] pair : rebuildingPairs) {
+        reload(loaded, pair[0], pair[1]);
+      }
+      rebuildingPairs = null;
+      store = loaded;
+    }
+    log.info("head-to-head store rebuilt with {} pairs", loaded.pairCount());
+  }
+
+  @TransactionalEventListener
+  public void onMatchChanged(MatchChangedEvent event) {
+    if (!event.isOutcomeChanged()) {
+      return;
+    }
+    MatchOutcome before = event.getBefore();
+    MatchOutcome after = event.getAfter();
+    synchronized (applyLock) {
+      if (rebuildingPairs != null) {
+        if (before != null) {
+          rebuildingPairs.add(new long[]{before.getWinnerId(), before.getLoserId()});
+        }
+        if (after != null) {
+          rebuildingPairs.add(new long[]{after.getWinnerId(), after.getLoserId()});
+        }
+        return;
+      }
+      HeadToHeadStore current = store;
+      if (before != null
+          && !current.record(before.getWinnerId(), before.getLoserId(), -1, before.getPlayedAt())) {
+        // 취소된 경기가 두 선수의 마지막 경기였다면 마지막 경기 시각을 DB 에서 다시 읽는다
+        reload(current, before.getWinnerId(), before.getLoserId());
+      }
+      if (after != null) {
+        current.record(after.getWinnerId(), after.getLoserId(), 1, after.getPlayedAt());
+      }
+    }
+  }
+
+  @TransactionalEventListener
+  public void onMatchesImported(MatchesImportedEvent event) {
+    rebuild();
+  }
+
+  public HeadToHeadDto.Response getHeadToHead(Long playerId) {
+    PlayerDto.Summary player = matchQueryRepository.findPlayerSummary(playerId)
+        .orElseThrow(() -> new ResourceNotFoundException("Player not found with id: " + playerId));
+
+    List<HeadToHeadStore.Record> records = store.opponents(playerId);
+    Map<Long, PlayerDto.Summary> opponents = summaries(records.stream().map(HeadToHeadStore.Record::getOpponentId).toList());
+
+    return HeadToHeadDto.Response.builder()
+        .player(player)
+        .records(records.stream()
+            .filter(r -> opponents.containsKey(r.getOpponentId()))
+            .sorted(Comparator.comparingInt((HeadToHeadStore.Record r) -> r.getWins() + r.getLosses()).reversed()
+                .thenComparingLong(HeadToHeadStore.Record::getOpponentId))
+            .map(r -> HeadToHeadDto.Record.builder()
+                .opponent(opponents.get(r.getOpponentId()))
+                .wins(r.getWins())
+                .losses(r.getLosses())
+                .totalMatches(r.getWins() + r.getLosses())
+                .lastPlayedAt(r.getLastPlayedAt())
+                .build())
+            .toList())
+        .build();
+  }
+
+  public HeadToHeadDto.Matrix getMatrix(List<Long> playerIds) {
+    List<Long> ids = List.copyOf(new LinkedHashSet<>(playerIds));
+    if (ids.isEmpty() || ids.size() > MAX_MATRIX_PLAYERS) {
+      throw new IllegalArgumentException("ids 는 1~" + MAX_MATRIX_PLAYERS + "명까지 지정할 수 있습니다.");
+    }
+    Map<Long, PlayerDto.Summary> players = summaries(ids);
+    for (Long id : ids) {
+      if (!players.containsKey(id)) {
+        throw new ResourceNotFoundException("Player not found with id: " + id);
+      }
+    }
+
+    HeadToHeadStore current = store;
+    int[][] wins = new int[ids.size()][ids.size()];
+    for (int i = 0; i < ids.size(); i++) {
+      for (int j = i + 1; j < ids.size(); j++) {
+        int row = i;
+        int col = j;
+        current.get(ids.get(i), ids.get(j)).ifPresent(r -> {
+          wins[row][col] = r.getWins();
+          wins[col][row] = r.getLosses();
+        });
+      }
+    }
+
+    return HeadToHeadDto.Matrix.builder()
+        .players(ids.stream().map(players::get).toList())
+        .wins(wins)
+        .build();
+  }
+
+  private void reload(HeadToHeadStore target, long playerId, long opponentId) {
+    jdbcTemplate.query(PAIR_SQL, (RowCallbackHandler) rs -> {
+      Timestamp last = rs.getTimestamp(3);
+      target.reset(playerId, opponentId, rs.getInt(1), rs.getInt(2), last != null ? last.toLocalDateTime() : null);
+    }, playerId, opponentId, playerId, opponentId, opponentId, playerId);
+  }
+
+  private Map<Long, PlayerDto.Summary> summaries(List<Long> playerIds) {
+    return matchQueryRepository.findPlayerSummaries(playerIds).stream()
+        .collect(Collectors.toMap(PlayerDto.Summary::getId, Function.identity()));
+  }
+}
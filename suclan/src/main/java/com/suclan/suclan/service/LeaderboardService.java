@@ -0,0 +1,199 @@
+package com.suclan.suclan.service;
+
+import com.suclan.suclan.constant.LeaderboardMetric;
+import com.suclan.suclan.constant.Race;
+import com.suclan.suclan.dto.LeaderboardDto;
+import com.suclan.suclan.dto.MatchOutcome;
+import com.suclan.suclan.event.MatchChangedEvent;
+import com.suclan.suclan.event.MatchesImportedEvent;
+import com.suclan.suclan.event.PlayerChangedEvent;
+import com.suclan.suclan.exception.ResourceNotFoundException;
+import com.suclan.suclan.leaderboard.Leaderboard;
+import com.suclan.suclan.leaderboard.LeaderboardEntry;
+import com.suclan.suclan.leaderboard.LeaderboardScope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 메모리 순위 인덱스 기반 리더보드
+ * 매치/플레이어 변경은 커밋 후 증분 반영하고, 주기적으로 전체를 다시 적재해 오차를 보정한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardService {
+
+  private static final String ENTRY_SQL = """
+      SELECT p.id, p.nickname, p.race, pc.clan_id, p.grade_id,
+             COALESCE(s.wins, 0), COALESCE(s.losses, 0)
+      FROM players p
+      LEFT JOIN player_stats s ON s.player_id = p.id
+      LEFT JOIN player_clans pc ON pc.player_id = p.id AND pc.status = 'REGISTERED'
+      WHERE p.status = 'REGISTERED'
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Leaderboard leaderboard = new Leaderboard();
+
+  // 증분 반영과 전체 교체를 직렬화한다. 전체 적재 중에는 바뀐 선수만 모아 두었다가 교체 직후 다시 읽는다.
+  private final Object applyLock = new Object();
+  private Set<Long> rebuildingPlayers;
+
+  @Scheduled(fixedDelayString = "${leaderboard.rebuild-interval-ms:600000}")
+  public synchronized void rebuild() {
+    synchronized (applyLock) {
+      rebuildingPlayers = new HashSet<>();
+    }
+    Map<Long, LeaderboardEntry> loaded = new LinkedHashMap<>();
+    try {
+      jdbcTemplate.query(ENTRY_SQL, (RowCallbackHandler) rs -> {
+        LeaderboardEntry entry = mapEntry(rs);
+        loaded.putIfAbsent(entry.getPlayerId(), entry);
+      });
+    } catch (RuntimeException e) {
+      synchronized (applyLock) {
+        rebuildingPlayers = null;
+      }
+      throw e;
+    }
+    synchronized (applyLock) {
+      leaderboard.replaceAll(loaded.values());
+      // 적재 중 바뀐 선수는 적재 결과에 이미 포함됐는지 알 수 없으므로 DB 에서 다시 읽는다
+      rebuildingPlayers.forEach(this::reload);
+      rebuildingPlayers = null;
+    }
+    log.info("leaderboard rebuilt with {} players", loaded.size());
+  }
+
+  @TransactionalEventListener
+  public void onMatchChanged(MatchChangedEvent event) {
+    if (!event.isOutcomeChanged()) {
+      return;
+    }
+    synchronized (applyLock) {
+      if (rebuildingPlayers != null) {
+        for (MatchOutcome outcome : new MatchOutcome[]{event.getBefore(), event.getAfter()}) {
+          if (outcome != null) {
+            rebuildingPlayers.add(outcome.getWinnerId());
+            rebuildingPlayers.add(outcome.getLoserId());
+          }
+        }
+        return;
+      }
+      if (event.getBefore() != null) {
+        applyResult(event.getBefore(), -1);
+      }
+      if (event.getAfter() != null) {
+        applyResult(event.getAfter(), 1);
+      }
+    }
+  }
+
+  @TransactionalEventListener
+  public void onMatchesImported(MatchesImportedEvent event) {
+    rebuild();
+  }
+
+  @TransactionalEventListener
+  public void onPlayerChanged(PlayerChangedEvent event) {
+    synchronized (applyLock) {
+      if (rebuildingPlayers != null) {
+        rebuildingPlayers.add(event.getPlayerId());
+        return;
+      }
+      reload(event.getPlayerId());
+    }
+  }
+
+  public Page<LeaderboardDto.Entry> getLeaderboard(LeaderboardMetric metric, LeaderboardDto.SearchCondition condition, Pageable pageable) {
+    String scope = scopeOf(condition);
+    var rows = leaderboard.page(metric, scope, (int) pageable.getOffset(), pageable.getPageSize());
+    return new PageImpl<>(
+        rows.stream().map(this::convertToEntry).toList(),
+        pageable,
+        leaderboard.size(metric, scope));
+  }
+
+  public LeaderboardDto.Entry getRank(Long playerId, LeaderboardMetric metric, LeaderboardDto.SearchCondition condition) {
+    return leaderboard.rank(metric, scopeOf(condition), playerId)
+        .map(this::convertToEntry)
+        .orElseThrow(() -> new ResourceNotFoundException("Player not ranked with id: " + playerId));
+  }
+
+  private void reload(Long playerId) {
+    LeaderboardEntry entry = jdbcTemplate.query(ENTRY_SQL + " AND p.id = ?",
+        (ResultSetExtractor<LeaderboardEntry>) rs -> rs.next() ? mapEntry(rs) : null, playerId);
+    if (entry == null) {
+      leaderboard.remove(playerId);
+    } else {
+      leaderboard.upsert(entry);
+    }
+  }
+
+  private void applyResult(MatchOutcome outcome, int delta) {
+    leaderboard.adjust(outcome.getWinnerId(), delta, 0);
+    leaderboard.adjust(outcome.getLoserId(), 0, delta);
+  }
+
+  private String scopeOf(LeaderboardDto.SearchCondition condition) {
+    int filters = (condition.getRace() != null ? 1 : 0)
+        + (condition.getClanId() != null ? 1 : 0)
+        + (condition.getGradeId() != null ? 1 : 0);
+    if (filters > 1) {
+      throw new IllegalArgumentException("race, clanId, gradeId 중 하나만 지정할 수 있습니다.");
+    }
+    if (condition.getRace() != null) {
+      return LeaderboardScope.race(condition.getRace());
+    }
+    if (condition.getClanId() != null) {
+      return LeaderboardScope.clan(condition.getClanId());
+    }
+    if (condition.getGradeId() != null) {
+      return LeaderboardScope.grade(condition.getGradeId());
+    }
+    return LeaderboardScope.overall();
+  }
+
+  private LeaderboardEntry mapEntry(ResultSet rs) throws SQLException {
+    String race = rs.getString(3);
+    return new LeaderboardEntry(
+        rs.getLong(1),
+        rs.getString(2),
+        race != null ? Race.valueOf(race) : null,
+        rs.getObject(4, Long.class),
+        rs.getObject(5, Long.class),
+        rs.getInt(6),
+        rs.getInt(7));
+  }
+
+  private LeaderboardDto.Entry convertToEntry(Leaderboard.Ranked ranked) {
+    LeaderboardEntry entry = ranked.getEntry();
+    return LeaderboardDto.Entry.builder()
+        .rank(ranked.getRank())
+        .playerId(entry.getPlayerId())
+        .nickname(entry.getNickname())
+        .race(entry.getRace())
+        .clanId(entry.getClanId())
+        .gradeId(entry.getGradeId())
+        .wins(entry.getWins())
+        .losses(entry.getLosses())
+        .totalMatches(entry.getWins() + entry.getLosses())
+        .build();
+  }
+}
@@ -1,67 +1,120 @@
 package com.suclan.suclan.service;
 
-import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.suclan.suclan.constant.EntityStatus;
-import com.suclan.suclan.domain.Match;
-import com.suclan.suclan.domain.Player;
 import com.suclan.suclan.dto.MainDto;
-import com.suclan.suclan.dto.MatchDto;
-import com.suclan.suclan.dto.PlayerDto;
+import com.suclan.suclan.event.ClanChangedEvent;
+import com.suclan.suclan.event.MatchChangedEvent;
+import com.suclan.suclan.event.MatchesImportedEvent;
+import com.suclan.suclan.event.PlayerChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.List;
-
-import static com.suclan.suclan.domain.QClan.clan;
-import static com.suclan.suclan.domain.QMatch.match;
-import static com.suclan.suclan.domain.QPlayer.player;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 메인 화면 요약
+ * 백그라운드에서 갱신되는 스냅샷을 volatile 읽기로 제공한다.
+ * 매치/플레이어/클랜 변경 시 무효화되며, 스냅샷이 max-staleness 보다 오래되면 요청 스레드에서 직접 다시 만든다.
+ * 다시 만드는 작업은 한 번에 하나만 돌고, 그동안 들어온 요청(스케줄러 포함)은 같은 결과를 기다린다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MainFacade {
 
-  public final JPAQueryFactory jpaQueryFactory;
+  private final MainSummaryLoader mainSummaryLoader;
+
+  @Value("${dashboard.max-age-ms:60000}")
+  private long maxAgeMillis;
+
+  @Value("${dashboard.max-staleness-ms:300000}")
+  private long maxStalenessMillis;
+
+  private volatile Snapshot snapshot;
+  private final AtomicBoolean invalidated = new AtomicBoolean(true);
+  private final AtomicReference<CompletableFuture<Snapshot>> inFlight = new AtomicReference<>();
 
-  @Transactional
   public MainDto.Summary getSummary() {
+    Snapshot current = snapshot;
+    if (current != null && current.ageMillis() <= maxStalenessMillis) {
+      return current.summary();
+    }
+    return refresh().summary();
+  }
 
+  @Scheduled(fixedDelayString = "${dashboard.refresh-interval-ms:1000}")
+  public void refreshIfNeeded() {
+    Snapshot current = snapshot;
+    if (invalidated.get() || current == null || current.ageMillis() > maxAgeMillis) {
+      try {
+        refresh();
+      } catch (RuntimeException e) {
+        log.warn("dashboard snapshot refresh failed", e);
+      }
+    }
+  }
 
-    Long clanCount = jpaQueryFactory.selectFrom( clan ).where(clan.status.eq(EntityStatus.REGISTERED)).select(clan.count()).fetchFirst();
-    Long memberCount = jpaQueryFactory.selectFrom( player ).where(player.status.eq(EntityStatus.REGISTERED)).select( player.count() ).fetchFirst();
-    Long matchCount = jpaQueryFactory.selectFrom( match ).where(match.status.eq(EntityStatus.REGISTERED)).select( match.count() ).fetchFirst();
-    List<Match> matchList =  jpaQueryFactory.selectFrom( match ).where(match.status.eq(EntityStatus.REGISTERED)).orderBy(match.matchTime.desc().nullsLast()).limit(10).fetch();
+  @TransactionalEventListener
+  public void onMatchChanged(MatchChangedEvent event) {
+    invalidated.set(true);
+  }
+
+  @TransactionalEventListener
+  public void onMatchesImported(MatchesImportedEvent event) {
+    invalidated.set(true);
+  }
+
+  @TransactionalEventListener
+  public void onPlayerChanged(PlayerChangedEvent event) {
+    invalidated.set(true);
+  }
+
+  @TransactionalEventListener
+  public void onClanChanged(ClanChangedEvent event) {
+    invalidated.set(true);
+  }
 
-    return MainDto.Summary.builder()
-        .clanCount(clanCount)
-        .memberCount(memberCount)
-        .matchCount(matchCount)
-        .matches(matchList.stream().map(this::convertToSummary).toList())
-        .build();
+  private Snapshot refresh() {
+    CompletableFuture<Snapshot> mine = new CompletableFuture<>();
+    CompletableFuture<Snapshot> running = inFlight.compareAndExchange(null, mine);
+    if (running != null) {
+      return await(running);
+    }
+    try {
+      // 조회 도중 들어온 무효화는 다음 갱신에서 반영되도록 먼저 내린다
+      invalidated.set(false);
+      Snapshot built = new Snapshot(mainSummaryLoader.load(), System.currentTimeMillis());
+      snapshot = built;
+      mine.complete(built);
+      return built;
+    } catch (RuntimeException e) {
+      mine.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.set(null);
+    }
   }
 
-  private MatchDto.Summary convertToSummary(Match match) {
-    return MatchDto.Summary.builder()
-        .id(match.getId())
-        .playerOne(convertPlayerToSummary(match.getPlayerOne()))
-        .playerTwo(convertPlayerToSummary(match.getPlayerTwo()))
-        .playerOneRace(match.getPlayerOneRace())
-        .playerTwoRace(match.getPlayerTwoRace())
-        .winner(match.getWinner() != null ? convertPlayerToSummary(match.getWinner()) : null)
-        .streamingUrl(match.getStreamingUrl())
-        .mapName(match.getMapName())
-        .matchTime(match.getMatchTime())
-        .createdAt(match.getCreatedAt())
-        .build();
+  private Snapshot await(CompletableFuture<Snapshot> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
   }
 
-  private PlayerDto.Summary convertPlayerToSummary(Player player) {
-    return PlayerDto.Summary.builder()
-        .id(player.getId())
-        .nickname(player.getNickname())
-        .status(player.getStatus())
-        .build();
+  private record Snapshot(MainDto.Summary summary, long builtAt) {
+    long ageMillis() {
+      return System.currentTimeMillis() - builtAt;
+    }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,152 @@
+package com.suclan.suclan.service;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.suclan.suclan.constant.EntityStatus;
+import com.suclan.suclan.dto.MainDto;
+import com.suclan.suclan.dto.MatchDto;
+import com.suclan.suclan.repository.MatchQueryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import static com.suclan.suclan.domain.QClan.clan;
+import static com.suclan.suclan.domain.QMatch.match;
+import static com.suclan.suclan.domain.QPlayer.player;
+
+/**
+ * 메인 화면 집계 쿼리 (MainFacade 스냅샷 갱신 시 사용)
+ * concurrent 모드에서는 네 개의 쿼리를 가상 스레드에서 각자의 트랜잭션(커넥션)으로 동시에 실행한다.
+ * 커넥션 풀이 작으므로 동시에 잡는 커넥션 수는 세마포어로 제한한다.
+ */
+@Component
+public class MainSummaryLoader {
+
+  private final JPAQueryFactory jpaQueryFactory;
+  private final MatchQueryRepository matchQueryRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final Semaphore connectionPermits;
+  private final boolean concurrent;
+
+  public MainSummaryLoader(JPAQueryFactory jpaQueryFactory,
+                           MatchQueryRepository matchQueryRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${dashboard.concurrent-load:true}") boolean concurrent,
+                           @Value("${dashboard.max-concurrent-queries:2}") int maxConcurrentQueries) {
+    this.jpaQueryFactory = jpaQueryFactory;
+    this.matchQueryRepository = matchQueryRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.connectionPermits = new Semaphore(maxConcurrentQueries);
+    this.concurrent = concurrent;
+  }
+
+  public MainDto.Summary load() {
+    return concurrent ? loadConcurrently() : loadSequentially();
+  }
+
+  /**
+   * 네 쿼리를 하나의 읽기 전용 트랜잭션에서 차례로 실행한다 (load() 에서 자기 호출되므로 @Transactional 대신 TransactionTemplate)
+   */
+  public MainDto.Summary loadSequentially() {
+    return readOnlyTransaction.execute(status -> MainDto.Summary.builder()
+        .clanCount(countClans())
+        .memberCount(countPlayers())
+        .matchCount(countMatches())
+        .matches(recentMatches())
+        .build());
+  }
+
+  /**
+   * 하위 쿼리를 모두 끝낼 때까지 기다리며, 하나라도 실패하면 제출 순서와 상관없이 바로 나머지를 인터럽트하고 실패를 던진다.
+   * 실패 시에는 인터럽트된 쿼리가 끝나기를 기다리지 않는다.
+   */
+  public MainDto.Summary loadConcurrently() {
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    try {
+      CompletableFuture<Long> clanCount = submit(executor, this::countClans);
+      CompletableFuture<Long> memberCount = submit(executor, this::countPlayers);
+      CompletableFuture<Long> matchCount = submit(executor, this::countMatches);
+      CompletableFuture<List<MatchDto.Summary>> matches = submit(executor, this::recentMatches);
+      awaitAll(clanCount, memberCount, matchCount, matches);
+
+      return MainDto.Summary.builder()
+          .clanCount(clanCount.join())
+          .memberCount(memberCount.join())
+          .matchCount(matchCount.join())
+          .matches(matches.join())
+          .build();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Long countClans() {
+    return jpaQueryFactory.selectFrom( clan ).where(clan.status.eq(EntityStatus.REGISTERED)).select(clan.count()).fetchFirst();
+  }
+
+  private Long countPlayers() {
+    return jpaQueryFactory.selectFrom( player ).where(player.status.eq(EntityStatus.REGISTERED)).select( player.count() ).fetchFirst();
+  }
+
+  private Long countMatches() {
+    return jpaQueryFactory.selectFrom( match ).where(match.status.eq(EntityStatus.REGISTERED)).select( match.count() ).fetchFirst();
+  }
+
+  private List<MatchDto.Summary> recentMatches() {
+    return List.copyOf(matchQueryRepository.selectSummaries()
+        .where(match.status.eq(EntityStatus.REGISTERED))
+        .orderBy(match.matchTime.desc().nullsLast(), match.id.desc())
+        .limit(10)
+        .fetch());
+  }
+
+  private <T> CompletableFuture<T> submit(ExecutorService executor, Supplier<T> query) {
+    return CompletableFuture.supplyAsync(() -> inOwnTransaction(query), executor);
+  }
+
+  private <T> T inOwnTransaction(Supplier<T> query) {
+    try {
+      connectionPermits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("dashboard load interrupted", e);
+    }
+    try {
+      return readOnlyTransaction.execute(status -> query.get());
+    } finally {
+      connectionPermits.release();
+    }
+  }
+
+  // 첫 실패가 나오면 모두 끝나기를 기다리지 않고 바로 깨어난다
+  private void awaitAll(CompletableFuture<?>... futures) {
+    CompletableFuture<Void> all = CompletableFuture.allOf(futures);
+    for (CompletableFuture<?> future : futures) {
+      future.whenComplete((result, failure) -> {
+        if (failure != null) {
+          all.completeExceptionally(failure);
+        }
+      });
+    }
+    try {
+      all.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("dashboard load interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IllegalStateException("dashboard load failed", e.getCause());
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package com.suclan.suclan.service;
+
+import com.suclan.suclan.constant.Race;
+import com.suclan.suclan.dto.MatchDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 매치 일괄 등록용 CSV 파서
+ * 첫 줄은 MatchDto.CreateRequest 필드명 헤더이며 (대소문자 무시), 값은 RFC 4180 형식의 따옴표를 허용한다.
+ * 해석할 수 없는 행은 requests 에 null 로 두고 errors 에 사유를 남긴다.
+ */
+class MatchCsvParser {
+
+  private static final List<String> COLUMNS = List.of(
+      "playeroneid", "playertwoid", "playeronerace", "playertworace", "winnerid",
+      "mapname", "description", "streamingurl", "matchtime", "contestid");
+
+  private final List<MatchDto.CreateRequest> requests = new ArrayList<>();
+  private final List<MatchDto.ImportError> errors = new ArrayList<>();
+
+  static MatchCsvParser parse(String csv) {
+    MatchCsvParser parser = new MatchCsvParser();
+    List<List<String>> records = split(csv);
+    if (records.isEmpty()) {
+      return parser;
+    }
+
+    Map<String, Integer> header = new HashMap<>();
+    List<String> names = records.get(0);
+    for (int i = 0; i < names.size(); i++) {
+      String name = names.get(i).trim().toLowerCase(Locale.ROOT);
+      if (!COLUMNS.contains(name)) {
+        throw new IllegalArgumentException("알 수 없는 CSV 컬럼입니다: " + names.get(i));
+      }
+      header.put(name, i);
+    }
+
+    for (int row = 1; row < records.size(); row++) {
+      List<String> values = records.get(row);
+      try {
+        parser.requests.add(MatchDto.CreateRequest.builder()
+            .playerOneId(toLong(value(values, header, "playeroneid")))
+            .playerTwoId(toLong(value(values, header, "playertwoid")))
+            .playerOneRace(toRace(value(values, header, "playeronerace")))
+            .playerTwoRace(toRace(value(values, header, "playertworace")))
+            .winnerId(toLong(value(values, header, "winnerid")))
+            .mapName(value(values, header, "mapname"))
+            .description(value(values, header, "description"))
+            .streamingUrl(value(values, header, "streamingurl"))
+            .matchTime(toDateTime(value(values, header, "matchtime")))
+            .contestId(toLong(value(values, header, "contestid")))
+            .build());
+      } catch (RuntimeException e) {
+        parser.requests.add(null);
+        parser.errors.add(MatchDto.ImportError.builder().row(row).message(e.getMessage()).build());
+      }
+    }
+    return parser;
+  }
+
+  List<MatchDto.CreateRequest> getRequests() {
+    return requests;
+  }
+
+  List<MatchDto.ImportError> getErrors() {
+    return errors;
+  }
+
+  private static String value(List<String> values, Map<String, Integer> header, String column) {
+    Integer index = header.get(column);
+    if (index == null || index >= values.size()) {
+      return null;
+    }
+    String value = values.get(index).trim();
+    return value.isEmpty() ? null : value;
+  }
+
+  private static Long toLong(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("숫자가 아닙니다: " + value);
+    }
+  }
+
+  private static Race toRace(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Race.valueOf(value.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("알 수 없는 종족입니다: " + value);
+    }
+  }
+
+  private static LocalDateTime toDateTime(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return LocalDateTime.parse(value.replace(' ', 'T'));
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("날짜 형식이 아닙니다 (yyyy-MM-ddTHH:mm:ss): " + value);
+    }
+  }
+
+  // 빈 줄은 건너뛴다
+  private static List<List<String>> split(String csv) {
+    List<List<String>> records = new ArrayList<>();
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    boolean blank = true;
+
+    for (int i = 0; i < csv.length(); i++) {
+      char c = csv.charAt(i);
+      if (quoted) {
+        if (c == '"' && i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          field.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+        blank = false;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+        blank = false;
+      } else if (c == '\n' || c == '\r') {
+        if (c == '\r' && i + 1 < csv.length() && csv.charAt(i + 1) == '\n') {
+          i++;
+        }
+        if (!blank || field.length() > 0) {
+          fields.add(field.toString());
+          records.add(fields);
+        }
+        fields = new ArrayList<>();
+        field.setLength(0);
+        blank = true;
+      } else {
+        field.append(c);
+        if (!Character.isWhitespace(c)) {
+          blank = false;
+        }
+      }
+    }
+    if (!blank || field.length() > 0) {
+      fields.add(field.toString());
+      records.add(fields);
+    }
+    return records;
+  }
+}
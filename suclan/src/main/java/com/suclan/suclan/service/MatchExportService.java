@@ -0,0 +1,245 @@
+package com.suclan.suclan.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suclan.suclan.constant.ExportFormat;
+import com.suclan.suclan.dto.MatchDto;
+import com.suclan.suclan.exception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 매치 이력 스트리밍 내보내기 (CSV / NDJSON)
+ * 읽기 전용 트랜잭션 안에서 forward-only 커서로 fetchSize 만큼씩 읽어 바로 응답 스트림에 쓴다.
+ * (PostgreSQL 은 autocommit 이 꺼져 있어야 fetchSize 단위로 가져온다)
+ * 내보내기 하나가 끝날 때까지 커넥션을 잡고 있으므로 동시 실행 수를 제한한다.
+ */
+@Service
+@Slf4j
+public class MatchExportService {
+
+  private static final String[] COLUMNS = {
+      "id", "matchTime", "createdAt", "status",
+      "playerOneId", "playerOneNickname", "playerOneRace",
+      "playerTwoId", "playerTwoNickname", "playerTwoRace",
+      "winnerId", "mapName", "contestId", "streamingUrl", "description"
+  };
+
+  private static final String SELECT_SQL = """
+      SELECT m.id, m.match_time, m.created_at, m.status,
+             m.player_one_id, p1.nickname, m.player_one_race,
+             m.player_two_id, p2.nickname, m.player_two_race,
+             m.winner_id, m.map_name, m.contest_id, m.streaming_url, m.description
+      FROM matches m
+      JOIN players p1 ON p1.id = m.player_one_id
+      JOIN players p2 ON p2.id = m.player_two_id
+      """;
+
+  private static final String PERMIT_INTERCEPTOR_KEY = MatchExportService.class.getName() + ".permit";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate readOnlyTransaction;
+  private final Semaphore permits;
+  private final int fetchSize;
+
+  public MatchExportService(JdbcTemplate jdbcTemplate,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${export.max-concurrent:1}") int maxConcurrent,
+                            @Value("${export.fetch-size:1000}") int fetchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.permits = new Semaphore(maxConcurrent);
+    this.fetchSize = fetchSize;
+  }
+
+  /**
+   * 실행 슬롯을 먼저 확보한 뒤 응답 본문을 돌려준다. 슬롯은 스트리밍이 끝나면 반납된다.
+   * 본문이 실행되지 못한 채 비동기 요청이 끝나는 경우(타임아웃, 연결 끊김)에도 반납되도록 완료 콜백을 건다.
+   */
+  public StreamingResponseBody export(MatchDto.SearchCondition condition, ExportFormat format,
+                                      WebAsyncManager asyncManager) {
+    Query query = buildQuery(condition);
+    if (!permits.tryAcquire()) {
+      throw new TooManyRequestsException("다른 내보내기가 진행 중입니다. 잠시 후 다시 시도해 주세요.");
+    }
+    AtomicBoolean released = new AtomicBoolean();
+    Runnable release = () -> {
+      if (released.compareAndSet(false, true)) {
+        permits.release();
+      }
+    };
+    asyncManager.registerCallableInterceptor(PERMIT_INTERCEPTOR_KEY, new CallableProcessingInterceptor() {
+      @Override
+      public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+        release.run();
+      }
+    });
+    return out -> {
+      try {
+        long rows = readOnlyTransaction.execute(status -> format == ExportFormat.CSV
+            ? writeCsv(query, out)
+            : writeNdjson(query, out));
+        log.info("match export finished format={} rows={}", format, rows);
+      } finally {
+        release.run();
+      }
+    };
+  }
+
+  private long writeCsv(Query query, OutputStream out) {
+    try {
+      Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+      writer.write(String.join(",", COLUMNS));
+      writer.write('\n');
+      long rows = stream(query, rs -> {
+        try {
+          for (int i = 1; i <= COLUMNS.length; i++) {
+            if (i > 1) {
+              writer.write(',');
+            }
+            writeCsvValue(writer, rs.getObject(i));
+          }
+          writer.write('\n');
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      writer.flush();
+      return rows;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private long writeNdjson(Query query, OutputStream out) {
+    try {
+      JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+      generator.setRootValueSeparator(null);
+      long rows = stream(query, rs -> {
+        try {
+          generator.writeStartObject();
+          for (int i = 1; i <= COLUMNS.length; i++) {
+            Object value = rs.getObject(i);
+            if (value instanceof Timestamp timestamp) {
+              value = timestamp.toLocalDateTime().toString();
+            }
+            generator.writeFieldName(COLUMNS[i - 1]);
+            generator.writeObject(value);
+          }
+          generator.writeEndObject();
+          generator.writeRaw('\n');
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      generator.flush();
+      return rows;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private long stream(Query query, RowWriter rowWriter) {
+    long[] rows = {0};
+    jdbcTemplate.query(connection -> {
+      PreparedStatement ps = connection.prepareStatement(query.sql(),
+          ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      ps.setFetchSize(fetchSize);
+      for (int i = 0; i < query.params().size(); i++) {
+        ps.setObject(i + 1, query.params().get(i));
+      }
+      return ps;
+    }, (RowCallbackHandler) rs -> {
+      rowWriter.write(rs);
+      rows[0]++;
+    });
+    return rows[0];
+  }
+
+  // MatchService.matchSearchCondition 과 같은 조건 (mapName, 기간 조건 포함)
+  private Query buildQuery(MatchDto.SearchCondition condition) {
+    StringBuilder sql = new StringBuilder(SELECT_SQL);
+    List<Object> params = new ArrayList<>();
+
+    sql.append(condition.isIncludeDeleted()
+        ? "WHERE m.status IN ('REGISTERED', 'DELETED')\n"
+        : "WHERE m.status = 'REGISTERED'\n");
+    for (String nickname : new String[]{condition.getPlayerOneNickname(), condition.getPlayerTwoNickname()}) {
+      if (StringUtils.hasText(nickname)) {
+        String pattern = "%" + nickname.toLowerCase(Locale.ROOT) + "%";
+        sql.append("  AND (LOWER(p1.nickname) LIKE ? OR LOWER(p2.nickname) LIKE ?)\n");
+        params.add(pattern);
+        params.add(pattern);
+      }
+    }
+    if (StringUtils.hasText(condition.getMapName())) {
+      sql.append("  AND LOWER(m.map_name) LIKE ?\n");
+      params.add("%" + condition.getMapName().toLowerCase(Locale.ROOT) + "%");
+    }
+    if (condition.getStartedAt() != null) {
+      sql.append("  AND COALESCE(m.match_time, m.created_at) >= ?\n");
+      params.add(Timestamp.valueOf(condition.getStartedAt()));
+    }
+    if (condition.getEndedAt() != null) {
+      sql.append("  AND COALESCE(m.match_time, m.created_at) <= ?\n");
+      params.add(Timestamp.valueOf(condition.getEndedAt()));
+    }
+    sql.append("ORDER BY m.id");
+    return new Query(sql.toString(), params);
+  }
+
+  private static void writeCsvValue(Writer writer, Object value) throws IOException {
+    if (value == null) {
+      return;
+    }
+    String text = value instanceof Timestamp timestamp ? timestamp.toLocalDateTime().toString() : value.toString();
+    if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+      writer.write(text);
+      return;
+    }
+    writer.write('"');
+    writer.write(text.replace("\"", "\"\""));
+    writer.write('"');
+  }
+
+  private record Query(String sql, List<Object> params) {
+  }
+
+  @FunctionalInterface
+  private interface RowWriter {
+    void write(ResultSet rs) throws SQLException;
+  }
+}
@@ -8,40 +8,80 @@ import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.suclan.suclan.constant.EntityStatus;
 import com.suclan.suclan.constant.PlayerMatchSearchType;
+import com.suclan.suclan.constant.Race;
 import com.suclan.suclan.domain.Contest;
 import com.suclan.suclan.domain.Match;
 import com.suclan.suclan.domain.Player;
 import com.suclan.suclan.domain.QMatch;
 import com.suclan.suclan.dto.*;
+import com.suclan.suclan.event.MatchChangedEvent;
+import com.suclan.suclan.event.MatchRecorded;
+import com.suclan.suclan.event.MatchesImportedEvent;
 import com.suclan.suclan.exception.ResourceNotFoundException;
+import com.suclan.suclan.repository.ContestQueryRepository;
+import com.suclan.suclan.repository.MatchQueryRepository;
 import com.suclan.suclan.repository.MatchRepository;
 import com.suclan.suclan.repository.PlayerRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.config.YamlProcessor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static com.suclan.suclan.constant.EntityStatus.REGISTERED;
 import static com.suclan.suclan.domain.QMatch.match;
 import static com.suclan.suclan.domain.QPlayer.player;
+import static com.suclan.suclan.repository.MatchQueryRepository.playerOne;
+import static com.suclan.suclan.repository.MatchQueryRepository.playerTwo;
 
 @Service
 @RequiredArgsConstructor
 public class MatchService {
 
+    public static final int MAX_IMPORT_ROWS = 10_000;
+
+    private static final String IMPORT_SQL = """
+            INSERT INTO matches (
+              player_one_id, player_two_id, player_one_race, player_two_race, winner_id, loser_id,
+              map_name, description, streaming_url, match_time, contest_id,
+              status, created_at, updated_at
+            )
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'REGISTERED', ?, ?)
+            """;
+
+    private static final int[] IMPORT_SQL_TYPES = {
+            Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.BIGINT,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.BIGINT,
+            Types.TIMESTAMP, Types.TIMESTAMP
+    };
+
     private final MatchRepository matchRepository;
     private final PlayerRepository playerRepository;
     private final ContestService contestService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MatchQueryRepository matchQueryRepository;
+    private final ContestQueryRepository contestQueryRepository;
     private final JPAQueryFactory jpaQueryFactory;
     private final JdbcTemplate jdbcTemplate;
+    private final OutboxService outboxService;
 
     @Transactional
     public MatchDto.Response createMatch(MatchDto.CreateRequest request) {
@@ -78,6 +118,8 @@ public class MatchService {
 
         Match match = matchBuilder.build();
         Match savedMatch = matchRepository.save(match);
+        eventPublisher.publishEvent(new MatchChangedEvent(
+            MatchChangedEvent.Type.CREATED, savedMatch.getId(), null, MatchOutcome.of(savedMatch)));
         return convertToResponse(savedMatch);
     }
 
@@ -85,6 +127,7 @@ public class MatchService {
     public MatchDto.Response updateMatch(Long id, MatchDto.UpdateRequest request) {
         Match match = matchRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Match not found with id: " + id));
+        MatchOutcome before = MatchOutcome.of(match);
 
         if (request.getPlayerOneId() != null) {
           Player playerOne = playerRepository.findById(request.getPlayerOneId())
@@ -133,6 +176,8 @@ public class MatchService {
         }
 
         Match updatedMatch = matchRepository.save(match);
+        eventPublisher.publishEvent(new MatchChangedEvent(
+            MatchChangedEvent.Type.UPDATED, updatedMatch.getId(), before, MatchOutcome.of(updatedMatch)));
         return convertToResponse(updatedMatch);
     }
 
@@ -143,40 +188,75 @@ public class MatchService {
         return convertToResponse(match);
     }
 
+    /**
+     * 매치 여러 개 요약 조회 (IN 쿼리 한 번, 없는 id 는 빠진다)
+     */
     @Transactional
-    public Page<MatchDto.Summary> getAllMatches(Pageable pageable, MatchDto.SearchCondition condition) {
+    public Map<Long, MatchDto.Summary> getMatchSummaries(Collection<Long> ids) {
+        Map<Long, MatchDto.Summary> result = new HashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+        matchQueryRepository.selectSummaries()
+                .where(match.id.in(ids))
+                .fetch()
+                .forEach(summary -> result.put(summary.getId(), summary));
+        return result;
+    }
 
-      BooleanExpression playerNameCondition = null;
+    @Transactional
+    public Page<MatchDto.Summary> getAllMatches(Pageable pageable, MatchDto.SearchCondition condition) {
+      BooleanExpression searchCondition = matchSearchCondition(condition);
 
-      if (StringUtils.hasText(condition.getPlayerOneNickname())) {
-        playerNameCondition = match.playerOne.nickname.likeIgnoreCase("%" + condition.getPlayerOneNickname() + "%")
-            .or(match.playerTwo.nickname.likeIgnoreCase("%" + condition.getPlayerOneNickname() + "%"));
-      }
+      var query = matchQueryRepository.selectSummaries()
+          .where(searchCondition);
 
-      if (StringUtils.hasText(condition.getPlayerTwoNickname())) {
-        BooleanExpression twoCond = match.playerOne.nickname.likeIgnoreCase("%" + condition.getPlayerTwoNickname() + "%")
-            .or(match.playerTwo.nickname.likeIgnoreCase("%" + condition.getPlayerTwoNickname() + "%"));
-        playerNameCondition = (playerNameCondition == null) ? twoCond : playerNameCondition.and(twoCond);
-      }
+     List<MatchDto.Summary> result = query.orderBy(
+         orderSpecifiers(pageable.getSort())
+     ).offset(pageable.getOffset())
+      .limit(pageable.getPageSize())
+      .fetch();
 
-      BooleanExpression deleteCondition = null;
+      long total = matchQueryRepository.countSummaries()
+          .where(searchCondition)
+          .fetchOne();
 
-      if (condition.isIncludeDeleted()){
-        deleteCondition = match.status.in(REGISTERED, EntityStatus.DELETED);
-      } else {
-        deleteCondition = match.status.in(REGISTERED);
-      }
+      return new PageImpl<>(result, pageable, total);
+    }
 
-      var query = jpaQueryFactory.selectFrom(match)
-          .where(playerNameCondition, deleteCondition);
+    /**
+     * 커서 기반 매치 목록 조회 (matchTime desc, id desc 고정 정렬, COUNT 쿼리 없음)
+     */
+    @Transactional
+    public CursorPage<MatchDto.Summary> scrollMatches(String cursor, int size, MatchDto.SearchCondition condition) {
+      MatchCursor after = MatchCursor.decode(cursor);
+
+      List<MatchDto.Summary> rows = matchQueryRepository.selectSummaries()
+          .where(matchSearchCondition(condition), seekCondition(after))
+          .orderBy(match.matchTime.desc().nullsLast(), match.id.desc())
+          .limit(size + 1L)
+          .fetch();
+
+      boolean hasNext = rows.size() > size;
+      List<MatchDto.Summary> content = hasNext ? rows.subList(0, size) : rows;
+      MatchDto.Summary last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+      return CursorPage.<MatchDto.Summary>builder()
+          .content(content)
+          .size(size)
+          .hasNext(hasNext)
+          .next(hasNext ? new MatchCursor(last.getMatchTime(), last.getId()).encode() : null)
+          .build();
+    }
 
+    OrderSpecifier<?>[] orderSpecifiers(Sort sort) {
       List<OrderSpecifier<?>> orders = new ArrayList<>();
-      for (Sort.Order o : pageable.getSort()) {
+      for (Sort.Order o : sort) {
         PathBuilder<Match> entityPath = new PathBuilder<>(match.getType(), match.getMetadata());
         if (o.getProperty().equalsIgnoreCase("playerOneNickname")) {
-          orders.add(new OrderSpecifier<>(o.isAscending() ? Order.ASC : Order.DESC, match.playerOne.nickname));
+          orders.add(new OrderSpecifier<>(o.isAscending() ? Order.ASC : Order.DESC, playerOne.nickname));
         } else if (o.getProperty().equalsIgnoreCase("playerTwoNickname")) {
-          orders.add(new OrderSpecifier<>(o.isAscending() ? Order.ASC : Order.DESC, match.playerTwo.nickname));
+          orders.add(new OrderSpecifier<>(o.isAscending() ? Order.ASC : Order.DESC, playerTwo.nickname));
         } else if (o.getProperty().equalsIgnoreCase("matchTime")) {
           if (o.isAscending()) {
             orders.add(match.matchTime.asc().nullsLast());
@@ -188,22 +268,41 @@ public class MatchService {
         }
       }
       orders.add(new OrderSpecifier<>(Order.DESC, match.id));
+      return orders.toArray(new OrderSpecifier[]{});
+    }
 
-     List<MatchDto.Summary> result = query.orderBy(
-         orders.toArray(new OrderSpecifier[]{})
-     ).offset(pageable.getOffset())
-      .limit(pageable.getPageSize())
-      .fetch().stream().map(
-         this::convertToSummary
-     ).toList();
-
-      long total = jpaQueryFactory
-          .select(match.count())
-          .from(match)
-          .where(playerNameCondition, deleteCondition)
-          .fetchOne();
+    private BooleanExpression matchSearchCondition(MatchDto.SearchCondition condition) {
+      BooleanExpression playerNameCondition = null;
 
-      return new PageImpl<>(result, pageable, total);
+      if (StringUtils.hasText(condition.getPlayerOneNickname())) {
+        playerNameCondition = playerOne.nickname.likeIgnoreCase("%" + condition.getPlayerOneNickname() + "%")
+            .or(playerTwo.nickname.likeIgnoreCase("%" + condition.getPlayerOneNickname() + "%"));
+      }
+
+      if (StringUtils.hasText(condition.getPlayerTwoNickname())) {
+        BooleanExpression twoCond = playerOne.nickname.likeIgnoreCase("%" + condition.getPlayerTwoNickname() + "%")
+            .or(playerTwo.nickname.likeIgnoreCase("%" + condition.getPlayerTwoNickname() + "%"));
+        playerNameCondition = (playerNameCondition == null) ? twoCond : playerNameCondition.and(twoCond);
+      }
+
+      BooleanExpression deleteCondition = condition.isIncludeDeleted()
+          ? match.status.in(REGISTERED, EntityStatus.DELETED)
+          : match.status.in(REGISTERED);
+
+      return deleteCondition.and(playerNameCondition);
+    }
+
+    // matchTime desc nulls last, id desc 순서에서 커서 이후의 행
+    private BooleanExpression seekCondition(MatchCursor after) {
+      if (after == null) {
+        return null;
+      }
+      if (after.getMatchTime() == null) {
+        return match.matchTime.isNull().and(match.id.lt(after.getId()));
+      }
+      return match.matchTime.lt(after.getMatchTime())
+          .or(match.matchTime.eq(after.getMatchTime()).and(match.id.lt(after.getId())))
+          .or(match.matchTime.isNull());
     }
 
     @Transactional
@@ -212,18 +311,34 @@ public class MatchService {
         return getMatchesByPlayerByLatest(playerId, condition, pageable);
       }
 
-      Optional<Player> p = playerRepository.findByNickname(condition.getOpponentNickname());
-      Page<OpponentSummary> queryResult = matchRepository.findOpponentSummaries(playerId, p.map(Player::getId).orElse(null), pageable);
-      List<MatchDto.Summary> result  = queryResult.stream().map(
-          tuple -> {
-            Long opponentId = tuple.getOpponentId();
-            PlayerDto.Summary oppponent = playerRepository.findById(opponentId).map(this::convertPlayerToSummary).get();
+      Long opponentId = null;
+      if (StringUtils.hasText(condition.getOpponentNickname())) {
+        Optional<Long> found = playerRepository.findIdByNickname(condition.getOpponentNickname());
+        if (found.isEmpty()) {
+          return Page.empty(pageable);
+        }
+        opponentId = found.get();
+      }
+
+      // 정렬은 쿼리에 고정되어 있으므로 페이지 정보만 전달
+      Page<OpponentSummary> queryResult = matchRepository.findOpponentSummaries(
+          playerId, opponentId, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+      if (queryResult.isEmpty()) {
+        return new PageImpl<>(List.of(), pageable, queryResult.getTotalElements());
+      }
+
+      PlayerDto.Summary focalPlayer = matchQueryRepository.findPlayerSummary(playerId)
+          .orElseThrow(() -> new ResourceNotFoundException("Player not found with id: " + playerId));
+      List<MatchDto.Summary> result = queryResult.stream().map(
+          row -> {
+            PlayerDto.Summary opponent = convertOpponentToSummary(row);
             return MatchDto.Summary.builder()
-                .playerOne(playerRepository.findById(playerId).map(this::convertPlayerToSummary).get())
-                .playerTwo(oppponent)
-                .playerTwoRace(oppponent.getRace())
-                .playerOneWins(tuple.getWin())
-                .opponentWins(tuple.getLose())
+                .playerOne(focalPlayer)
+                .playerTwo(opponent)
+                .playerOneRace(focalPlayer.getRace())
+                .playerTwoRace(opponent.getRace())
+                .playerOneWins(row.getWin())
+                .opponentWins(row.getLose())
                 .build();
           }
       ).toList();
@@ -235,9 +350,10 @@ public class MatchService {
           match.playerOne.id.eq(playerId).or(match.playerTwo.id.eq(playerId));
 
       if (StringUtils.hasText(condition.getOpponentNickname())) {
-        whereCondition.and(
-            match.playerOne.nickname.likeIgnoreCase("%" + condition.getOpponentNickname() +"%")
-                .or(match.playerTwo.nickname.likeIgnoreCase("%" + condition.getOpponentNickname() + "%"))
+        String opponentLike = "%" + condition.getOpponentNickname() + "%";
+        whereCondition = whereCondition.and(
+            match.playerOne.id.eq(playerId).and(playerTwo.nickname.likeIgnoreCase(opponentLike))
+                .or(match.playerTwo.id.eq(playerId).and(playerOne.nickname.likeIgnoreCase(opponentLike)))
         );
       }
 
@@ -259,18 +375,14 @@ public class MatchService {
         whereCondition = whereCondition.and(match.status.in(REGISTERED, EntityStatus.DELETED));
       }
 
-      List<MatchDto.Summary> result = jpaQueryFactory.selectFrom(match)
+      List<MatchDto.Summary> result = matchQueryRepository.selectSummaries()
           .where(whereCondition)
+          .orderBy(match.matchTime.desc().nullsLast(), match.id.desc())
           .offset(pageable.getOffset())
           .limit(pageable.getPageSize())
-          .fetch()
-          .stream().map(
-              this::convertToSummary
-          ).toList();
-
-      long total = jpaQueryFactory
-          .select(match.count())
-          .from(match)
+          .fetch();
+
+      long total = matchQueryRepository.countSummaries()
           .where(whereCondition)
           .fetchOne();
 
@@ -279,10 +391,214 @@ public class MatchService {
 
     @Transactional
     public void deleteMatch(Long id) {
-        if (!matchRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Match not found with id: " + id);
+        Match match = matchRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Match not found with id: " + id));
+        MatchOutcome before = MatchOutcome.of(match);
+        matchRepository.delete(match);
+        eventPublisher.publishEvent(new MatchChangedEvent(
+            MatchChangedEvent.Type.DELETED, id, before, null));
+    }
+
+    /**
+     * 플레이어가 참가한 매치 전부 삭제 (플레이어 삭제 시)
+     * 매치마다 DELETED 이벤트를 발행해 상대 전적 / 레이팅 / 대진표 등 파생 데이터가 함께 갱신되게 한다.
+     */
+    @Transactional
+    public void deleteMatchesOfPlayer(Long playerId) {
+        matchRepository.findRegisteredIdsByPlayer(playerId).forEach(this::deleteMatch);
+    }
+
+    /**
+     * CSV 일괄 등록 (헤더: playerOneId,playerTwoId,winnerId,mapName,matchTime,... - CreateRequest 필드명)
+     */
+    @Transactional
+    public MatchDto.ImportResult importMatchesCsv(String csv, boolean dryRun) {
+        MatchCsvParser parsed = MatchCsvParser.parse(csv);
+        return importMatches(parsed.getRequests(), parsed.getErrors(), dryRun);
+    }
+
+    /**
+     * 매치 일괄 등록
+     * 참조하는 선수/대회는 IN 쿼리로 한 번에 확인하고, 유효한 행만 JDBC batch insert 한다.
+     * 잘못된 행은 건너뛰고 행 번호와 사유를 돌려준다. 전적/레이팅 등 파생 데이터는 MatchesImportedEvent 로 재계산한다.
+     * 아웃박스 구독자를 위해 승패가 정해진 행마다 MatchRecorded 를 같은 트랜잭션에 남긴다.
+     */
+    @Transactional
+    public MatchDto.ImportResult importMatches(List<MatchDto.CreateRequest> requests, boolean dryRun) {
+        return importMatches(requests, new ArrayList<>(), dryRun);
+    }
+
+    private MatchDto.ImportResult importMatches(List<MatchDto.CreateRequest> requests,
+                                                List<MatchDto.ImportError> errors, boolean dryRun) {
+        if (requests.size() > MAX_IMPORT_ROWS) {
+            throw new IllegalArgumentException("한 번에 " + MAX_IMPORT_ROWS + "건까지 등록할 수 있습니다: " + requests.size());
+        }
+
+        Set<Long> playerIds = new HashSet<>();
+        Set<Long> contestIds = new HashSet<>();
+        for (MatchDto.CreateRequest request : requests) {
+            if (request == null) {
+                continue;
+            }
+            addIfPresent(playerIds, request.getPlayerOneId());
+            addIfPresent(playerIds, request.getPlayerTwoId());
+            addIfPresent(playerIds, request.getWinnerId());
+            addIfPresent(contestIds, request.getContestId());
+        }
+        Map<Long, Race> playerRaces = new HashMap<>();
+        queryIn("SELECT id, race FROM players WHERE id IN (%s)", playerIds, rs -> {
+            String race = rs.getString(2);
+            playerRaces.put(rs.getLong(1), race != null ? Race.valueOf(race) : null);
+        });
+        Set<Long> contests = new HashSet<>();
+        queryIn("SELECT id FROM contests WHERE id IN (%s)", contestIds, rs -> contests.add(rs.getLong(1)));
+
+        LocalDateTime importedAt = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            MatchDto.CreateRequest request = requests.get(i);
+            if (request == null) {
+                continue;   // 파싱 단계에서 이미 오류로 기록됨
+            }
+            String error = validateImport(request, playerRaces, contests);
+            if (error != null) {
+                errors.add(MatchDto.ImportError.builder().row(i + 1).message(error).build());
+                continue;
+            }
+            rows.add(toImportRow(request, playerRaces, importedAt));
+        }
+
+        if (!dryRun && !rows.isEmpty()) {
+            List<Long> matchIds = insertImportRows(rows);
+            List<MatchRecorded> recorded = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                MatchOutcome outcome = importedOutcome(matchIds.get(i), rows.get(i), importedAt);
+                if (outcome != null) {
+                    recorded.add(new MatchRecorded(outcome.getMatchId(), null, outcome));
+                }
+            }
+            outboxService.appendAll(recorded);
+            eventPublisher.publishEvent(new MatchesImportedEvent(rows.size()));
+        }
+
+        errors.sort(Comparator.comparingInt(MatchDto.ImportError::getRow));
+        return MatchDto.ImportResult.builder()
+                .total(requests.size())
+                .imported(dryRun ? 0 : rows.size())
+                .dryRun(dryRun)
+                .errors(errors)
+                .build();
+    }
+
+    private String validateImport(MatchDto.CreateRequest request, Map<Long, Race> playerRaces, Set<Long> contests) {
+        if (request.getPlayerOneId() == null || request.getPlayerTwoId() == null) {
+            return "playerOneId, playerTwoId 는 필수입니다.";
+        }
+        if (request.getPlayerOneId().equals(request.getPlayerTwoId())) {
+            return "같은 선수끼리의 매치입니다: " + request.getPlayerOneId();
+        }
+        if (!playerRaces.containsKey(request.getPlayerOneId())) {
+            return "Player not found with id: " + request.getPlayerOneId();
+        }
+        if (!playerRaces.containsKey(request.getPlayerTwoId())) {
+            return "Player not found with id: " + request.getPlayerTwoId();
+        }
+        if (request.getWinnerId() != null
+                && !request.getWinnerId().equals(request.getPlayerOneId())
+                && !request.getWinnerId().equals(request.getPlayerTwoId())) {
+            return "winnerId 는 두 선수 중 하나여야 합니다: " + request.getWinnerId();
+        }
+        if (request.getContestId() != null && !contests.contains(request.getContestId())) {
+            return "Contest not found with id: " + request.getContestId();
+        }
+        return null;
+    }
+
+    // 1000행씩 batch insert 하고 생성된 id 를 행 순서대로 돌려준다
+    private List<Long> insertImportRows(List<Object[]> rows) {
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += 1000) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + 1000, rows.size()));
+            KeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(IMPORT_SQL, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Object[] row = chunk.get(i);
+                            for (int c = 0; c < row.length; c++) {
+                                ps.setObject(c + 1, row[c], IMPORT_SQL_TYPES[c]);
+                            }
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    }, keys);
+            keys.getKeyList().forEach(key -> ids.add(((Number) key.get("id")).longValue()));
+        }
+        return ids;
+    }
+
+    // MatchOutcome.of 와 같은 규칙 (승자가 없으면 null, 경기 시각이 없으면 등록 시각)
+    private MatchOutcome importedOutcome(Long matchId, Object[] row, LocalDateTime importedAt) {
+        Long winnerId = (Long) row[4];
+        if (winnerId == null) {
+            return null;
+        }
+        boolean playerOneWon = winnerId.equals(row[0]);
+        String winnerRace = (String) (playerOneWon ? row[2] : row[3]);
+        String loserRace = (String) (playerOneWon ? row[3] : row[2]);
+        Timestamp matchTime = (Timestamp) row[9];
+        return new MatchOutcome(
+                matchId,
+                winnerId,
+                winnerRace != null ? Race.valueOf(winnerRace) : null,
+                (Long) row[5],
+                loserRace != null ? Race.valueOf(loserRace) : null,
+                matchTime != null ? matchTime.toLocalDateTime() : importedAt);
+    }
+
+    // IMPORT_SQL 컬럼 순서. 종족을 지정하지 않으면 선수의 현재 종족을 쓴다 (createMatch 와 동일)
+    private Object[] toImportRow(MatchDto.CreateRequest request, Map<Long, Race> playerRaces, LocalDateTime importedAt) {
+        Long winnerId = request.getWinnerId();
+        Long loserId = winnerId == null ? null
+                : winnerId.equals(request.getPlayerOneId()) ? request.getPlayerTwoId() : request.getPlayerOneId();
+        Race playerOneRace = request.getPlayerOneRace() != null
+                ? request.getPlayerOneRace() : playerRaces.get(request.getPlayerOneId());
+        Race playerTwoRace = request.getPlayerTwoRace() != null
+                ? request.getPlayerTwoRace() : playerRaces.get(request.getPlayerTwoId());
+        return new Object[]{
+                request.getPlayerOneId(),
+                request.getPlayerTwoId(),
+                playerOneRace != null ? playerOneRace.name() : null,
+                playerTwoRace != null ? playerTwoRace.name() : null,
+                winnerId,
+                loserId,
+                request.getMapName(),
+                request.getDescription(),
+                request.getStreamingUrl(),
+                request.getMatchTime() != null ? Timestamp.valueOf(request.getMatchTime()) : null,
+                request.getContestId(),
+                Timestamp.valueOf(importedAt),
+                Timestamp.valueOf(importedAt)
+        };
+    }
+
+    // IN 목록은 1000개씩 나눠 조회한다
+    private void queryIn(String sql, Collection<Long> ids, RowCallbackHandler handler) {
+        List<Long> list = new ArrayList<>(ids);
+        for (int from = 0; from < list.size(); from += 1000) {
+            List<Long> chunk = list.subList(from, Math.min(from + 1000, list.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query(sql.formatted(placeholders), handler, chunk.toArray());
+        }
+    }
+
+    private static void addIfPresent(Set<Long> ids, Long id) {
+        if (id != null) {
+            ids.add(id);
         }
-        matchRepository.deleteById(id);
     }
 
     private MatchDto.Response convertToResponse(Match match) {
@@ -305,21 +621,6 @@ public class MatchService {
                 .build();
     }
 
-    private MatchDto.Summary convertToSummary(Match match) {
-        return MatchDto.Summary.builder()
-                .id(match.getId())
-                .playerOne(convertPlayerToSummary(match.getPlayerOne()))
-                .playerTwo(convertPlayerToSummary(match.getPlayerTwo()))
-                .playerOneRace(match.getPlayerOneRace())
-                .playerTwoRace(match.getPlayerTwoRace())
-                .winner(match.getWinner() != null ? convertPlayerToSummary(match.getWinner()) : null)
-                .streamingUrl(match.getStreamingUrl())
-                .mapName(match.getMapName())
-                .matchTime(match.getMatchTime())
-                .createdAt(match.getCreatedAt())
-                .build();
-    }
-
     private PlayerDto.Summary convertPlayerToSummary(Player player) {
         return PlayerDto.Summary.builder()
                 .id(player.getId())
@@ -334,6 +635,16 @@ public class MatchService {
                 .build();
     }
 
+    private PlayerDto.Summary convertOpponentToSummary(OpponentSummary row) {
+        return new PlayerDto.Summary(
+                row.getOpponentId(),
+                row.getOpponentNickname(),
+                row.getOpponentRace() != null ? Race.valueOf(row.getOpponentRace()) : null,
+                null,
+                row.getOpponentGradeId(),
+                row.getOpponentGradeName());
+    }
+
     private ContestDto.Summary convertContestToSummary(Contest contest) {
         return ContestDto.Summary.builder()
                 .id(contest.getId())
@@ -341,7 +652,8 @@ public class MatchService {
                 .status(contest.getStatus())
                 .startedAt(contest.getStartedAt())
                 .endedAt(contest.getEndedAt())
-                .participantCount(contest.getPlayers().size())
+                .participantCount(contestQueryRepository.countParticipants(List.of(contest.getId()))
+                        .getOrDefault(contest.getId(), 0))
                 .build();
     }
 }
@@ -0,0 +1,265 @@
+package com.suclan.suclan.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suclan.suclan.dto.MatchDto;
+import com.suclan.suclan.event.MatchChangedEvent;
+import com.suclan.suclan.event.MatchesImportedEvent;
+import com.suclan.suclan.exception.TooManyRequestsException;
+import com.suclan.suclan.repository.MatchQueryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.suclan.suclan.domain.QMatch.match;
+
+/**
+ * 실시간 매치 피드 (SSE)
+ * 커밋된 매치 변경마다 요약을 한 번 읽고 한 번 직렬화한 뒤 모든 구독자에게 같은 프레임을 보낸다.
+ * 구독자마다 크기가 정해진 버퍼와 가상 스레드 전송기를 두며, 버퍼가 가득 찬 느린 구독자는 연결을 끊는다.
+ * 재연결 시 Last-Event-ID 이후 프레임은 최근 replay-size 개 안에서 다시 보내고, 그보다 오래됐으면 reset 을 보낸다.
+ * 이벤트 id 는 "기동시각-순번" 이므로 재시작 전 id 로 다시 연결하면 번호가 겹쳐도 reset 을 받는다.
+ */
+@Service
+@Slf4j
+public class MatchStreamService {
+
+  private static final Frame HEARTBEAT = new Frame(0, null, "ping");
+
+  private final MatchQueryRepository matchQueryRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final ObjectMapper objectMapper;
+  private final int bufferSize;
+  private final int replaySize;
+  private final int maxSubscribers;
+  private final long timeoutMillis;
+  private final Counter slowConsumers;
+
+  private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+  private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+  private final Deque<Frame> recent = new ArrayDeque<>();
+  private long sequence = 0;
+
+  // 변경 순서대로 요약 조회 + 팬아웃, 실제 소켓 쓰기는 구독자별 가상 스레드
+  private final ExecutorService dispatcher = Executors.newSingleThreadExecutor();
+  private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+  public MatchStreamService(MatchQueryRepository matchQueryRepository,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${match-stream.buffer-size:64}") int bufferSize,
+                            @Value("${match-stream.replay-size:256}") int replaySize,
+                            @Value("${match-stream.max-subscribers:5000}") int maxSubscribers,
+                            @Value("${match-stream.timeout-ms:1800000}") long timeoutMillis) {
+    this.matchQueryRepository = matchQueryRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.objectMapper = objectMapper;
+    this.bufferSize = bufferSize;
+    this.replaySize = replaySize;
+    this.maxSubscribers = maxSubscribers;
+    this.timeoutMillis = timeoutMillis;
+    this.slowConsumers = Counter.builder("suclan.match_stream.slow_consumers")
+        .description("버퍼가 가득 차 연결을 끊은 구독자 수")
+        .register(meterRegistry);
+    Gauge.builder("suclan.match_stream.subscribers", subscribers, Set::size).register(meterRegistry);
+  }
+
+  public SseEmitter subscribe(String lastEventId) {
+    if (subscribers.size() >= maxSubscribers) {
+      throw new TooManyRequestsException("실시간 피드 구독자가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+    SseEmitter emitter = new SseEmitter(timeoutMillis);
+    Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+    emitter.onCompletion(() -> subscribers.remove(subscriber));
+    emitter.onTimeout(subscriber::close);
+    emitter.onError(e -> subscribers.remove(subscriber));
+
+    subscriber.offer(HEARTBEAT);
+    synchronized (recent) {
+      replay(subscriber, lastEventId);
+      subscribers.add(subscriber);
+    }
+    return emitter;
+  }
+
+  @TransactionalEventListener
+  public void onMatchChanged(MatchChangedEvent event) {
+    dispatcher.execute(() -> {
+      try {
+        MatchDto.Summary summary = event.getType() == MatchChangedEvent.Type.DELETED ? null
+            : readOnlyTransaction.execute(status -> matchQueryRepository.selectSummaries()
+                .where(match.id.eq(event.getMatchId()))
+                .fetchOne());
+        publish(event.getType().name().toLowerCase(), MatchDto.StreamEvent.builder()
+            .type(event.getType())
+            .matchId(event.getMatchId())
+            .match(summary)
+            .build());
+      } catch (RuntimeException e) {
+        log.warn("match stream publish failed for match {}", event.getMatchId(), e);
+      }
+    });
+  }
+
+  // 일괄 등록은 건별로 보내지 않고 목록을 다시 읽으라는 신호만 보낸다
+  @TransactionalEventListener
+  public void onMatchesImported(MatchesImportedEvent event) {
+    dispatcher.execute(() -> publish("imported", Map.of("count", event.getCount())));
+  }
+
+  @Scheduled(fixedDelayString = "${match-stream.heartbeat-interval-ms:15000}")
+  public void heartbeat() {
+    subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    dispatcher.shutdown();
+    subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    senders.shutdown();
+  }
+
+  private void publish(String name, Object payload) {
+    String data;
+    try {
+      data = objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("match stream payload serialization failed", e);
+    }
+    synchronized (recent) {
+      Frame frame = new Frame(++sequence, name, data);
+      recent.addLast(frame);
+      if (recent.size() > replaySize) {
+        recent.removeFirst();
+      }
+      subscribers.forEach(subscriber -> subscriber.offer(frame));
+    }
+  }
+
+  // recent 잠금 안에서 호출
+  private void replay(Subscriber subscriber, String lastEventId) {
+    if (lastEventId == null || lastEventId.isBlank()) {
+      return;
+    }
+    long after = parseSequence(lastEventId.trim());
+    long oldest = recent.isEmpty() ? sequence + 1 : recent.peekFirst().id();
+    if (after < oldest - 1 || after > sequence) {
+      // 놓친 프레임을 채울 수 없으므로(오래됐거나 서버 재시작) 목록을 다시 읽게 한다
+      subscriber.offer(new Frame(sequence, "reset", "{}"));
+      return;
+    }
+    List<Frame> missed = new ArrayList<>();
+    for (Frame frame : recent) {
+      if (frame.id() > after) {
+        missed.add(frame);
+      }
+    }
+    if (missed.size() >= bufferSize) {
+      // 버퍼에 다 들어가지 않으면 느린 구독자로 끊기고 같은 Last-Event-ID 로 재접속을 반복하므로 reset 으로 대신한다
+      subscriber.offer(new Frame(sequence, "reset", "{}"));
+      return;
+    }
+    missed.forEach(subscriber::offer);
+  }
+
+  // 다른 기동 시각(재시작 전)이거나 형식이 틀리면 -1 (reset 대상)
+  private long parseSequence(String lastEventId) {
+    int separator = lastEventId.lastIndexOf('-');
+    if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(lastEventId.substring(separator + 1));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private record Frame(long id, String name, String data) {
+  }
+
+  private final class Subscriber {
+    private final SseEmitter emitter;
+    private final BlockingQueue<Frame> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    private Subscriber(SseEmitter emitter, BlockingQueue<Frame> buffer) {
+      this.emitter = emitter;
+      this.buffer = buffer;
+    }
+
+    void offer(Frame frame) {
+      if (!buffer.offer(frame)) {
+        slowConsumers.increment();
+        close();
+        return;
+      }
+      if (draining.compareAndSet(false, true)) {
+        senders.execute(this::drain);
+      }
+    }
+
+    void close() {
+      subscribers.remove(this);
+      buffer.clear();
+      emitter.complete();
+    }
+
+    private void drain() {
+      do {
+        Frame frame;
+        while ((frame = buffer.poll()) != null) {
+          if (!send(frame)) {
+            return;
+          }
+        }
+        draining.set(false);
+      } while (!buffer.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    private boolean send(Frame frame) {
+      try {
+        if (frame.name() == null) {
+          emitter.send(SseEmitter.event().comment(frame.data()));
+        } else {
+          emitter.send(SseEmitter.event()
+              .id(epoch + "-" + frame.id())
+              .name(frame.name())
+              .data(frame.data(), MediaType.APPLICATION_JSON));
+        }
+        return true;
+      } catch (IOException | IllegalStateException e) {
+        // 클라이언트가 끊겼다 (draining 은 true 로 남겨 더 이상 전송을 시작하지 않는다)
+        subscribers.remove(this);
+        buffer.clear();
+        return false;
+      }
+    }
+  }
+}
@@ -30,6 +30,7 @@ public class NoticeService {
 
   private final JPAQueryFactory jpaQueryFactory;
   private final NoticeRepository noticeRepository;
+  private final ResourceVersionService resourceVersionService;
 
   @Transactional
   public Page<NoticeDto.Summary> getNotices(Pageable pageable, NoticeDto.SearchCondition condition){
@@ -60,6 +61,7 @@ public class NoticeService {
             .text(notice.getText())
             .build()
     );
+    resourceVersionService.bumpAfterCommit(ResourceVersionService.NOTICES);
     return NoticeDto.CreateResponse.builder()
         .id(savedNotice.getId())
         .build();
@@ -0,0 +1,274 @@
+package com.suclan.suclan.service;
+
+import com.suclan.suclan.domain.OutboxEvent;
+import com.suclan.suclan.domain.OutboxGap;
+import com.suclan.suclan.domain.OutboxOffset;
+import com.suclan.suclan.event.DomainEvent;
+import com.suclan.suclan.event.DomainEventSubscriber;
+import com.suclan.suclan.repository.OutboxEventRepository;
+import com.suclan.suclan.repository.OutboxGapRepository;
+import com.suclan.suclan.repository.OutboxOffsetRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 아웃박스 폴링 전달기
+ * 구독자마다 오프셋(마지막으로 처리한 id) 이후 이벤트를 batch-size 개씩 읽어 순서대로 전달하고, 처리한 만큼 오프셋을 올린다.
+ * 처리 후 오프셋 저장 전에 죽으면 다시 전달되므로 최소 한 번 전달이다.
+ * IDENTITY id 는 커밋 순서와 다를 수 있어, 번호가 비면 그 뒤 이벤트가 settle-ms 보다 오래될 때까지 기다렸다가 넘어간다.
+ * 넘어간 번호는 outbox_gaps 에 남겨 매 폴링마다 다시 확인하고, 긴 트랜잭션이 늦게 커밋한 이벤트면 (순서는 뒤바뀌지만) 전달한다.
+ * gap-timeout-ms 가 지나도 나타나지 않은 번호만 롤백으로 본다.
+ * perInstance 구독자는 인스턴스별 키(name@instanceId)로 오프셋을 메모리에, 빈 번호를 outbox_gaps 에 따로 둔다.
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+
+  // 한 번에 비는 번호가 이보다 많으면 (대량 롤백) 나머지는 바로 롤백으로 본다
+  private static final int MAX_GAP_IDS = 1000;
+
+  private final OutboxService outboxService;
+  private final OutboxEventRepository outboxEventRepository;
+  private final OutboxOffsetRepository outboxOffsetRepository;
+  private final OutboxGapRepository outboxGapRepository;
+  private final List<DomainEventSubscriber> subscribers;
+  private final MeterRegistry meterRegistry;
+  private final TransactionTemplate transaction;
+  private final TransactionTemplate readOnlyTransaction;
+  private final int batchSize;
+  private final long settleMillis;
+  private final int maxAttempts;
+  private final long retentionMillis;
+  private final long gapTimeoutMillis;
+
+  // 구독자별 실패 중인 이벤트 id -> 시도 횟수 (max-attempts 를 넘으면 건너뛴다)
+  private final Map<String, long[]> failures = new HashMap<>();
+
+  // perInstance 구독자의 오프셋 (프로세스와 수명이 같다)
+  private final String instanceId = UUID.randomUUID().toString();
+  private final Map<String, Long> instanceOffsets = new HashMap<>();
+
+  public OutboxDispatcher(OutboxService outboxService,
+                          OutboxEventRepository outboxEventRepository,
+                          OutboxOffsetRepository outboxOffsetRepository,
+                          OutboxGapRepository outboxGapRepository,
+                          ObjectProvider<DomainEventSubscriber> subscribers,
+                          MeterRegistry meterRegistry,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${outbox.batch-size:200}") int batchSize,
+                          @Value("${outbox.settle-ms:5000}") long settleMillis,
+                          @Value("${outbox.max-attempts:5}") int maxAttempts,
+                          @Value("${outbox.retention-ms:86400000}") long retentionMillis,
+                          @Value("${outbox.gap-timeout-ms:3600000}") long gapTimeoutMillis) {
+    this.outboxService = outboxService;
+    this.outboxEventRepository = outboxEventRepository;
+    this.outboxOffsetRepository = outboxOffsetRepository;
+    this.outboxGapRepository = outboxGapRepository;
+    this.subscribers = subscribers.orderedStream().toList();
+    this.meterRegistry = meterRegistry;
+    this.transaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.batchSize = batchSize;
+    this.settleMillis = settleMillis;
+    this.maxAttempts = maxAttempts;
+    this.retentionMillis = retentionMillis;
+    this.gapTimeoutMillis = gapTimeoutMillis;
+  }
+
+  @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+  public void poll() {
+    for (DomainEventSubscriber subscriber : subscribers) {
+      try {
+        recheckGaps(subscriber);
+        // 한 번에 batch-size 를 꽉 채웠으면 밀린 것이므로 바로 이어서 읽는다
+        int read;
+        do {
+          read = dispatch(subscriber);
+        } while (read == batchSize);
+      } catch (RuntimeException e) {
+        log.warn("outbox dispatch failed for subscriber {}", subscriber.name(), e);
+      }
+    }
+  }
+
+  // 보존 기간이 지났고 모든 공유 구독자가 지나간 이벤트 삭제 (공유 구독자가 없으면 보존 기간만 본다)
+  // perInstance 구독자는 보존 기간보다 늦으면 재시작해 다시 적재해야 한다
+  @Scheduled(fixedDelayString = "${outbox.cleanup-interval-ms:3600000}")
+  public void cleanup() {
+    List<String> names = subscribers.stream()
+        .filter(subscriber -> !subscriber.perInstance())
+        .map(DomainEventSubscriber::name)
+        .toList();
+    LocalDateTime before = LocalDateTime.now().minusNanos(retentionMillis * 1_000_000);
+    LocalDateTime expiredBefore = LocalDateTime.now().minusNanos(gapTimeoutMillis * 1_000_000);
+    Integer deleted = transaction.execute(status -> {
+      outboxGapRepository.deleteAllExpired(expiredBefore);
+      long delivered = names.isEmpty() ? Long.MAX_VALUE : outboxOffsetRepository.findMinOffset(names).orElse(0L);
+      return outboxEventRepository.deleteDelivered(delivered, before);
+    });
+    if (deleted != null && deleted > 0) {
+      log.info("outbox cleanup removed {} delivered events", deleted);
+    }
+  }
+
+  /**
+   * 한 배치 전달 후 읽은 이벤트 수를 돌려준다 (대기 / 실패로 멈췄으면 0)
+   */
+  private int dispatch(DomainEventSubscriber subscriber) {
+    long offset = currentOffset(subscriber);
+    List<OutboxEvent> batch = readOnlyTransaction.execute(status ->
+        outboxEventRepository.findByIdGreaterThanOrderByIdAsc(offset, PageRequest.of(0, batchSize)));
+    if (batch == null || batch.isEmpty()) {
+      return 0;
+    }
+
+    LocalDateTime settledBefore = LocalDateTime.now().minusNanos(settleMillis * 1_000_000);
+    long last = offset;
+    List<Long> gaps = new ArrayList<>();
+    boolean stopped = false;
+    for (OutboxEvent event : batch) {
+      if (event.getId() != last + 1 && event.getCreatedAt().isAfter(settledBefore)) {
+        stopped = true;
+        break;
+      }
+      if (!deliver(subscriber, event)) {
+        stopped = true;
+        break;
+      }
+      gaps.addAll(gapIds(subscriber, last, event.getId()));
+      last = event.getId();
+    }
+
+    if (last != offset) {
+      saveOffset(subscriber, last, gaps);
+    }
+    return stopped ? 0 : batch.size();
+  }
+
+  private List<Long> gapIds(DomainEventSubscriber subscriber, long last, long next) {
+    long missing = next - last - 1;
+    if (missing <= 0) {
+      return List.of();
+    }
+    if (missing > MAX_GAP_IDS) {
+      log.warn("outbox ids {}..{} missing for subscriber {}, tracking only the first {}",
+          last + 1, next - 1, subscriber.name(), MAX_GAP_IDS);
+    }
+    List<Long> ids = new ArrayList<>();
+    for (long id = last + 1; id < next && ids.size() < MAX_GAP_IDS; id++) {
+      ids.add(id);
+    }
+    return ids;
+  }
+
+  /**
+   * 지나쳐 간 번호 중 그 사이 커밋된 이벤트를 전달하고, gap-timeout-ms 가 지난 번호는 버린다
+   */
+  private void recheckGaps(DomainEventSubscriber subscriber) {
+    List<OutboxGap> gaps = readOnlyTransaction.execute(status ->
+        outboxGapRepository.findBySubscriberOrderByEventIdAsc(key(subscriber)));
+    if (gaps == null || gaps.isEmpty()) {
+      return;
+    }
+    List<OutboxEvent> arrived = readOnlyTransaction.execute(status ->
+        new ArrayList<>(outboxEventRepository.findAllById(gaps.stream().map(OutboxGap::getEventId).toList())));
+    if (arrived != null) {
+      arrived.sort(Comparator.comparing(OutboxEvent::getId));
+      for (OutboxEvent event : arrived) {
+        if (!deliver(subscriber, event)) {
+          break;
+        }
+        log.info("outbox event {} ({}) committed late, delivered out of order to subscriber {}",
+            event.getId(), event.getEventType(), subscriber.name());
+        transaction.executeWithoutResult(status ->
+            outboxGapRepository.deleteById(new OutboxGap.Key(key(subscriber), event.getId())));
+      }
+    }
+
+    LocalDateTime expiredBefore = LocalDateTime.now().minusNanos(gapTimeoutMillis * 1_000_000);
+    Integer expired = transaction.execute(status -> outboxGapRepository.deleteExpired(key(subscriber), expiredBefore));
+    if (expired != null && expired > 0) {
+      log.info("outbox dropped {} gap ids for subscriber {} as rolled back", expired, subscriber.name());
+    }
+  }
+
+  private boolean deliver(DomainEventSubscriber subscriber, OutboxEvent event) {
+    try {
+      DomainEvent domainEvent = outboxService.deserialize(event);
+      subscriber.handle(domainEvent);
+      failures.remove(subscriber.name());
+      meterRegistry.counter("suclan.outbox.delivered", "subscriber", subscriber.name()).increment();
+      return true;
+    } catch (Exception e) {
+      meterRegistry.counter("suclan.outbox.failures", "subscriber", subscriber.name()).increment();
+      long[] attempt = failures.compute(subscriber.name(), (name, current) ->
+          current != null && current[0] == event.getId() ? new long[]{event.getId(), current[1] + 1} : new long[]{event.getId(), 1});
+      if (attempt[1] >= maxAttempts) {
+        log.error("outbox event {} ({}) skipped for subscriber {} after {} attempts",
+            event.getId(), event.getEventType(), subscriber.name(), attempt[1], e);
+        failures.remove(subscriber.name());
+        return true;
+      }
+      log.warn("outbox event {} ({}) failed for subscriber {} (attempt {})",
+          event.getId(), event.getEventType(), subscriber.name(), attempt[1], e);
+      return false;
+    }
+  }
+
+  // 오프셋 / 빈 번호를 저장하는 키
+  private String key(DomainEventSubscriber subscriber) {
+    return subscriber.perInstance() ? subscriber.name() + "@" + instanceId : subscriber.name();
+  }
+
+  // 처음 보는 구독자는 현재 마지막 이벤트부터 시작한다
+  private long currentOffset(DomainEventSubscriber subscriber) {
+    if (subscriber.perInstance()) {
+      return instanceOffsets.computeIfAbsent(key(subscriber), key ->
+          readOnlyTransaction.execute(status -> outboxEventRepository.findMaxId()));
+    }
+    Long offset = transaction.execute(status -> outboxOffsetRepository.findById(subscriber.name())
+        .orElseGet(() -> outboxOffsetRepository.save(OutboxOffset.builder()
+            .subscriber(subscriber.name())
+            .lastEventId(outboxEventRepository.findMaxId())
+            .build()))
+        .getLastEventId());
+    return offset != null ? offset : 0;
+  }
+
+  private void saveOffset(DomainEventSubscriber subscriber, long lastEventId, List<Long> gaps) {
+    String key = key(subscriber);
+    transaction.executeWithoutResult(status -> {
+      outboxGapRepository.saveAll(gaps.stream()
+          .map(id -> OutboxGap.builder().subscriber(key).eventId(id).build())
+          .toList());
+      if (subscriber.perInstance()) {
+        return;
+      }
+      OutboxOffset offset = outboxOffsetRepository.findForUpdate(key)
+          .orElseThrow(() -> new IllegalStateException("outbox offset missing for subscriber " + key));
+      // 다른 인스턴스가 이미 더 앞으로 옮겼으면 되돌리지 않는다
+      if (offset.getLastEventId() < lastEventId) {
+        offset.setLastEventId(lastEventId);
+      }
+    });
+    if (subscriber.perInstance()) {
+      instanceOffsets.put(key, lastEventId);
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.suclan.suclan.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suclan.suclan.domain.OutboxEvent;
+import com.suclan.suclan.event.ClanMembershipChanged;
+import com.suclan.suclan.event.ClanRenamed;
+import com.suclan.suclan.event.ContestChanged;
+import com.suclan.suclan.event.DomainEvent;
+import com.suclan.suclan.event.MatchChangedEvent;
+import com.suclan.suclan.event.MatchRecorded;
+import com.suclan.suclan.event.PlayerRenamed;
+import com.suclan.suclan.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 도메인 이벤트를 쓰기 트랜잭션 안에서 outbox_events 에 저장한다 (전달은 OutboxDispatcher)
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+  static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES = Map.of(
+      MatchRecorded.class.getSimpleName(), MatchRecorded.class,
+      PlayerRenamed.class.getSimpleName(), PlayerRenamed.class,
+      ClanMembershipChanged.class.getSimpleName(), ClanMembershipChanged.class,
+      ClanRenamed.class.getSimpleName(), ClanRenamed.class,
+      ContestChanged.class.getSimpleName(), ContestChanged.class
+  );
+
+  private static final String INSERT_SQL = """
+      INSERT INTO outbox_events (event_type, aggregate_id, payload, created_at)
+      VALUES (?, ?, ?, ?)
+      """;
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * 호출한 쪽 트랜잭션에 참여한다 (엔티티 변경이 롤백되면 이벤트도 남지 않는다)
+   * 같은 인스턴스에서 커밋 직후 반응해야 하는 곳(ETag 버전 등)을 위해 애플리케이션 이벤트로도 발행한다.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(DomainEvent event) {
+    outboxEventRepository.save(OutboxEvent.builder()
+        .eventType(event.getClass().getSimpleName())
+        .aggregateId(event.getAggregateId())
+        .payload(serialize(event))
+        .build());
+    eventPublisher.publishEvent(event);
+  }
+
+  /**
+   * 일괄 등록처럼 이벤트가 많을 때 JDBC batch insert 로 저장한다 (트랜잭션 / 발행은 append 와 같다)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void appendAll(List<? extends DomainEvent> events) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate(INSERT_SQL, events, 1000, (ps, event) -> {
+      ps.setString(1, event.getClass().getSimpleName());
+      ps.setObject(2, event.getAggregateId(), Types.BIGINT);
+      ps.setString(3, serialize(event));
+      ps.setTimestamp(4, now);
+    });
+    events.forEach(eventPublisher::publishEvent);
+  }
+
+  // 결과가 바뀐 매치 생성/수정/삭제는 같은 트랜잭션에서 MatchRecorded 로 남긴다
+  @EventListener
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void onMatchChanged(MatchChangedEvent event) {
+    if (event.isOutcomeChanged()) {
+      append(new MatchRecorded(event.getMatchId(), event.getBefore(), event.getAfter()));
+    }
+  }
+
+  private String serialize(DomainEvent event) {
+    try {
+      return objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("domain event serialization failed: " + event, e);
+    }
+  }
+
+  DomainEvent deserialize(OutboxEvent event) throws JsonProcessingException {
+    Class<? extends DomainEvent> type = EVENT_TYPES.get(event.getEventType());
+    if (type == null) {
+      throw new IllegalArgumentException("unknown domain event type: " + event.getEventType());
+    }
+    return objectMapper.readValue(event.getPayload(), type);
+  }
+}
@@ -1,26 +1,35 @@
 package com.suclan.suclan.service;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.suclan.suclan.constant.EntityStatus;
+import com.suclan.suclan.constant.Race;
 import com.suclan.suclan.domain.Clan;
 import com.suclan.suclan.domain.Grade;
 import com.suclan.suclan.domain.Player;
 import com.suclan.suclan.domain.PlayerClan;
+import com.suclan.suclan.domain.PlayerStats;
+import com.suclan.suclan.domain.QPlayerClan;
 import com.suclan.suclan.dto.ClanDto;
 import com.suclan.suclan.dto.GradeDto;
 import com.suclan.suclan.dto.PlayerDto;
+import com.suclan.suclan.event.ClanMembershipChanged;
+import com.suclan.suclan.event.PlayerChangedEvent;
+import com.suclan.suclan.event.PlayerRenamed;
 import com.suclan.suclan.exception.ResourceNotFoundException;
-import com.suclan.suclan.repository.ClanRepository;
-import com.suclan.suclan.repository.GradeRepository;
 import com.suclan.suclan.repository.PlayerClanRepository;
 import com.suclan.suclan.repository.PlayerRepository;
+import com.suclan.suclan.repository.ReferenceDataRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.weaver.ast.Or;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -29,11 +38,22 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
+import static com.suclan.suclan.domain.QClan.clan;
+import static com.suclan.suclan.domain.QGrade.grade;
 import static com.suclan.suclan.domain.QPlayer.player;
+import static com.suclan.suclan.domain.QPlayerClan.playerClan;
+import static com.suclan.suclan.domain.QPlayerStats.playerStats;
 
 @Service
 @RequiredArgsConstructor
@@ -41,16 +61,20 @@ import static com.suclan.suclan.domain.QPlayer.player;
 public class PlayerService {
 
     private final PlayerRepository playerRepository;
-    private final GradeRepository gradeRepository;
-    private final ClanRepository clanRepository;
+    private final ReferenceDataRepository referenceDataRepository;
     private final PlayerClanRepository playerClanRepository;
+    private final PlayerStatsService playerStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
+    private final MatchService matchService;
+    private final ClanRosterService clanRosterService;
     private final JPAQueryFactory jpaQueryFactory;
 
     @Transactional
     public PlayerDto.Response createPlayer(PlayerDto.CreateRequest request) {
         Grade grade = null;
         if (request.getGradeName() != null) {
-            grade = gradeRepository.findByName(request.getGradeName())
+            grade = referenceDataRepository.findGradeByName(request.getGradeName())
                 .orElseThrow(() -> {
                   log.error("{} not found", request.getGradeName());
                 return new ResourceNotFoundException("Grade not found with id: " + request.getGradeName());
@@ -68,18 +92,25 @@ public class PlayerService {
                 .grade(grade)
                 .build();
 
+      Clan clan = null;
       if (request.getClanName() != null) {
-        Clan clan = clanRepository.findByName(request.getClanName()).orElseThrow(
+        clan = referenceDataRepository.findClanByName(request.getClanName()).orElseThrow(
             () -> new ResourceNotFoundException("Clan not found with name: " + request.getClanName())
         );
         PlayerClan pc = PlayerClan.builder()
             .player(player)
             .clan(clan)
+            .joinedAt(LocalDateTime.now())
             .build();
         playerClanRepository.save(pc);
       }
       Player savedPlayer = playerRepository.save(player);
-      return convertToResponse(savedPlayer);
+      if (clan != null) {
+        outboxService.append(new ClanMembershipChanged(savedPlayer.getId(), null, clan.getId()));
+      }
+      PlayerStats stats = playerStatsService.initialize(savedPlayer.getId());
+      eventPublisher.publishEvent(new PlayerChangedEvent(PlayerChangedEvent.Type.CREATED, savedPlayer.getId()));
+      return convertToResponse(savedPlayer, stats);
     }
 
     @Transactional
@@ -87,11 +118,12 @@ public class PlayerService {
         Player player = playerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Player not found with id: " + id));
 
-        if (request.getNickname() != null) {
+        if (request.getNickname() != null && !request.getNickname().equals(player.getNickname())) {
+            outboxService.append(new PlayerRenamed(id, player.getNickname(), request.getNickname()));
             player.setNickname(request.getNickname());
         }
         if (request.getGradeName() != null) {
-            Grade grade = gradeRepository.findByName(request.getGradeName())
+            Grade grade = referenceDataRepository.findGradeByName(request.getGradeName())
                     .orElseThrow(() -> new ResourceNotFoundException("Grade not found with id: " + request.getGradeName()));
             player.setGrade(grade);
         }
@@ -103,30 +135,61 @@ public class PlayerService {
         }
 
         if (request.getClanName() != null) {
-          Clan clan  = clanRepository.findByName(request.getClanName()).orElseThrow(
+          Clan clan  = referenceDataRepository.findClanByName(request.getClanName()).orElseThrow(
               () -> new ResourceNotFoundException("Clan not found with name: " + request.getClanName())
           );
 
-          playerClanRepository.deleteByPlayerAndStatus(player);
+          // 이전 소속은 삭제하지 않고 탈퇴 시각을 남긴다 (경기 시점 소속 클랜 집계에 사용)
+          List<PlayerClan> current = playerClanRepository.findAllByPlayerAndStatus(player, EntityStatus.REGISTERED);
+          boolean sameClan = current.size() == 1 && current.get(0).getClan().getId().equals(clan.getId());
+          if (!sameClan) {
+            LocalDateTime now = LocalDateTime.now();
+            current.forEach(pc -> {
+              pc.setExitedAt(now);
+              pc.setStatus(EntityStatus.DELETED);
+            });
 
-          PlayerClan pc = PlayerClan.builder()
-              .player(player)
-              .clan(clan)
-              .build();
-          playerClanRepository.save(pc);
+            PlayerClan pc = PlayerClan.builder()
+                .player(player)
+                .clan(clan)
+                .joinedAt(now)
+                .build();
+            playerClanRepository.save(pc);
+            outboxService.append(new ClanMembershipChanged(
+                id, current.isEmpty() ? null : current.get(0).getClan().getId(), clan.getId()));
+          }
         }
 
         Player updatedPlayer = playerRepository.save(player);
-        return convertToResponse(updatedPlayer);
+        eventPublisher.publishEvent(new PlayerChangedEvent(PlayerChangedEvent.Type.UPDATED, id));
+        return convertToResponse(updatedPlayer, playerStatsService.getStats(id));
     }
 
     @Transactional
     public PlayerDto.Response getPlayer(Long id) {
         Player player = playerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Player not found with id: " + id));
-        return convertToResponse(player);
+        return convertToResponse(player, playerStatsService.getStats(id));
+    }
+
+    /**
+     * 플레이어 여러 명 요약 조회
+     * 엔티티 / 컬렉션을 읽지 않고 등급, 현재 클랜, 전적을 한 번의 IN 쿼리 프로젝션으로 가져온다 (없는 id 는 빠진다)
+     */
+    @Transactional
+    public Map<Long, PlayerDto.Summary> getPlayerSummaries(Collection<Long> ids) {
+      if (ids.isEmpty()) {
+        return new HashMap<>();
+      }
+      List<Tuple> rows = summaryQuery()
+          .where(player.id.in(ids))
+          .fetch();
+      return toSummaries(rows);
     }
 
+    /**
+     * 플레이어 목록 (페이징). getPlayerSummaries 와 같은 단일 조인 프로젝션을 쓰므로 행마다 소속 컬렉션을 읽지 않는다
+     */
     @Transactional
     public Page<PlayerDto.Summary> getAllPlayers(Pageable pageable, boolean includeDeleted, PlayerDto.SearchCondition searchCondition) {
       BooleanExpression stateCondition = includeDeleted
@@ -136,8 +199,7 @@ public class PlayerService {
      BooleanExpression nameCondition =
          StringUtils.hasText(searchCondition.getNickname())?player.nickname.likeIgnoreCase("%" + searchCondition.getNickname() + "%"):null;
 
-      var query = jpaQueryFactory
-          .selectFrom(player)
+      var query = summaryQuery()
           .where(stateCondition, nameCondition);
 
       List<OrderSpecifier<?>> orders = new ArrayList<>();
@@ -146,11 +208,11 @@ public class PlayerService {
         Order dir = o.isAscending() ? Order.ASC : Order.DESC;
 
         if (o.getProperty().equalsIgnoreCase("losses")) {
-          orders.add(new OrderSpecifier<>(dir,player.losses.size()));
+          orders.add(new OrderSpecifier<>(dir, playerStats.losses, OrderSpecifier.NullHandling.NullsLast));
         } else if (o.getProperty().equalsIgnoreCase("wins")) {
-          orders.add(new OrderSpecifier<>(dir, player.wins.size()));
+          orders.add(new OrderSpecifier<>(dir, playerStats.wins, OrderSpecifier.NullHandling.NullsLast));
         } else if (o.getProperty().equalsIgnoreCase("totalMatches")) {
-          orders.add(new OrderSpecifier<>(dir, player.wins.size().add(player.losses.size())));
+          orders.add(new OrderSpecifier<>(dir, playerStats.totalMatches, OrderSpecifier.NullHandling.NullsLast));
         }
          else {
            orders.add(new OrderSpecifier<>(dir, entityPath.getString(o.getProperty())));
@@ -158,10 +220,12 @@ public class PlayerService {
       }
       orders.add(new OrderSpecifier<>(Order.DESC, player.id));
 
-      List<PlayerDto.Summary> result = query.orderBy(orders.toArray(new OrderSpecifier[]{}))
+      List<Tuple> rows = query.orderBy(orders.toArray(new OrderSpecifier[]{}))
           .offset(pageable.getOffset())
           .limit(pageable.getPageSize())
-          .fetch().stream().map(this::convertToSummary).toList();
+          .fetch();
+
+      List<PlayerDto.Summary> result = new ArrayList<>(toSummaries(rows).values());
 
       long total = jpaQueryFactory
           .select(player.count())
@@ -172,75 +236,127 @@ public class PlayerService {
       return new PageImpl<>(result, pageable, total);
     }
 
+    // 등급 / 현재 클랜 / 전적을 선수당 한 행으로
+    // REGISTERED 소속이 여러 개 남아 있으면 가장 최근 소속(joined_at, id 순) 하나만 조인해 페이지 크기와 total 이 어긋나지 않게 한다
+    private JPAQuery<Tuple> summaryQuery() {
+      QPlayerClan later = new QPlayerClan("laterPlayerClan");
+      return jpaQueryFactory
+          .select(player.id, player.nickname, player.race, player.status, player.createdAt,
+              grade.id, grade.name, grade.status,
+              clan.id, clan.name, clan.status,
+              playerStats.wins, playerStats.losses, playerStats.totalMatches)
+          .from(player)
+          .leftJoin(player.grade, grade)
+          .leftJoin(playerClan).on(playerClan.player.id.eq(player.id), playerClan.status.eq(EntityStatus.REGISTERED))
+          .leftJoin(playerClan.clan, clan)
+          .leftJoin(playerStats).on(playerStats.playerId.eq(player.id))
+          .where(playerClan.id.isNull().or(JPAExpressions.selectOne()
+              .from(later)
+              .where(later.player.id.eq(player.id),
+                  later.status.eq(EntityStatus.REGISTERED),
+                  later.joinedAt.gt(playerClan.joinedAt)
+                      .or(later.joinedAt.eq(playerClan.joinedAt).and(later.id.gt(playerClan.id))))
+              .notExists()));
+    }
+
+    // 행 순서를 유지하며, 클랜 멤버 수는 나온 클랜들만 한 번에 센다
+    private Map<Long, PlayerDto.Summary> toSummaries(List<Tuple> rows) {
+      Map<Long, Integer> memberCounts = clanRosterService.memberCounts(rows.stream()
+          .map(row -> row.get(clan.id))
+          .filter(Objects::nonNull)
+          .distinct()
+          .toList());
+
+      Map<Long, PlayerDto.Summary> result = new LinkedHashMap<>();
+      for (Tuple row : rows) {
+        Long clanId = row.get(clan.id);
+        Long gradeId = row.get(grade.id);
+        result.putIfAbsent(row.get(player.id), PlayerDto.Summary.builder()
+            .id(row.get(player.id))
+            .nickname(row.get(player.nickname))
+            .race(row.get(player.race))
+            .status(row.get(player.status))
+            .createdAt(row.get(player.createdAt))
+            .grade(gradeId == null ? null : GradeDto.Summary.builder()
+                .id(gradeId)
+                .name(row.get(grade.name))
+                .status(row.get(grade.status))
+                .build())
+            .clan(clanId == null ? ClanDto.Summary.builder().build() : ClanDto.Summary.builder()
+                .id(clanId)
+                .name(row.get(clan.name))
+                .status(row.get(clan.status))
+                .memberCount(memberCounts.getOrDefault(clanId, 0))
+                .build())
+            .wins(orZero(row.get(playerStats.wins)))
+            .losses(orZero(row.get(playerStats.losses)))
+            .totalMatches(orZero(row.get(playerStats.totalMatches)))
+            .build());
+      }
+      return result;
+    }
+
     @Transactional
     public void deletePlayer(Long id) {
-        if (!playerRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Player not found with id: " + id);
-        }
+        Player deleted = playerRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Player not found with id: " + id));
+        // 소속은 player_clans cascade 로 함께 소프트 삭제된다
+        playerClanRepository.findAllByPlayerAndStatus(deleted, EntityStatus.REGISTERED).forEach(pc ->
+            outboxService.append(new ClanMembershipChanged(id, pc.getClan().getId(), null)));
+        // 매치는 cascade 로 지우지 않고 MatchService 를 거쳐 이벤트와 함께 삭제한다
+        matchService.deleteMatchesOfPlayer(id);
         playerRepository.deleteById(id);
+        eventPublisher.publishEvent(new PlayerChangedEvent(PlayerChangedEvent.Type.DELETED, id));
     }
 
-    private PlayerDto.Response convertToResponse(Player player) {
-        // 승/패 계산 로직 (간단히 구현)
-        int wins = player.getWins().stream().filter(i -> i.getStatus().equals(EntityStatus.REGISTERED)).toList().size();
-        int losses = player.getLosses().stream().filter(i -> i.getStatus().equals(EntityStatus.REGISTERED)).toList().size();
+    private PlayerDto.Response convertToResponse(Player player, PlayerStats stats) {
 
         return PlayerDto.Response.builder()
                 .id(player.getId())
                 .nickname(player.getNickname())
                 .race(player.getRace())
                 .grade(player.getGrade() != null ? convertGradeToSummary(player.getGrade()) : null)
-                .clan(
-                    player.getPlayerClans().isEmpty() ? null :
-                    ClanDto.Summary.builder()
-                        .id(
-                            player.getPlayerClans().stream().findFirst().get().getClan().getId()
-                        )
-                        .name(
-                            player.getPlayerClans().stream().findFirst().get().getClan().getName()
-                        )
-                        .memberCount(
-                            player.getPlayerClans().stream().findFirst().get().getClan().getPlayerClan().size()
-                        )
-                        .build()
-                )
+                .clan(activeClan(player)
+                    .map(c -> convertClanToSummary(c, playerClanRepository.countActiveMembers(List.of(c.getId()))))
+                    .orElse(null))
                 .status(player.getStatus())
                 .createdAt(player.getCreatedAt())
                 .updatedAt(player.getUpdatedAt())
-                .totalMatches(wins + losses)
-                .wins(wins)
-                .losses(losses)
+                .totalMatches(stats.getTotalMatches())
+                .wins(stats.getWins())
+                .losses(stats.getLosses())
+                .raceStats(convertRaceStats(stats))
                 .build();
     }
 
-    private PlayerDto.Summary convertToSummary(Player player) {
-      Optional<PlayerClan> pc = player.getPlayerClans().stream().filter(d -> d.getStatus().equals(EntityStatus.REGISTERED)).findFirst();
-      ClanDto.Summary clanDto = ClanDto.Summary.builder().build();
-      if (pc.isPresent()) {
-        Clan c = pc.get().getClan();
-        clanDto = ClanDto.Summary.builder()
-            .id(c.getId())
-            .name(c.getName())
-            .memberCount(c.getPlayerClan().size())
-            .status(c.getStatus())
-            .build();
-      }
+    private List<PlayerDto.RaceStats> convertRaceStats(PlayerStats stats) {
+        return Arrays.stream(Race.values())
+                .map(race -> PlayerDto.RaceStats.builder()
+                        .opponentRace(race)
+                        .wins(stats.getWinsAgainst(race))
+                        .losses(stats.getLossesAgainst(race))
+                        .build())
+                .toList();
+    }
+
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
 
-      int wins = player.getWins().stream().filter(i -> i.getStatus().equals(EntityStatus.REGISTERED)).toList().size();
-      int losses = player.getLosses().stream().filter(i -> i.getStatus().equals(EntityStatus.REGISTERED)).toList().size();
-
-      return PlayerDto.Summary.builder()
-          .id(player.getId())
-          .nickname(player.getNickname())
-          .grade(player.getGrade() != null ? convertGradeToSummary(player.getGrade()) : null)
-          .wins(wins)
-          .losses(losses)
-          .race(player.getRace())
-          .totalMatches(wins + losses)
-          .clan(clanDto)
-          .status(player.getStatus())
-          .createdAt(player.getCreatedAt())
-          .build();
+    private Optional<Clan> activeClan(Player player) {
+        return player.getPlayerClans().stream()
+                .filter(pc -> pc.getStatus() == EntityStatus.REGISTERED)
+                .findFirst()
+                .map(PlayerClan::getClan);
+    }
+
+    private ClanDto.Summary convertClanToSummary(Clan clan, Map<Long, Integer> memberCounts) {
+        return ClanDto.Summary.builder()
+                .id(clan.getId())
+                .name(clan.getName())
+                .memberCount(memberCounts.getOrDefault(clan.getId(), 0))
+                .status(clan.getStatus())
+                .build();
     }
 
     private GradeDto.Summary convertGradeToSummary(Grade grade) {
@@ -0,0 +1,136 @@
+package com.suclan.suclan.service;
+
+import com.suclan.suclan.domain.PlayerStats;
+import com.suclan.suclan.dto.MatchOutcome;
+import com.suclan.suclan.event.MatchChangedEvent;
+import com.suclan.suclan.event.MatchesImportedEvent;
+import com.suclan.suclan.repository.PlayerStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlayerStatsService {
+
+  private static final String WINNER_RACE =
+      "CASE WHEN m.winner_id = m.player_one_id THEN m.player_one_race ELSE m.player_two_race END";
+  private static final String LOSER_RACE =
+      "CASE WHEN m.loser_id = m.player_one_id THEN m.player_one_race ELSE m.player_two_race END";
+
+  private final PlayerStatsRepository playerStatsRepository;
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 매치 변경 전/후 결과를 받아 차이만큼 전적을 갱신한다. (매치 트랜잭션 안에서 실행)
+   */
+  @EventListener
+  @Transactional
+  public void onMatchChanged(MatchChangedEvent event) {
+    if (!event.isOutcomeChanged()) {
+      return;
+    }
+    if (event.getBefore() != null) {
+      apply(event.getBefore(), -1);
+    }
+    if (event.getAfter() != null) {
+      apply(event.getAfter(), 1);
+    }
+  }
+
+  // 일괄 등록은 증분 대신 전체 재계산 (같은 트랜잭션)
+  @EventListener
+  @Transactional
+  public void onMatchesImported(MatchesImportedEvent event) {
+    rebuild();
+  }
+
+  @Transactional
+  public PlayerStats initialize(Long playerId) {
+    return playerStatsRepository.findById(playerId)
+        .orElseGet(() -> playerStatsRepository.save(PlayerStats.empty(playerId)));
+  }
+
+  @Transactional(readOnly = true)
+  public PlayerStats getStats(Long playerId) {
+    return playerStatsRepository.findById(playerId).orElseGet(() -> PlayerStats.empty(playerId));
+  }
+
+  @Transactional(readOnly = true)
+  public Map<Long, PlayerStats> getStats(Collection<Long> playerIds) {
+    return playerStatsRepository.findAllById(playerIds).stream()
+        .collect(Collectors.toMap(PlayerStats::getPlayerId, Function.identity()));
+  }
+
+  /**
+   * matches 테이블로부터 전체 전적을 다시 계산한다.
+   */
+  @Transactional
+  public void rebuild() {
+    jdbcTemplate.update("DELETE FROM player_stats");
+    int rows = jdbcTemplate.update("""
+        INSERT INTO player_stats (
+          player_id, wins, losses, total_matches,
+          vs_zerg_wins, vs_zerg_losses, vs_terran_wins, vs_terran_losses,
+          vs_protoss_wins, vs_protoss_losses, vs_random_wins, vs_random_losses,
+          created_at, updated_at
+        )
+        SELECT
+          p.id,
+          COALESCE(SUM(CASE WHEN m.winner_id = p.id THEN 1 ELSE 0 END), 0),
+          COALESCE(SUM(CASE WHEN m.loser_id = p.id THEN 1 ELSE 0 END), 0),
+          COUNT(m.id),
+          COALESCE(SUM(CASE WHEN m.winner_id = p.id AND %1$s = 'ZERG' THEN 1 ELSE 0 END), 0),
+          COALESCE(SUM(CASE WHEN m.loser_id = p.id AND %2$s = 'ZERG' THEN 1 ELSE 0 END), 0),
+          COALESCE(SUM(CASE WHEN m.winner_id = p.id AND %1$s = 'TERRAN' THEN 1 ELSE 0 END), 0),
+          COALESCE(SUM(CASE WHEN m.loser_id = p.id AND %2$s = 'TERRAN' THEN 1 ELSE 0 END), 0),
+          COALESCE(SUM(CASE WHEN m.winner_id = p.id AND %1$s = 'PROTOSS' THEN 1 ELSE 0 END), 0),
+          COALESCE(SUM(CASE WHEN m.loser_id = p.id AND %2$s = 'PROTOSS' THEN 1 ELSE 0 END), 0),
+          COALESCE(SUM(CASE WHEN m.winner_id = p.id AND %1$s = 'RANDOM' THEN 1 ELSE 0 END), 0),
+          COALESCE(SUM(CASE WHEN m.loser_id = p.id AND %2$s = 'RANDOM' THEN 1 ELSE 0 END), 0),
+          CURRENT_TIMESTAMP,
+          CURRENT_TIMESTAMP
+        FROM players p
+        LEFT JOIN matches m
+          ON m.status = 'REGISTERED'
+         AND m.winner_id IS NOT NULL
+         AND (m.winner_id = p.id OR m.loser_id = p.id)
+        GROUP BY p.id
+        """.formatted(LOSER_RACE, WINNER_RACE));
+    log.info("player_stats rebuilt for {} players", rows);
+  }
+
+  // 최초 배포 시 기존 매치 이력으로 집계 테이블을 채운다
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void rebuildIfEmpty() {
+    if (playerStatsRepository.count() == 0) {
+      rebuild();
+    }
+  }
+
+  private void apply(MatchOutcome outcome, int delta) {
+    // 교착 방지를 위해 id 순서로 잠금 (A 가 B 를, B 가 A 를 이긴 매치가 동시에 들어오는 경우)
+    boolean winnerFirst = outcome.getWinnerId() < outcome.getLoserId();
+    PlayerStats first = lockStats(winnerFirst ? outcome.getWinnerId() : outcome.getLoserId());
+    PlayerStats second = lockStats(winnerFirst ? outcome.getLoserId() : outcome.getWinnerId());
+    (winnerFirst ? first : second).record(true, outcome.getLoserRace(), delta);
+    (winnerFirst ? second : first).record(false, outcome.getWinnerRace(), delta);
+  }
+
+  private PlayerStats lockStats(Long playerId) {
+    playerStatsRepository.insertIfAbsent(playerId);
+    return playerStatsRepository.findForUpdate(playerId)
+        .orElseThrow(() -> new IllegalStateException("player_stats row missing for player " + playerId));
+  }
+}
@@ -0,0 +1,118 @@
+package com.suclan.suclan.service;
+
+import com.suclan.suclan.constant.Race;
+import com.suclan.suclan.dto.PlayerDto;
+import com.suclan.suclan.event.PlayerChangedEvent;
+import com.suclan.suclan.search.Hangul;
+import com.suclan.suclan.search.PrefixTrie;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 닉네임 자동완성
+ * 등록된 선수 닉네임을 자모 분해 트라이와 초성 트라이에 올려두고 DB 조회 없이 응답한다.
+ * 선수 생성/수정/삭제는 커밋 후 해당 선수 한 명만 다시 읽어 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlayerSuggestService {
+
+  public static final int MAX_LIMIT = 20;
+
+  private static final String PLAYER_SQL = "SELECT id, nickname, race FROM players WHERE status = 'REGISTERED'";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final PrefixTrie jamoTrie = new PrefixTrie();
+  private final PrefixTrie choseongTrie = new PrefixTrie();
+  private final Map<Long, PlayerDto.Suggestion> players = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    List<PlayerDto.Suggestion> loaded = new ArrayList<>();
+    jdbcTemplate.query(PLAYER_SQL, (RowCallbackHandler) rs -> loaded.add(mapSuggestion(rs)));
+    lock.writeLock().lock();
+    try {
+      loaded.forEach(this::add);
+    } finally {
+      lock.writeLock().unlock();
+    }
+    log.info("nickname suggest index loaded with {} players", loaded.size());
+  }
+
+  @TransactionalEventListener
+  public void onPlayerChanged(PlayerChangedEvent event) {
+    List<PlayerDto.Suggestion> found = jdbcTemplate.query(PLAYER_SQL + " AND id = ?",
+        (rs, rowNum) -> mapSuggestion(rs), event.getPlayerId());
+    lock.writeLock().lock();
+    try {
+      remove(event.getPlayerId());
+      found.forEach(this::add);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 접두어 일치 닉네임 (입력 중인 글자 / 초성 검색 지원, 짧은 닉네임 우선)
+   */
+  public List<PlayerDto.Suggestion> suggest(String query, int limit) {
+    if (query == null || query.isBlank()) {
+      return List.of();
+    }
+    int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+    lock.readLock().lock();
+    try {
+      Set<Long> ids = new LinkedHashSet<>(jamoTrie.collect(Hangul.decompose(query), size, id -> true));
+      if (ids.size() < size && Hangul.isChoseongQuery(query)) {
+        ids.addAll(choseongTrie.collect(Hangul.choseong(query), size, id -> !ids.contains(id)));
+      }
+      return ids.stream().limit(size).map(players::get).toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void add(PlayerDto.Suggestion suggestion) {
+    players.put(suggestion.getId(), suggestion);
+    jamoTrie.add(Hangul.decompose(suggestion.getNickname()), suggestion.getId());
+    choseongTrie.add(Hangul.choseong(suggestion.getNickname()), suggestion.getId());
+  }
+
+  private void remove(Long playerId) {
+    PlayerDto.Suggestion previous = players.remove(playerId);
+    if (previous != null) {
+      jamoTrie.remove(Hangul.decompose(previous.getNickname()), playerId);
+      choseongTrie.remove(Hangul.choseong(previous.getNickname()), playerId);
+    }
+  }
+
+  private PlayerDto.Suggestion mapSuggestion(ResultSet rs) throws SQLException {
+    String race = rs.getString(3);
+    return PlayerDto.Suggestion.builder()
+        .id(rs.getLong(1))
+        .nickname(rs.getString(2))
+        .race(race != null ? Race.valueOf(race) : null)
+        .build();
+  }
+}
@@ -0,0 +1,353 @@
+package com.suclan.suclan.service;
+
+import com.suclan.suclan.configuration.RatingProperties;
+import com.suclan.suclan.domain.PlayerRating;
+import com.suclan.suclan.dto.MatchOutcome;
+import com.suclan.suclan.dto.RatingDto;
+import com.suclan.suclan.event.MatchChangedEvent;
+import com.suclan.suclan.event.MatchesImportedEvent;
+import com.suclan.suclan.rating.MatchHistory;
+import com.suclan.suclan.rating.RatingCalculator;
+import com.suclan.suclan.rating.RatingTable;
+import com.suclan.suclan.repository.PlayerRatingRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 매치 결과 기반 레이팅
+ * 새 결과가 시간 순서상 마지막이면 두 선수만 증분 갱신하고,
+ * 과거 결과가 수정/삭제되거나 이전 시각의 경기가 추가되면 커밋 후 전체 재계산을 예약한다.
+ */
+@Service
+@Slf4j
+public class RatingService {
+
+  private static final String REPLAY_MATCHES_SQL = """
+      SELECT m.winner_id, m.loser_id
+      FROM matches m
+      WHERE m.status = 'REGISTERED'
+        AND m.winner_id IS NOT NULL
+        AND m.loser_id IS NOT NULL
+      ORDER BY COALESCE(m.match_time, m.created_at), m.id
+      """;
+
+  // 전체 재계산과 증분 갱신을 직렬화하는 advisory lock 키 (재계산은 배타, 증분은 공유)
+  private static final long RATING_LOCK_KEY = 0x52_41_54_49_4E_47L;
+
+  private static final String LATEST_RESULT_SQL = """
+      SELECT COALESCE(m.match_time, m.created_at), m.id
+      FROM matches m
+      WHERE m.status = 'REGISTERED'
+        AND m.winner_id IS NOT NULL
+        AND m.loser_id IS NOT NULL
+      ORDER BY COALESCE(m.match_time, m.created_at) DESC, m.id DESC
+      LIMIT 1
+      """;
+
+  private static final String INSERT_RATING_SQL = """
+      INSERT INTO player_ratings (player_id, rating, deviation, volatility, games, created_at, updated_at)
+      VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+      """;
+
+  private final PlayerRatingRepository playerRatingRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final RatingProperties properties;
+  private final RatingCalculator calculator;
+
+  private final ExecutorService replayExecutor = Executors.newSingleThreadExecutor(
+      runnable -> new Thread(runnable, "rating-replay"));
+  private final AtomicBoolean replayPending = new AtomicBoolean();
+  private volatile Boolean postgres;
+
+  // 커밋된 결과 중 시간 순서상 마지막 결과 (경기 시각, 매치 id). 매치 등록마다 전체 matches 를 훑지 않도록 메모리에 둔다.
+  // 삭제로 실제보다 늦을 수는 있지만 그 경우 재계산을 한 번 더 할 뿐이고, 재계산 후 DB 에서 다시 읽는다.
+  private volatile PlayedAt latestResult;
+  private volatile boolean latestLoaded;
+
+  // 증분 갱신 트랜잭션을 커밋까지 직렬화한다. 증분 반영 순서가 곧 커밋 순서가 되어야 latestResult 비교가 맞다.
+  // pendingLatest 는 잠금을 가진 트랜잭션이 반영했지만 아직 커밋하지 않은 마지막 결과다.
+  private final ReentrantLock incrementalLock = new ReentrantLock();
+  private PlayedAt pendingLatest;
+
+  public RatingService(PlayerRatingRepository playerRatingRepository,
+                       JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       RatingProperties properties) {
+    this.playerRatingRepository = playerRatingRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.properties = properties;
+    this.calculator = RatingCalculator.of(properties);
+  }
+
+  @EventListener
+  public void onMatchChanged(MatchChangedEvent event) {
+    if (!event.isOutcomeChanged()) {
+      return;
+    }
+    if (event.getBefore() == null && tryIncremental(event.getAfter())) {
+      return;
+    }
+    requestReplayAfterCommit();
+  }
+
+  @EventListener
+  public void onMatchesImported(MatchesImportedEvent event) {
+    requestReplayAfterCommit();
+  }
+
+  @Transactional(readOnly = true)
+  public RatingDto.Response getRating(Long playerId) {
+    return playerRatingRepository.findById(playerId)
+        .map(this::convertToResponse)
+        .orElseGet(() -> RatingDto.Response.builder()
+            .playerId(playerId)
+            .algorithm(properties.getAlgorithm())
+            .rating(properties.getInitialRating())
+            .deviation(properties.getInitialDeviation())
+            .volatility(properties.getInitialVolatility())
+            .build());
+  }
+
+  /**
+   * 전체 매치 이력을 matchTime 순서로 재생해 레이팅을 다시 계산한다.
+   */
+  public synchronized RatingDto.ReplayResult replay() {
+    long started = System.currentTimeMillis();
+    MatchHistory history = transactionTemplate.execute(status -> {
+      // 이력을 읽기 전에 잠가야 읽은 뒤 커밋된 증분 갱신이 DELETE 로 사라지지 않는다
+      lockRatings(true);
+      MatchHistory loaded = loadHistory();
+      RatingTable table = loaded.replay(calculator,
+          properties.getInitialRating(), properties.getInitialDeviation(), properties.getInitialVolatility());
+      writeRatings(loaded, table);
+      latestLoaded = false;
+      return loaded;
+    });
+
+    RatingDto.ReplayResult result = RatingDto.ReplayResult.builder()
+        .algorithm(properties.getAlgorithm())
+        .players(history.playerCount())
+        .matches(history.size())
+        .elapsedMillis(System.currentTimeMillis() - started)
+        .build();
+    log.info("rating replay finished {}", result);
+    return result;
+  }
+
+  /**
+   * 재계산 요청을 합쳐서 백그라운드로 한 번만 수행한다.
+   */
+  public void requestReplay() {
+    if (replayPending.compareAndSet(false, true)) {
+      replayExecutor.execute(() -> {
+        replayPending.set(false);
+        try {
+          replay();
+        } catch (RuntimeException e) {
+          log.error("rating replay failed", e);
+        }
+      });
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void replayIfEmpty() {
+    if (playerRatingRepository.count() == 0) {
+      requestReplay();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    replayExecutor.shutdown();
+  }
+
+  private void requestReplayAfterCommit() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      requestReplay();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        requestReplay();
+      }
+    });
+  }
+
+  private void applyIncremental(MatchOutcome outcome) {
+    // 진행 중인 재계산이 있으면 끝날 때까지 기다린다 (매치 트랜잭션 커밋까지 유지)
+    lockRatings(false);
+    // 교착 방지를 위해 id 순서로 잠금
+    boolean winnerFirst = outcome.getWinnerId() < outcome.getLoserId();
+    PlayerRating first = lockRating(winnerFirst ? outcome.getWinnerId() : outcome.getLoserId());
+    PlayerRating second = lockRating(winnerFirst ? outcome.getLoserId() : outcome.getWinnerId());
+    PlayerRating winner = winnerFirst ? first : second;
+    PlayerRating loser = winnerFirst ? second : first;
+
+    RatingTable table = new RatingTable(2,
+        properties.getInitialRating(), properties.getInitialDeviation(), properties.getInitialVolatility());
+    table.set(0, winner.getRating(), winner.getDeviation(), winner.getVolatility(), winner.getGames());
+    table.set(1, loser.getRating(), loser.getDeviation(), loser.getVolatility(), loser.getGames());
+    calculator.apply(table, 0, 1);
+
+    copy(table, 0, winner);
+    copy(table, 1, loser);
+  }
+
+  private PlayerRating lockRating(Long playerId) {
+    return playerRatingRepository.findForUpdate(playerId)
+        .orElseGet(() -> playerRatingRepository.save(PlayerRating.builder()
+            .playerId(playerId)
+            .rating(properties.getInitialRating())
+            .deviation(properties.getInitialDeviation())
+            .volatility(properties.getInitialVolatility())
+            .build()));
+  }
+
+  /**
+   * 새 결과가 커밋된 (또는 같은 트랜잭션에서 먼저 반영한) 마지막 결과보다 늦으면 두 선수만 갱신하고 true
+   * 마지막 결과는 커밋 후에만 올린다. 롤백되면 그대로 두고 잠금만 푼다.
+   */
+  private boolean tryIncremental(MatchOutcome outcome) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return false;
+    }
+    if (!incrementalLock.isHeldByCurrentThread()) {
+      incrementalLock.lock();
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          if (pendingLatest != null) {
+            latestResult = pendingLatest;
+          }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+          pendingLatest = null;
+          incrementalLock.unlock();
+        }
+      });
+    }
+    loadLatestIfNeeded();
+    PlayedAt candidate = new PlayedAt(outcome.getPlayedAt(), outcome.getMatchId());
+    PlayedAt current = pendingLatest != null ? pendingLatest : latestResult;
+    if (current != null && candidate.compareTo(current) <= 0) {
+      return false;
+    }
+    pendingLatest = candidate;
+    applyIncremental(outcome);
+    return true;
+  }
+
+  // incrementalLock 안에서만 호출한다 (replay 와 같은 모니터를 잡으면 advisory lock 과 교착될 수 있다)
+  private void loadLatestIfNeeded() {
+    if (latestLoaded) {
+      return;
+    }
+    List<PlayedAt> rows = jdbcTemplate.query(LATEST_RESULT_SQL,
+        (rs, rowNum) -> new PlayedAt(rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2)));
+    latestResult = rows.isEmpty() ? null : rows.get(0);
+    latestLoaded = true;
+  }
+
+  private record PlayedAt(LocalDateTime time, long matchId) implements Comparable<PlayedAt> {
+    @Override
+    public int compareTo(PlayedAt other) {
+      int byTime = time.compareTo(other.time);
+      return byTime != 0 ? byTime : Long.compare(matchId, other.matchId);
+    }
+  }
+
+  /**
+   * 트랜잭션 범위 advisory lock (PostgreSQL 전용, H2 테스트에서는 생략)
+   */
+  private void lockRatings(boolean exclusive) {
+    if (!postgres()) {
+      return;
+    }
+    String sql = exclusive ? "SELECT pg_advisory_xact_lock(?)" : "SELECT pg_advisory_xact_lock_shared(?)";
+    jdbcTemplate.query(sql, (RowCallbackHandler) rs -> { }, RATING_LOCK_KEY);
+  }
+
+  private boolean postgres() {
+    if (postgres == null) {
+      postgres = "PostgreSQL".equals(jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+          connection.getMetaData().getDatabaseProductName()));
+    }
+    return postgres;
+  }
+
+  private MatchHistory loadHistory() {
+    long[] playerIds = jdbcTemplate.queryForList("SELECT id FROM players ORDER BY id", Long.class)
+        .stream().mapToLong(Long::longValue).toArray();
+    MatchHistory history = new MatchHistory(playerIds);
+
+    jdbcTemplate.query(connection -> {
+      PreparedStatement ps = connection.prepareStatement(REPLAY_MATCHES_SQL,
+          ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      ps.setFetchSize(10_000);
+      return ps;
+    }, (RowCallbackHandler) rs -> history.add(rs.getLong(1), rs.getLong(2)));
+    return history;
+  }
+
+  private void writeRatings(MatchHistory history, RatingTable table) {
+    jdbcTemplate.update("DELETE FROM player_ratings");
+    List<Integer> rated = new ArrayList<>();
+    for (int i = 0; i < table.size(); i++) {
+      if (table.games(i) > 0) {
+        rated.add(i);
+      }
+    }
+    jdbcTemplate.batchUpdate(INSERT_RATING_SQL, rated, 1000, (ps, index) -> {
+      ps.setLong(1, history.playerId(index));
+      ps.setDouble(2, table.rating(index));
+      ps.setDouble(3, table.deviation(index));
+      ps.setDouble(4, table.volatility(index));
+      ps.setInt(5, table.games(index));
+    });
+  }
+
+  private void copy(RatingTable table, int index, PlayerRating rating) {
+    rating.setRating(table.rating(index));
+    rating.setDeviation(table.deviation(index));
+    rating.setVolatility(table.volatility(index));
+    rating.setGames(table.games(index));
+  }
+
+  private RatingDto.Response convertToResponse(PlayerRating rating) {
+    return RatingDto.Response.builder()
+        .playerId(rating.getPlayerId())
+        .algorithm(properties.getAlgorithm())
+        .rating(rating.getRating())
+        .deviation(rating.getDeviation())
+        .volatility(rating.getVolatility())
+        .games(rating.getGames())
+        .build();
+  }
+}
@@ -0,0 +1,151 @@
+package com.suclan.suclan.service;
+
+import com.suclan.suclan.configuration.HttpCacheProperties;
+import com.suclan.suclan.dto.MatchOutcome;
+import com.suclan.suclan.event.ClanChangedEvent;
+import com.suclan.suclan.event.ClanMembershipChanged;
+import com.suclan.suclan.event.MatchChangedEvent;
+import com.suclan.suclan.event.MatchesImportedEvent;
+import com.suclan.suclan.event.PlayerChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회 API ETag 용 리소스 버전
+ * 리소스 키마다 커밋된 변경 횟수를 세고, 응답이 의존하는 키들의 합으로 ETag 를 만든다.
+ * 엔티티를 읽지 않고 메모리에서 바로 계산하므로 If-None-Match 가 맞으면 조회 없이 304 를 돌려줄 수 있다.
+ * 버전은 재시작하면 처음부터 다시 세므로 기동 시각을 ETag 에 함께 넣는다 (이전 ETag 는 모두 불일치).
+ */
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionService {
+
+  public static final String GRADES = "grades";
+  public static final String CLANS = "clans";
+  public static final String NOTICES = "notices";
+  // 매치 변경 전체 (대회 매치 수) / 일괄 등록 (모든 플레이어 전적)
+  private static final String MATCHES = "matches";
+  private static final String IMPORTS = "imports";
+
+  private final HttpCacheProperties properties;
+  private final ClanRosterService clanRosterService;
+  private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+  private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+  public record Version(String etag, CacheControl cacheControl) {
+  }
+
+  // 플레이어 상세: 본인 정보 + 전적 + 등급 / 클랜 이름 + 소속 클랜 멤버 수 (다른 선수의 가입/탈퇴로도 바뀐다)
+  public Version player(Long playerId) {
+    Long clanId = clanRosterService.clanOf(playerId);
+    CacheControl cacheControl = properties.cacheControl(properties.getPlayers());
+    return clanId == null
+        ? version(cacheControl, playerKey(playerId), GRADES, CLANS, IMPORTS)
+        : version(cacheControl, playerKey(playerId), clanKey(clanId), GRADES, CLANS, IMPORTS);
+  }
+
+  // 대회 상세: 대회 정보 + 참가자 / 매치 수
+  public Version contest(Long contestId) {
+    return version(properties.cacheControl(properties.getContests()), contestKey(contestId), MATCHES, IMPORTS);
+  }
+
+  public Version grades() {
+    return version(properties.cacheControl(properties.getGrades()), GRADES);
+  }
+
+  public Version notices() {
+    return version(properties.cacheControl(properties.getNotices()), NOTICES);
+  }
+
+  public static String contestKey(Long contestId) {
+    return "contest:" + contestId;
+  }
+
+  /**
+   * 커밋 후 버전 증가 (롤백되면 그대로)
+   */
+  public void bumpAfterCommit(String key) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      bump(key);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        bump(key);
+      }
+    });
+  }
+
+  @TransactionalEventListener
+  public void onPlayerChanged(PlayerChangedEvent event) {
+    bump(playerKey(event.getPlayerId()));
+  }
+
+  @TransactionalEventListener
+  public void onClanChanged(ClanChangedEvent event) {
+    bump(CLANS);
+  }
+
+  // 이전 / 새 클랜의 멤버 수가 바뀐다
+  @TransactionalEventListener
+  public void onClanMembershipChanged(ClanMembershipChanged event) {
+    bump(playerKey(event.getPlayerId()));
+    if (event.getPreviousClanId() != null) {
+      bump(clanKey(event.getPreviousClanId()));
+    }
+    if (event.getClanId() != null) {
+      bump(clanKey(event.getClanId()));
+    }
+  }
+
+  // 결과가 바뀐 매치의 이전 / 이후 승패 플레이어 전적이 바뀐다
+  @TransactionalEventListener
+  public void onMatchChanged(MatchChangedEvent event) {
+    bump(MATCHES);
+    bumpPlayers(event.getBefore());
+    bumpPlayers(event.getAfter());
+  }
+
+  @TransactionalEventListener
+  public void onMatchesImported(MatchesImportedEvent event) {
+    bump(IMPORTS);
+  }
+
+  private void bumpPlayers(MatchOutcome outcome) {
+    if (outcome != null) {
+      bump(playerKey(outcome.getWinnerId()));
+      bump(playerKey(outcome.getLoserId()));
+    }
+  }
+
+  private Version version(CacheControl cacheControl, String... keys) {
+    long sum = 0;
+    for (String key : keys) {
+      AtomicLong version = versions.get(key);
+      sum += version != null ? version.get() : 0;
+    }
+    // 압축 응답에도 그대로 쓰도록 약한 ETag
+    return new Version("W/\"" + epoch + "-" + Long.toString(sum, 36) + "\"", cacheControl);
+  }
+
+  private void bump(String key) {
+    versions.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+  }
+
+  private static String playerKey(Long playerId) {
+    return "player:" + playerId;
+  }
+
+  private static String clanKey(Long clanId) {
+    return "clan:" + clanId;
+  }
+}
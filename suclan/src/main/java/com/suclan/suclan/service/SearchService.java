@@ -0,0 +1,282 @@
+package com.suclan.suclan.service;
+
+import com.suclan.suclan.dto.PlayerDto;
+import com.suclan.suclan.dto.SearchDto;
+import com.suclan.suclan.event.MatchChangedEvent;
+import com.suclan.suclan.event.MatchesImportedEvent;
+import com.suclan.suclan.event.PlayerChangedEvent;
+import com.suclan.suclan.repository.MatchQueryRepository;
+import com.suclan.suclan.search.TrigramIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 선수 닉네임 / 맵 이름 검색
+ * PostgreSQL 에서는 pg_trgm GIN 색인(lower(nickname), lower(map_name))으로 DB 에서 검색하고,
+ * 색인이 없으면(H2 테스트 등) 메모리 trigram 색인으로 검색한다. 점수 규칙은 두 방식이 같다.
+ * 색인은 시작 시 db/pg-trgm.sql 로 만들고, 여기서는 유효한 색인이 있는지만 확인한다.
+ * GIN 색인은 기존 목록 API 의 likeIgnoreCase('%..%') 조건도 함께 가속한다.
+ */
+@Service
+@Slf4j
+public class SearchService {
+
+  public static final int MAX_LIMIT = 50;
+
+  private static final List<String> PG_TRGM_INDEXES = List.of("idx_players_nickname_trgm", "idx_matches_map_name_trgm");
+
+  // CONCURRENTLY 생성이 실패하면 indisvalid = false 인 색인이 남는다
+  private static final String VALID_INDEX_SQL = """
+      SELECT c.relname
+      FROM pg_index i
+      JOIN pg_class c ON c.oid = i.indexrelid
+      WHERE c.relname IN (?, ?) AND i.indisvalid AND i.indisready
+      """;
+
+  // RANK 는 TrigramIndex.rank 와 같은 규칙 (완전 일치 3 / 접두 2 / 포함 1 + 유사도)
+  private static final String RANK = """
+      (CASE WHEN lower(%1$s) = ? THEN 3 WHEN lower(%1$s) LIKE ? THEN 2 WHEN lower(%1$s) LIKE ? THEN 1 ELSE 0 END
+       + similarity(lower(%1$s), ?))
+      """;
+
+  private static final String PG_PLAYER_SQL = """
+      SELECT p.id, %s AS score
+      FROM players p
+      WHERE p.status = 'REGISTERED'
+        AND (lower(p.nickname) LIKE ? OR lower(p.nickname) %% ?)
+      ORDER BY score DESC, p.nickname
+      LIMIT ?
+      """.formatted(RANK.formatted("p.nickname"));
+
+  private static final String PG_MAP_SQL = """
+      SELECT t.map_name, t.score
+      FROM (
+        SELECT m.map_name, MAX(%s) AS score
+        FROM matches m
+        WHERE m.status = 'REGISTERED'
+          AND (lower(m.map_name) LIKE ? OR lower(m.map_name) %% ?)
+        GROUP BY m.map_name
+      ) t
+      ORDER BY t.score DESC, t.map_name
+      LIMIT ?
+      """.formatted(RANK.formatted("m.map_name"));
+
+  private final JdbcTemplate jdbcTemplate;
+  private final MatchQueryRepository matchQueryRepository;
+  private final String backendSetting;
+
+  private volatile Boolean usePostgres;
+  private volatile TrigramIndex playerIndex = new TrigramIndex();
+  private volatile TrigramIndex mapIndex = new TrigramIndex();
+  private final Map<String, Long> mapIds = new HashMap<>();
+
+  public SearchService(JdbcTemplate jdbcTemplate,
+                       MatchQueryRepository matchQueryRepository,
+                       @Value("${search.backend:auto}") String backendSetting) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.matchQueryRepository = matchQueryRepository;
+    this.backendSetting = backendSetting;
+  }
+
+  public List<SearchDto.PlayerHit> searchPlayers(String query, int limit) {
+    String q = normalize(query);
+    if (q.isEmpty()) {
+      return List.of();
+    }
+    int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+    Map<Long, Double> scores = new LinkedHashMap<>();
+    if (postgres()) {
+      jdbcTemplate.query(PG_PLAYER_SQL, (RowCallbackHandler) rs -> scores.put(rs.getLong(1), rs.getDouble(2)),
+          rankParams(q, size));
+    } else {
+      playerIndex.search(q, size).forEach(hit -> scores.put(hit.getId(), hit.getScore()));
+    }
+
+    Map<Long, PlayerDto.Summary> players = matchQueryRepository.findPlayerSummaries(scores.keySet()).stream()
+        .collect(Collectors.toMap(PlayerDto.Summary::getId, Function.identity()));
+    List<SearchDto.PlayerHit> hits = new ArrayList<>(scores.size());
+    scores.forEach((id, score) -> {
+      PlayerDto.Summary player = players.get(id);
+      if (player != null) {
+        hits.add(SearchDto.PlayerHit.builder().player(player).score(score).build());
+      }
+    });
+    return hits;
+  }
+
+  public List<SearchDto.MapHit> searchMaps(String query, int limit) {
+    String q = normalize(query);
+    if (q.isEmpty()) {
+      return List.of();
+    }
+    int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+    if (postgres()) {
+      return jdbcTemplate.query(PG_MAP_SQL, (rs, rowNum) -> SearchDto.MapHit.builder()
+          .mapName(rs.getString(1))
+          .score(rs.getDouble(2))
+          .build(), rankParams(q, size));
+    }
+    return mapIndex.search(q, size).stream()
+        .map(hit -> SearchDto.MapHit.builder().mapName(hit.getText()).score(hit.getScore()).build())
+        .toList();
+  }
+
+  /**
+   * 시작 시 검색 방식을 정한다. search.backend=postgres 인데 유효한 pg_trgm 색인이 없으면 시작에 실패한다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void resolveBackend() {
+    postgres();
+  }
+
+  /**
+   * 메모리 색인을 다시 적재한다. (pg_trgm 사용 시에는 아무것도 하지 않음)
+   */
+  @Scheduled(fixedDelayString = "${search.rebuild-interval-ms:600000}")
+  public void rebuild() {
+    if (postgres()) {
+      return;
+    }
+    TrigramIndex players = new TrigramIndex();
+    jdbcTemplate.query("SELECT id, nickname FROM players WHERE status = 'REGISTERED'",
+        (RowCallbackHandler) rs -> players.put(rs.getLong(1), rs.getString(2)));
+
+    TrigramIndex maps = new TrigramIndex();
+    Map<String, Long> ids = new HashMap<>();
+    jdbcTemplate.query("SELECT DISTINCT map_name FROM matches WHERE status = 'REGISTERED' AND map_name IS NOT NULL",
+        (RowCallbackHandler) rs -> {
+          String mapName = rs.getString(1);
+          long id = ids.size();
+          ids.put(mapName, id);
+          maps.put(id, mapName);
+        });
+
+    synchronized (mapIds) {
+      mapIds.clear();
+      mapIds.putAll(ids);
+      mapIndex = maps;
+    }
+    playerIndex = players;
+    log.info("search index rebuilt with {} players, {} maps", players.size(), maps.size());
+  }
+
+  @TransactionalEventListener
+  public void onPlayerChanged(PlayerChangedEvent event) {
+    if (postgres()) {
+      return;
+    }
+    List<String> nicknames = jdbcTemplate.queryForList(
+        "SELECT nickname FROM players WHERE id = ? AND status = 'REGISTERED'", String.class, event.getPlayerId());
+    if (nicknames.isEmpty()) {
+      playerIndex.remove(event.getPlayerId());
+    } else {
+      playerIndex.put(event.getPlayerId(), nicknames.get(0));
+    }
+  }
+
+  // 새 맵 이름만 추가한다. 더 이상 쓰이지 않는 맵은 주기적 재적재 때 빠진다
+  @TransactionalEventListener
+  public void onMatchChanged(MatchChangedEvent event) {
+    if (postgres() || event.getType() == MatchChangedEvent.Type.DELETED) {
+      return;
+    }
+    List<String> mapNames = jdbcTemplate.queryForList(
+        "SELECT map_name FROM matches WHERE id = ? AND map_name IS NOT NULL", String.class, event.getMatchId());
+    if (!mapNames.isEmpty()) {
+      addMap(mapNames.get(0));
+    }
+  }
+
+  @TransactionalEventListener
+  public void onMatchesImported(MatchesImportedEvent event) {
+    if (!postgres()) {
+      rebuild();
+    }
+  }
+
+  private void addMap(String mapName) {
+    synchronized (mapIds) {
+      if (!mapIds.containsKey(mapName)) {
+        long id = mapIds.size();
+        mapIds.put(mapName, id);
+        mapIndex.put(id, mapName);
+      }
+    }
+  }
+
+  // 설정이 auto 이면 PostgreSQL 여부와 유효한 pg_trgm 색인 존재 여부로 결정한다
+  private boolean postgres() {
+    Boolean resolved = usePostgres;
+    if (resolved != null) {
+      return resolved;
+    }
+    synchronized (this) {
+      if (usePostgres == null) {
+        usePostgres = switch (backendSetting) {
+          case "memory" -> false;
+          case "postgres" -> checkPgTrgm(true);
+          default -> isPostgres() && checkPgTrgm(false);
+        };
+        log.info("search backend: {}", usePostgres ? "pg_trgm" : "in-memory trigram index");
+      }
+      return usePostgres;
+    }
+  }
+
+  private boolean isPostgres() {
+    try {
+      return Boolean.TRUE.equals(jdbcTemplate.execute((Connection connection) ->
+          "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())));
+    } catch (DataAccessException e) {
+      log.warn("could not detect database product, using in-memory search", e);
+      return false;
+    }
+  }
+
+  private boolean checkPgTrgm(boolean required) {
+    List<String> valid = jdbcTemplate.queryForList(VALID_INDEX_SQL, String.class, PG_TRGM_INDEXES.toArray());
+    List<String> missing = PG_TRGM_INDEXES.stream().filter(index -> !valid.contains(index)).toList();
+    if (missing.isEmpty()) {
+      return true;
+    }
+    if (required) {
+      throw new IllegalStateException(
+          "search.backend=postgres 이지만 pg_trgm 색인이 없거나 INVALID 입니다: " + missing + " (db/pg-trgm.sql 참고)");
+    }
+    log.warn("pg_trgm index missing or invalid {}, using in-memory search", missing);
+    return false;
+  }
+
+  private static Object[] rankParams(String q, int limit) {
+    String contains = "%" + escapeLike(q) + "%";
+    return new Object[]{q, escapeLike(q) + "%", contains, q, contains, q, limit};
+  }
+
+  private static String escapeLike(String q) {
+    return q.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+
+  private static String normalize(String query) {
+    return query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+  }
+}
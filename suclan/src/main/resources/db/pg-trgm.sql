@@ -0,0 +1,6 @@
+-- 검색용 pg_trgm GIN 색인 (SearchService). 테이블이 만들어진 뒤 실행되도록 spring.jpa.defer-datasource-initialization 을 켠다.
+-- CONCURRENTLY 는 트랜잭션 밖(autocommit)에서만 돌 수 있다. 생성이 중간에 실패하면 INVALID 색인이 남으므로
+-- SearchService 가 시작 시 pg_index.indisvalid 를 확인한다. 이때는 색인을 DROP 하고 다시 실행한다.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_players_nickname_trgm ON players USING gin (lower(nickname) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_matches_map_name_trgm ON matches USING gin (lower(map_name) gin_trgm_ops);
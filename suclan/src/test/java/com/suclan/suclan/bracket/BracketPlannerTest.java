@@ -0,0 +1,136 @@
+package com.suclan.suclan.bracket;
+
+import com.suclan.suclan.constant.BracketSide;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BracketPlannerTest {
+
+  @Test
+  void seedOrderKeepsTopSeedsApart() {
+    assertThat(BracketPlanner.seedOrder(8)).containsExactly(1, 8, 4, 5, 2, 7, 3, 6);
+  }
+
+  @Test
+  void singleEliminationGivesByesToTopSeeds() {
+    List<BracketPlanner.SlotPlan> plans = BracketPlanner.singleElimination(seeds(6));
+
+    assertThat(plans).hasSize(7);
+    assertFirstRound(plans.get(0), 1L, null);
+    assertFirstRound(plans.get(1), 4L, 5L);
+    assertFirstRound(plans.get(2), 2L, null);
+    assertFirstRound(plans.get(3), 3L, 6L);
+  }
+
+  @Test
+  void singleEliminationLinksWinnersIntoNextRound() {
+    List<BracketPlanner.SlotPlan> plans = BracketPlanner.singleElimination(seeds(6));
+
+    assertWinner(plans.get(0), 4, 1);
+    assertWinner(plans.get(1), 4, 2);
+    assertWinner(plans.get(2), 5, 1);
+    assertWinner(plans.get(3), 5, 2);
+    assertWinner(plans.get(4), 6, 1);
+    assertWinner(plans.get(5), 6, 2);
+    assertThat(plans.get(6).getRound()).isEqualTo(3);
+    assertThat(plans.get(6).getWinnerTo()).isEqualTo(-1);
+    assertThat(plans.get(6).isSeeded()).isFalse();
+  }
+
+  @Test
+  void doubleEliminationWithTwoPlayersGoesStraightToFinal() {
+    List<BracketPlanner.SlotPlan> plans = BracketPlanner.doubleElimination(seeds(2));
+
+    assertThat(plans).hasSize(2);
+    assertThat(plans.get(1).getSide()).isEqualTo(BracketSide.FINAL);
+    assertWinner(plans.get(0), 1, 1);
+    assertLoser(plans.get(0), 1, 2);
+  }
+
+  @Test
+  void doubleEliminationRoutesLosersIntoLowerBracket() {
+    List<BracketPlanner.SlotPlan> plans = BracketPlanner.doubleElimination(seeds(8));
+
+    // 승자조 0-3 / 4-5 / 6, 패자조 7-8 / 9-10 / 11 / 12, 그랜드 파이널 13
+    assertThat(plans).hasSize(14);
+    assertLower(plans.get(7), 1);
+    assertLower(plans.get(9), 2);
+    assertLower(plans.get(11), 3);
+    assertLower(plans.get(12), 4);
+    assertThat(plans.get(13).getSide()).isEqualTo(BracketSide.FINAL);
+
+    assertLoser(plans.get(0), 7, 1);
+    assertLoser(plans.get(1), 7, 2);
+    assertLoser(plans.get(2), 8, 1);
+    assertLoser(plans.get(3), 8, 2);
+    // 승자조 2라운드 패자는 역순으로 내려와 1라운드에서 만난 쪽과 엇갈린다
+    assertLoser(plans.get(5), 9, 2);
+    assertLoser(plans.get(4), 10, 2);
+    assertWinner(plans.get(7), 9, 1);
+    assertWinner(plans.get(8), 10, 1);
+    assertWinner(plans.get(9), 11, 1);
+    assertWinner(plans.get(10), 11, 2);
+    assertWinner(plans.get(11), 12, 1);
+    assertLoser(plans.get(6), 12, 2);
+
+    assertWinner(plans.get(6), 13, 1);
+    assertWinner(plans.get(12), 13, 2);
+  }
+
+  @Test
+  void roundRobinPairsEveryoneOnce() {
+    List<BracketPlanner.SlotPlan> plans = BracketPlanner.roundRobin(seeds(5));
+
+    assertThat(plans).hasSize(10);
+    assertThat(plans).extracting(BracketPlanner.SlotPlan::getRound).containsOnly(1, 2, 3, 4, 5);
+    Set<Set<Long>> pairs = new HashSet<>();
+    for (BracketPlanner.SlotPlan plan : plans) {
+      assertThat(plan.isSeeded()).isTrue();
+      assertThat(pairs.add(Set.of(plan.getPlayerOneId(), plan.getPlayerTwoId()))).isTrue();
+    }
+    for (int round = 1; round <= 5; round++) {
+      int r = round;
+      assertThat(plans.stream().filter(plan -> plan.getRound() == r)).hasSize(2);
+    }
+  }
+
+  @Test
+  void roundCounts() {
+    assertThat(BracketPlanner.roundRobinRounds(4)).isEqualTo(3);
+    assertThat(BracketPlanner.roundRobinRounds(5)).isEqualTo(5);
+    assertThat(BracketPlanner.swissRounds(8)).isEqualTo(3);
+    assertThat(BracketPlanner.swissRounds(9)).isEqualTo(4);
+  }
+
+  private static List<Long> seeds(int count) {
+    return LongStream.rangeClosed(1, count).boxed().toList();
+  }
+
+  private static void assertFirstRound(BracketPlanner.SlotPlan plan, Long one, Long two) {
+    assertThat(plan.getRound()).isEqualTo(1);
+    assertThat(plan.isSeeded()).isTrue();
+    assertThat(plan.getPlayerOneId()).isEqualTo(one);
+    assertThat(plan.getPlayerTwoId()).isEqualTo(two);
+  }
+
+  private static void assertLower(BracketPlanner.SlotPlan plan, int round) {
+    assertThat(plan.getSide()).isEqualTo(BracketSide.LOWER);
+    assertThat(plan.getRound()).isEqualTo(round);
+  }
+
+  private static void assertWinner(BracketPlanner.SlotPlan plan, int to, int input) {
+    assertThat(plan.getWinnerTo()).isEqualTo(to);
+    assertThat(plan.getWinnerInput()).isEqualTo(input);
+  }
+
+  private static void assertLoser(BracketPlanner.SlotPlan plan, int to, int input) {
+    assertThat(plan.getLoserTo()).isEqualTo(to);
+    assertThat(plan.getLoserInput()).isEqualTo(input);
+  }
+}
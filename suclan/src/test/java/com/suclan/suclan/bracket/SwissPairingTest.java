@@ -0,0 +1,73 @@
+package com.suclan.suclan.bracket;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SwissPairingTest {
+
+  @Test
+  void pairsTopHalfAgainstBottomHalfWithinScoreGroup() {
+    SwissPairing.Result result = SwissPairing.pair(players(0, 0, 0, 0), Set.of());
+
+    assertThat(result.getByePlayerId()).isNull();
+    assertThat(result.getPairs()).containsExactly(new long[]{1, 3}, new long[]{2, 4});
+  }
+
+  @Test
+  void avoidsRematches() {
+    SwissPairing.Result result = SwissPairing.pair(players(0, 0, 0, 0),
+        Set.of(SwissPairing.pairKey(1, 3), SwissPairing.pairKey(2, 4)));
+
+    assertThat(result.getPairs()).containsExactly(new long[]{1, 2}, new long[]{3, 4});
+  }
+
+  @Test
+  void backtracksWhenGreedyChoiceLeavesARematch() {
+    // 1-2 를 고르면 3-4 가 재대결이 되므로 되돌아가 1-4, 2-3 을 찾는다
+    SwissPairing.Result result = SwissPairing.pair(players(1, 1, 0, 0),
+        Set.of(SwissPairing.pairKey(3, 4), SwissPairing.pairKey(1, 3)));
+
+    assertThat(result.getPairs()).containsExactly(new long[]{1, 4}, new long[]{2, 3});
+  }
+
+  @Test
+  void allowsRematchWhenNoOtherPairingExists() {
+    SwissPairing.Result result = SwissPairing.pair(players(0, 0), Set.of(SwissPairing.pairKey(1, 2)));
+
+    assertThat(result.getPairs()).containsExactly(new long[]{1, 2});
+  }
+
+  @Test
+  void byeGoesToLowestPlayerWithoutOne() {
+    List<SwissPairing.Player> ranked = List.of(
+        new SwissPairing.Player(1, 2, false),
+        new SwissPairing.Player(2, 1, false),
+        new SwissPairing.Player(3, 1, false),
+        new SwissPairing.Player(4, 0, false),
+        new SwissPairing.Player(5, 0, true));
+
+    SwissPairing.Result result = SwissPairing.pair(ranked, Set.of());
+
+    assertThat(result.getByePlayerId()).isEqualTo(4L);
+    assertThat(result.getPairs()).hasSize(2)
+        .allSatisfy(pair -> assertThat(pair).doesNotContain(4L));
+  }
+
+  @Test
+  void pairKeyIsOrderIndependent() {
+    assertThat(SwissPairing.pairKey(7, 3)).isEqualTo(SwissPairing.pairKey(3, 7));
+  }
+
+  // id 는 1 부터 순서대로
+  private static List<SwissPairing.Player> players(int... scores) {
+    SwissPairing.Player[] players = new SwissPairing.Player[scores.length];
+    for (int i = 0; i < scores.length; i++) {
+      players[i] = new SwissPairing.Player(i + 1, scores[i], false);
+    }
+    return List.of(players);
+  }
+}
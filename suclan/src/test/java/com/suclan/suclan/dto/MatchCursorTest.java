@@ -0,0 +1,51 @@
+package com.suclan.suclan.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchCursorTest {
+
+  @Test
+  void roundTrips() {
+    MatchCursor cursor = new MatchCursor(LocalDateTime.of(2024, 5, 6, 7, 8, 9, 123_000_000), 42L);
+
+    assertThat(MatchCursor.decode(cursor.encode())).isEqualTo(cursor);
+  }
+
+  @Test
+  void roundTripsWithoutMatchTime() {
+    MatchCursor cursor = new MatchCursor(null, 7L);
+
+    assertThat(MatchCursor.decode(cursor.encode())).isEqualTo(cursor);
+  }
+
+  @Test
+  void encodedCursorIsUrlSafe() {
+    String encoded = new MatchCursor(LocalDateTime.of(2024, 1, 1, 0, 0), Long.MAX_VALUE).encode();
+
+    assertThat(encoded).matches("[A-Za-z0-9_-]+");
+  }
+
+  @Test
+  void blankCursorMeansFirstPage() {
+    assertThat(MatchCursor.decode("")).isNull();
+    assertThat(MatchCursor.decode(null)).isNull();
+  }
+
+  @Test
+  void rejectsMalformedCursor() {
+    assertThatThrownBy(() -> MatchCursor.decode("!!!")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> MatchCursor.decode(encode("no-separator"))).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> MatchCursor.decode(encode("yesterday|1"))).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static String encode(String raw) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
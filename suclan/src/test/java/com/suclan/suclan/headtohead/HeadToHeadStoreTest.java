@@ -0,0 +1,62 @@
+package com.suclan.suclan.headtohead;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HeadToHeadStoreTest {
+
+  private static final LocalDateTime FIRST = LocalDateTime.of(2024, 1, 1, 12, 0);
+  private static final LocalDateTime SECOND = LocalDateTime.of(2024, 1, 2, 12, 0);
+
+  @Test
+  void recordsFromBothSides() {
+    HeadToHeadStore store = new HeadToHeadStore(4);
+    store.record(1, 2, 1, FIRST);
+    store.record(1, 2, 1, SECOND);
+    store.record(2, 1, 1, FIRST);
+
+    assertThat(store.get(1, 2)).hasValue(new HeadToHeadStore.Record(2, 2, 1, SECOND));
+    assertThat(store.get(2, 1)).hasValue(new HeadToHeadStore.Record(1, 1, 2, SECOND));
+    assertThat(store.get(1, 3)).isEmpty();
+    assertThat(store.pairCount()).isEqualTo(1);
+  }
+
+  @Test
+  void cancellingTheLatestMatchAsksForReload() {
+    HeadToHeadStore store = new HeadToHeadStore(4);
+    store.record(1, 2, 1, FIRST);
+    store.record(2, 1, 1, SECOND);
+
+    assertThat(store.record(1, 2, -1, FIRST)).isTrue();
+    assertThat(store.record(2, 1, -1, SECOND)).isFalse();
+
+    store.reset(1, 2, 0, 0, null);
+    assertThat(store.get(2, 1)).hasValue(new HeadToHeadStore.Record(1, 0, 0, null));
+  }
+
+  @Test
+  void opponentsSkipsPairsWithNoRemainingMatches() {
+    HeadToHeadStore store = new HeadToHeadStore(1);
+    for (long opponent = 2; opponent <= 40; opponent++) {
+      store.record(1, opponent, 1, FIRST);
+    }
+    store.record(1, 5, -1, FIRST);
+
+    assertThat(store.opponents(1)).hasSize(38)
+        .extracting(HeadToHeadStore.Record::getOpponentId)
+        .doesNotContain(5L);
+    assertThat(store.opponents(7)).singleElement()
+        .isEqualTo(new HeadToHeadStore.Record(1, 0, 1, FIRST));
+    assertThat(store.opponents(99)).isEmpty();
+  }
+
+  @Test
+  void rejectsIdsThatDoNotFitThePairKey() {
+    assertThatThrownBy(() -> HeadToHeadStore.key(1, 1L << 32)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> HeadToHeadStore.key(-1, 2)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
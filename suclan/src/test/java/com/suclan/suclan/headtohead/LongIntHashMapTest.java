@@ -0,0 +1,46 @@
+package com.suclan.suclan.headtohead;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongIntHashMapTest {
+
+  @Test
+  void growsPastInitialCapacity() {
+    LongIntHashMap map = new LongIntHashMap(2);
+    for (int i = 0; i < 10_000; i++) {
+      map.put(key(i), i);
+    }
+
+    assertThat(map.size()).isEqualTo(10_000);
+    for (int i = 0; i < 10_000; i++) {
+      assertThat(map.get(key(i))).isEqualTo(i);
+    }
+    assertThat(map.get(key(10_000))).isEqualTo(LongIntHashMap.MISSING);
+  }
+
+  @Test
+  void putOverwritesExistingKey() {
+    LongIntHashMap map = new LongIntHashMap(4);
+    map.put(-5, 1);
+    map.put(-5, 2);
+
+    assertThat(map.size()).isEqualTo(1);
+    assertThat(map.get(-5)).isEqualTo(2);
+  }
+
+  @Test
+  void rejectsFreeMarkerKey() {
+    LongIntHashMap map = new LongIntHashMap(4);
+
+    assertThatThrownBy(() -> map.put(Long.MIN_VALUE, 1)).isInstanceOf(IllegalArgumentException.class);
+    assertThat(map.get(Long.MIN_VALUE)).isEqualTo(LongIntHashMap.MISSING);
+  }
+
+  // 선수 쌍 키처럼 상위 32비트도 쓰는 키
+  private static long key(int i) {
+    return ((long) i << 32) | (i * 31L);
+  }
+}
@@ -0,0 +1,43 @@
+package com.suclan.suclan.leaderboard;
+
+import com.suclan.suclan.constant.LeaderboardMetric;
+import com.suclan.suclan.constant.Race;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaderboardTest {
+
+  @Test
+  void ranksByLosses() {
+    Leaderboard leaderboard = new Leaderboard();
+    leaderboard.replaceAll(List.of(
+        new LeaderboardEntry(1, "a", Race.ZERG, null, null, 5, 1),
+        new LeaderboardEntry(2, "b", Race.TERRAN, null, null, 1, 4),
+        new LeaderboardEntry(3, "c", Race.ZERG, null, null, 3, 2)));
+
+    List<Leaderboard.Ranked> page = leaderboard.page(LeaderboardMetric.LOSSES, LeaderboardScope.overall(), 0, 10);
+
+    assertThat(page).extracting(ranked -> ranked.getEntry().getPlayerId()).containsExactly(2L, 3L, 1L);
+  }
+
+  @Test
+  void adjustMovesPlayerInEveryMetric() {
+    Leaderboard leaderboard = new Leaderboard();
+    leaderboard.replaceAll(List.of(
+        new LeaderboardEntry(1, "a", Race.ZERG, null, null, 2, 0),
+        new LeaderboardEntry(2, "b", Race.ZERG, null, null, 1, 1)));
+
+    leaderboard.adjust(1, 0, 3);
+
+    String scope = LeaderboardScope.race(Race.ZERG);
+    assertThat(leaderboard.rank(LeaderboardMetric.LOSSES, scope, 1)).hasValueSatisfying(ranked ->
+        assertThat(ranked.getRank()).isEqualTo(1));
+    assertThat(leaderboard.rank(LeaderboardMetric.WINS, scope, 1)).hasValueSatisfying(ranked ->
+        assertThat(ranked.getRank()).isEqualTo(1));
+    assertThat(leaderboard.rank(LeaderboardMetric.TOTAL_MATCHES, scope, 2)).hasValueSatisfying(ranked ->
+        assertThat(ranked.getRank()).isEqualTo(2));
+  }
+}
@@ -0,0 +1,69 @@
+package com.suclan.suclan.leaderboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderStatisticTreeTest {
+
+  private record Entry(long id, int score) {
+  }
+
+  private static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::score).reversed()
+      .thenComparingLong(Entry::id);
+
+  @Test
+  void ordersByScoreDescendingThenIdAscending() {
+    OrderStatisticTree tree = new OrderStatisticTree();
+    tree.insert(3, 10);
+    tree.insert(1, 5);
+    tree.insert(2, 10);
+    tree.insert(4, 7);
+
+    assertThat(tree.size()).isEqualTo(4);
+    assertThat(List.of(tree.select(0), tree.select(1), tree.select(2), tree.select(3))).containsExactly(2L, 3L, 4L, 1L);
+    assertThat(tree.rank(2, 10)).isZero();
+    assertThat(tree.rank(3, 10)).isEqualTo(1);
+    assertThat(tree.rank(1, 5)).isEqualTo(3);
+    assertThat(tree.select(4)).isEqualTo(-1);
+  }
+
+  @Test
+  void rankOfMissingEntryIsItsInsertionPoint() {
+    OrderStatisticTree tree = new OrderStatisticTree();
+    tree.insert(1, 10);
+    tree.insert(2, 5);
+
+    assertThat(tree.rank(3, 7)).isEqualTo(1);
+    assertThat(tree.rank(3, 1)).isEqualTo(2);
+  }
+
+  @Test
+  void matchesSortedListUnderRandomInsertsAndRemoves() {
+    Random random = new Random(20240101);
+    OrderStatisticTree tree = new OrderStatisticTree();
+    List<Entry> expected = new ArrayList<>();
+    for (long id = 1; id <= 2000; id++) {
+      Entry entry = new Entry(id, random.nextInt(50));
+      tree.insert(entry.id(), entry.score());
+      expected.add(entry);
+    }
+    for (int i = 0; i < 700; i++) {
+      Entry removed = expected.remove(random.nextInt(expected.size()));
+      tree.remove(removed.id(), removed.score());
+    }
+    expected.sort(ORDER);
+
+    assertThat(tree.size()).isEqualTo(expected.size());
+    for (int k = 0; k < expected.size(); k++) {
+      Entry entry = expected.get(k);
+      assertThat(tree.select(k)).isEqualTo(entry.id());
+      assertThat(tree.rank(entry.id(), entry.score())).isEqualTo(k);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.suclan.suclan.rating;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class Glicko2CalculatorTest {
+
+  /**
+   * Glickman, "Example of the Glicko-2 system" 의 선수(1500 / 200 / 0.06, tau 0.5) 와 첫 상대(1400 / 30) 한 경기.
+   * 기대값은 논문의 절차(step 1~8)로 계산했으며, 같은 절차로 논문의 세 경기 예제를 계산하면 1464.06 / 151.52 / 0.05999 가 나온다.
+   */
+  @Test
+  void matchesGlickmanExampleFirstGame() {
+    RatingTable table = new RatingTable(2, 1500, 350, 0.06);
+    table.set(0, 1500, 200, 0.06, 0);
+    table.set(1, 1400, 30, 0.06, 0);
+
+    new Glicko2Calculator(0.5).apply(table, 0, 1);
+
+    assertThat(table.rating(0)).isCloseTo(1563.564, within(0.01));
+    assertThat(table.deviation(0)).isCloseTo(175.403, within(0.01));
+    assertThat(table.volatility(0)).isCloseTo(0.059999, within(0.000001));
+    assertThat(table.rating(1)).isCloseTo(1398.144, within(0.01));
+    assertThat(table.deviation(1)).isCloseTo(31.670, within(0.01));
+    assertThat(table.volatility(1)).isCloseTo(0.059999, within(0.000001));
+    assertThat(table.games(0)).isEqualTo(1);
+    assertThat(table.games(1)).isEqualTo(1);
+  }
+
+  @Test
+  void evenMatchMovesBothPlayersSymmetrically() {
+    RatingTable table = new RatingTable(2, 1500, 350, 0.06);
+
+    new Glicko2Calculator(0.5).apply(table, 0, 1);
+
+    assertThat(table.rating(0)).isCloseTo(1662.311, within(0.01));
+    assertThat(table.rating(1)).isCloseTo(1337.689, within(0.01));
+    assertThat(table.deviation(0)).isCloseTo(290.319, within(0.01));
+    assertThat(table.deviation(1)).isCloseTo(table.deviation(0), within(0.000001));
+  }
+}
@@ -0,0 +1,36 @@
+package com.suclan.suclan.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulTest {
+
+  @Test
+  void decomposesSyllablesIntoJamo() {
+    assertThat(Hangul.decompose("김철수")).isEqualTo("ㄱㅣㅁㅊㅓㄹㅅㅜ");
+    assertThat(Hangul.decompose("닭 과")).isEqualTo("ㄷㅏㄹㄱㄱㅗㅏ");
+    assertThat(Hangul.decompose("Flash")).isEqualTo("flash");
+  }
+
+  @Test
+  void partialInputIsAPrefixOfTheFullName() {
+    assertThat(Hangul.decompose("김철수")).startsWith(Hangul.decompose("김ㅊ"));
+    assertThat(Hangul.decompose("닭")).startsWith(Hangul.decompose("달"));
+    assertThat(Hangul.decompose("과자")).startsWith(Hangul.decompose("ㄱㅘ"));
+  }
+
+  @Test
+  void extractsChoseong() {
+    assertThat(Hangul.choseong("김철수 A")).isEqualTo("ㄱㅊㅅa");
+  }
+
+  @Test
+  void detectsChoseongQuery() {
+    assertThat(Hangul.isChoseongQuery("ㄱㅊㅅ")).isTrue();
+    assertThat(Hangul.isChoseongQuery("ㄱㅊa")).isTrue();
+    assertThat(Hangul.isChoseongQuery("김ㅊ")).isFalse();
+    assertThat(Hangul.isChoseongQuery("ㄱㅏ")).isFalse();
+    assertThat(Hangul.isChoseongQuery("abc")).isFalse();
+  }
+}
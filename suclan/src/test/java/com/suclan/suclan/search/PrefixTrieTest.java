@@ -0,0 +1,44 @@
+package com.suclan.suclan.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixTrieTest {
+
+  @Test
+  void collectsShorterKeysFirstThenAlphabetically() {
+    PrefixTrie trie = trie();
+
+    assertThat(trie.collect("a", 10, id -> true)).containsExactly(4L, 1L, 3L, 2L);
+    assertThat(trie.collect("ab", 10, id -> true)).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void stopsAtLimitAndSkipsRejectedIds() {
+    PrefixTrie trie = trie();
+
+    assertThat(trie.collect("a", 2, id -> true)).containsExactly(4L, 1L);
+    assertThat(trie.collect("a", 2, id -> id != 1L)).containsExactly(4L, 3L);
+  }
+
+  @Test
+  void removeDropsOnlyThatId() {
+    PrefixTrie trie = trie();
+    trie.add("ab", 5);
+    trie.remove("ab", 1);
+    trie.remove("zz", 1);
+
+    assertThat(trie.collect("ab", 10, id -> true)).containsExactly(5L, 2L);
+    assertThat(trie.collect("x", 10, id -> true)).isEmpty();
+  }
+
+  private static PrefixTrie trie() {
+    PrefixTrie trie = new PrefixTrie();
+    trie.add("abcd", 2);
+    trie.add("ac", 3);
+    trie.add("ab", 1);
+    trie.add("a", 4);
+    return trie;
+  }
+}
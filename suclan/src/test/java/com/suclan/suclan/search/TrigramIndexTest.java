@@ -0,0 +1,66 @@
+package com.suclan.suclan.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrigramIndexTest {
+
+  @Test
+  void trigramsArePaddedLikePgTrgm() {
+    assertThat(TrigramIndex.trigrams("ab cd")).containsExactly("  a", " ab", "ab ", "  c", " cd", "cd ");
+  }
+
+  @Test
+  void exactThenPrefixThenContainsThenSimilar() {
+    TrigramIndex index = new TrigramIndex();
+    index.put(1, "Flash");
+    index.put(2, "Flashback");
+    index.put(3, "TheFlash");
+    index.put(4, "Flahs");
+    index.put(5, "Jaedong");
+
+    List<TrigramIndex.Hit> hits = index.search("FLASH", 10);
+
+    assertThat(hits).extracting(TrigramIndex.Hit::getId).containsExactly(1L, 2L, 3L, 4L);
+    assertThat(hits.get(0).getScore()).isEqualTo(4.0);
+    assertThat(hits.get(3).getScore()).isBetween(TrigramIndex.SIMILARITY_THRESHOLD, 1.0);
+  }
+
+  @Test
+  void shortQueryMatchesBySubstring() {
+    TrigramIndex index = new TrigramIndex();
+    index.put(1, "Bisu");
+    index.put(2, "Stork");
+    index.put(3, "Jaedong");
+
+    // Stork 는 접두 일치, Bisu 는 포함 일치
+    assertThat(index.search("s", 10)).extracting(TrigramIndex.Hit::getId).containsExactly(2L, 1L);
+  }
+
+  @Test
+  void putReplacesAndRemoveDeletes() {
+    TrigramIndex index = new TrigramIndex();
+    index.put(1, "Flash");
+    index.put(1, "Bisu");
+    index.put(2, "Stork");
+    index.remove(2);
+
+    assertThat(index.search("flash", 10)).isEmpty();
+    assertThat(index.search("bisu", 10)).extracting(TrigramIndex.Hit::getId).containsExactly(1L);
+    assertThat(index.search("stork", 10)).isEmpty();
+    assertThat(index.size()).isEqualTo(1);
+  }
+
+  @Test
+  void limitsResults() {
+    TrigramIndex index = new TrigramIndex();
+    for (long id = 1; id <= 20; id++) {
+      index.put(id, "player" + id);
+    }
+
+    assertThat(index.search("player", 5)).hasSize(5);
+  }
+}
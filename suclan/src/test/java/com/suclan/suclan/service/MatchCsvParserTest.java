@@ -0,0 +1,79 @@
+package com.suclan.suclan.service;
+
+import com.suclan.suclan.constant.Race;
+import com.suclan.suclan.dto.MatchDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchCsvParserTest {
+
+  @Test
+  void parsesQuotedFields() {
+    String csv = "playerOneId,PLAYERTWOID,winnerId,mapName,description\r\n"
+        + "1,2,1,\"Fighting Spirit, 1.3\",\"he said \"\"gg\"\"\"\r\n"
+        + "\r\n"
+        + "3,4,4,Circuit Breaker,\"line1\nline2\"\n";
+
+    MatchCsvParser parser = MatchCsvParser.parse(csv);
+
+    assertThat(parser.getErrors()).isEmpty();
+    assertThat(parser.getRequests()).hasSize(2);
+    MatchDto.CreateRequest first = parser.getRequests().get(0);
+    assertThat(first.getPlayerOneId()).isEqualTo(1L);
+    assertThat(first.getPlayerTwoId()).isEqualTo(2L);
+    assertThat(first.getMapName()).isEqualTo("Fighting Spirit, 1.3");
+    assertThat(first.getDescription()).isEqualTo("he said \"gg\"");
+    MatchDto.CreateRequest second = parser.getRequests().get(1);
+    assertThat(second.getWinnerId()).isEqualTo(4L);
+    assertThat(second.getDescription()).isEqualTo("line1\nline2");
+  }
+
+  @Test
+  void emptyAndMissingValuesBecomeNull() {
+    MatchCsvParser parser = MatchCsvParser.parse("playerOneId,playerTwoId,mapName,contestId\n1,2,\"\"\n");
+
+    MatchDto.CreateRequest request = parser.getRequests().get(0);
+    assertThat(request.getMapName()).isNull();
+    assertThat(request.getContestId()).isNull();
+  }
+
+  @Test
+  void parsesRaceAndMatchTime() {
+    MatchCsvParser parser = MatchCsvParser.parse(
+        "playerOneRace,playerTwoRace,matchTime\nzerg, Protoss ,2024-01-02 03:04:05\n");
+
+    MatchDto.CreateRequest request = parser.getRequests().get(0);
+    assertThat(request.getPlayerOneRace()).isEqualTo(Race.ZERG);
+    assertThat(request.getPlayerTwoRace()).isEqualTo(Race.PROTOSS);
+    assertThat(request.getMatchTime()).isEqualTo(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+  }
+
+  @Test
+  void invalidRowKeepsItsPositionAndReportsError() {
+    MatchCsvParser parser = MatchCsvParser.parse("playerOneId,playerTwoId\nx,2\n5,6");
+
+    assertThat(parser.getRequests()).hasSize(2);
+    assertThat(parser.getRequests().get(0)).isNull();
+    assertThat(parser.getRequests().get(1).getPlayerOneId()).isEqualTo(5L);
+    assertThat(parser.getErrors()).singleElement().satisfies(error -> {
+      assertThat(error.getRow()).isEqualTo(1);
+      assertThat(error.getMessage()).contains("x");
+    });
+  }
+
+  @Test
+  void rejectsUnknownColumn() {
+    assertThatThrownBy(() -> MatchCsvParser.parse("playerOneId,score\n1,2\n"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("score");
+  }
+
+  @Test
+  void emptyInputHasNoRows() {
+    assertThat(MatchCsvParser.parse("").getRequests()).isEmpty();
+  }
+}